@@ -1,16 +1,52 @@
 package com.yishuifengxiao.common.jdbc;
 
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+
 import javax.annotation.PostConstruct;
 import javax.sql.DataSource;
 
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnSingleCandidate;
 import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.yishuifengxiao.common.core.ThreadPoolProducer;
+import com.yishuifengxiao.common.jdbc.cache.EntityCache;
+import com.yishuifengxiao.common.jdbc.cache.impl.SimpleEntityCache;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.PrimaryKeyLoader;
+import com.yishuifengxiao.common.jdbc.executor.StatementRecorder;
+import com.yishuifengxiao.common.jdbc.executor.impl.SimpleCountExecutor;
+import com.yishuifengxiao.common.jdbc.executor.impl.SimpleExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.impl.MonitoringExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.impl.ShardingExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.impl.SimplePrimaryKeyLoader;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+import com.yishuifengxiao.common.jdbc.routing.ReadWriteRouter;
+import com.yishuifengxiao.common.jdbc.routing.ReplicaDataSource;
+import com.yishuifengxiao.common.jdbc.sharding.HashShardStrategy;
+import com.yishuifengxiao.common.jdbc.sharding.RangeShardStrategy;
+import com.yishuifengxiao.common.jdbc.sharding.ShardRule;
+import com.yishuifengxiao.common.jdbc.sharding.ShardStrategy;
+import com.yishuifengxiao.common.jdbc.sharding.ShardType;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -24,24 +60,154 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 @ConditionalOnClass({ DataSource.class, JdbcTemplate.class })
 @ConditionalOnSingleCandidate(DataSource.class)
-@AutoConfigureAfter({ JdbcTemplateAutoConfiguration.class})
+@AutoConfigureAfter({ JdbcTemplateAutoConfiguration.class })
+@EnableConfigurationProperties(JdbcProperties.class)
 public class JdbcCoreAutoConfiguration {
 
+	/**
+	 * 注入一个实体缓存，只有标记了 CacheableEntity 注解或者在配置中声明的POJO类才会被缓存
+	 * 
+	 * @param jdbcProperties JdbcTemplate扩展支持属性配置
+	 * @return 实体缓存
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public EntityCache entityCache(JdbcProperties jdbcProperties) {
+		return new SimpleEntityCache(jdbcProperties.getEntityCacheTtl(),
+				null == jdbcProperties.getEntityCacheSize() ? 10000L : jdbcProperties.getEntityCacheSize(),
+				jdbcProperties.getEntityCacheClasses());
+	}
+
+	/**
+	 * 注入一个读写分离路由器，从库不会注册为数据源实例，不影响主库数据源的自动配置
+	 * 
+	 * @param jdbcProperties JdbcTemplate扩展支持属性配置
+	 * @return 读写分离路由器
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "yishuifengxiao.jdbc", name = "replicas[0].url")
+	public ReadWriteRouter readWriteRouter(JdbcProperties jdbcProperties) {
+		List<DataSource> replicas = jdbcProperties.getReplicas().stream()
+				.map(JdbcCoreAutoConfiguration::createDataSource).collect(Collectors.toList());
+		JdbcTemplate replicaJdbcTemplate = new JdbcTemplate(
+				new ReplicaDataSource(replicas, jdbcProperties.getReplicaLoadBalance()));
+		return new ReadWriteRouter(replicaJdbcTemplate, jdbcProperties.getReadYourWritesWindow());
+	}
+
+	/**
+	 * <p>
+	 * 注入一个JdbcTemplate扩展支持共用的线程池
+	 * </p>
+	 * 线程池只从全局线程池生成器中获取一次，由分片语句执行器、记录数量统计执行器和主键批量加载器共用，并在容器关闭时关闭
+	 * 
+	 * @param threadPoolProducer 全局线程池生成器
+	 * @return JdbcTemplate扩展支持共用的线程池
+	 */
+	@Bean
+	public JdbcThreadPool jdbcThreadPool(ObjectProvider<ThreadPoolProducer> threadPoolProducer) {
+		ThreadPoolProducer producer = threadPoolProducer.getIfAvailable();
+		return new JdbcThreadPool(null == producer ? null : producer.executor());
+	}
+
+	/**
+	 * 注入一个分片语句执行器，分片不会注册为数据源实例，不影响主库数据源的自动配置
+	 * 
+	 * @param jdbcProperties JdbcTemplate扩展支持属性配置
+	 * @param jdbcThreadPool 共用的线程池，用于并行执行跨分片的语句
+	 * @return 分片语句执行器
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnProperty(prefix = "yishuifengxiao.jdbc", name = "shards[0].url")
+	public ShardingExecuteExecutor shardingExecuteExecutor(JdbcProperties jdbcProperties,
+			JdbcThreadPool jdbcThreadPool) {
+		List<JdbcTemplate> shards = jdbcProperties.getShards().stream()
+				.map(JdbcCoreAutoConfiguration::createDataSource).map(JdbcTemplate::new).collect(Collectors.toList());
+		FieldExtractor fieldExtractor = new SimpleFieldExtractor();
+		List<ShardRule> rules = jdbcProperties.getShardRules().entrySet().stream().map(entry -> {
+			EntityMetadata metadata = fieldExtractor
+					.extractMetadata(ClassUtils.resolveClassName(entry.getKey(), null));
+			FieldValue field = metadata.getField(entry.getValue().getProperty());
+			Assert.notNull(field, "【yishuifengxiao-common-spring-boot-starter】" + entry.getKey() + " 中不存在分片键属性 "
+					+ entry.getValue().getProperty());
+			ShardStrategy strategy = ShardType.RANGE == entry.getValue().getType()
+					? new RangeShardStrategy(entry.getValue().getBounds())
+					: new HashShardStrategy();
+			return new ShardRule(metadata.getTableName(), field.getSimpleName(), strategy);
+		}).collect(Collectors.toList());
+		return new ShardingExecuteExecutor(shards, rules, fieldExtractor, jdbcThreadPool.getExecutor());
+	}
+
 	/**
 	 * 注入一个JdbcTemplate操作工具
 	 * 
-	 * @param jdbcTemplate JdbcTemplate
+	 * @param jdbcTemplate            JdbcTemplate
+	 * @param jdbcProperties          JdbcTemplate扩展支持属性配置
+	 * @param entityCache             实体缓存
+	 * @param readWriteRouter         读写分离路由器
+	 * @param executeExecutor         语句执行器，没有时使用系统语句执行器
+	 * @param shardingExecuteExecutor 分片语句执行器，存在时包装语句执行器
+	 * @param statementRecorder       语句执行情况记录器
+	 * @param jdbcThreadPool          共用的线程池，用于并发统计分页查询的总记录数量和并发导入数据
 	 * @return JdbcTemplate操作工具
 	 */
 	@Bean
 	@ConditionalOnMissingBean
 	@ConditionalOnBean(JdbcTemplate.class)
-	public JdbcHelper jdbcHelper(JdbcTemplate jdbcTemplate) {
+	public JdbcHelper jdbcHelper(JdbcTemplate jdbcTemplate, JdbcProperties jdbcProperties,
+			ObjectProvider<EntityCache> entityCache, ObjectProvider<ReadWriteRouter> readWriteRouter,
+			ObjectProvider<ExecuteExecutor> executeExecutor,
+			ObjectProvider<ShardingExecuteExecutor> shardingExecuteExecutor,
+			ObjectProvider<StatementRecorder> statementRecorder, JdbcThreadPool jdbcThreadPool) {
 		SimpleJdbcHelper simpleJdbcHelper = new SimpleJdbcHelper();
 		simpleJdbcHelper.setJdbcTemplate(jdbcTemplate);
+		simpleJdbcHelper.setJdbcProperties(jdbcProperties);
+		simpleJdbcHelper.setEntityCache(entityCache.getIfAvailable());
+		simpleJdbcHelper.setReadWriteRouter(readWriteRouter.getIfAvailable());
+		simpleJdbcHelper.setWriteBehind(Boolean.TRUE.equals(jdbcProperties.getWriteBehind()));
+		// 分片语句执行器包装用户自定义的语句执行器，而不是与其竞争
+		ExecuteExecutor statementExecutor = executeExecutor.orderedStream()
+				.filter(v -> !(v instanceof ShardingExecuteExecutor)).findFirst().orElseGet(SimpleExecuteExecutor::new);
+		ShardingExecuteExecutor sharding = shardingExecuteExecutor.getIfAvailable();
+		if (null != sharding) {
+			statementExecutor = sharding.wrap(statementExecutor);
+		}
+		statementExecutor = statementExecutor.withOptions(jdbcProperties.getQueryOptions());
+		StatementRecorder recorder = statementRecorder.getIfAvailable();
+		if (null != recorder || null != jdbcProperties.getSlowStatementThreshold()) {
+			// 只有开启了监控时才包装语句执行器，未开启时没有任何额外的开销
+			statementExecutor = new MonitoringExecuteExecutor(statementExecutor, recorder,
+					jdbcProperties.getSlowStatementThreshold(), null == jdbcProperties.getSlowStatementSampleRate() ? 1D
+							: jdbcProperties.getSlowStatementSampleRate());
+		}
+		simpleJdbcHelper.setExecuteExecutor(statementExecutor);
+		Executor executor = jdbcThreadPool.getExecutor();
+		simpleJdbcHelper.setExecutor(executor);
+		simpleJdbcHelper.setCountExecutor(new SimpleCountExecutor(executor,
+				jdbcProperties.getCountCacheTtl(),
+				null == jdbcProperties.getCountCacheSize() ? 1000L : jdbcProperties.getCountCacheSize()));
 		return simpleJdbcHelper;
 	}
 
+	/**
+	 * 注入一个主键批量加载器
+	 * 
+	 * @param jdbcHelper     JdbcTemplate操作工具
+	 * @param jdbcProperties JdbcTemplate扩展支持属性配置
+	 * @param jdbcThreadPool 共用的线程池，用于执行合并之后的查询
+	 * @return 主键批量加载器
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	@ConditionalOnBean(JdbcHelper.class)
+	public PrimaryKeyLoader primaryKeyLoader(JdbcHelper jdbcHelper, JdbcProperties jdbcProperties,
+			JdbcThreadPool jdbcThreadPool) {
+		return new SimplePrimaryKeyLoader(jdbcHelper, jdbcThreadPool.getExecutor(),
+				jdbcProperties.getLoaderWindow(),
+				null == jdbcProperties.getBatchSize() ? 500 : jdbcProperties.getBatchSize());
+	}
+
 	/**
 	 * 注入一个 JdbcTemplate操作器工具
 	 * 
@@ -56,6 +222,54 @@ public class JdbcCoreAutoConfiguration {
 	}
 	
 
+	/**
+	 * 根据连接信息创建一个数据源
+	 * 
+	 * @param replica 连接信息
+	 * @return 数据源
+	 */
+	private static DataSource createDataSource(JdbcProperties.Replica replica) {
+		DataSourceBuilder<?> builder = DataSourceBuilder.create().url(replica.getUrl());
+		if (StringUtils.isNotBlank(replica.getUsername())) {
+			builder.username(replica.getUsername()).password(replica.getPassword());
+		}
+		if (StringUtils.isNotBlank(replica.getDriverClassName())) {
+			builder.driverClassName(replica.getDriverClassName());
+		}
+		return builder.build();
+	}
+
+	/**
+	 * JdbcTemplate扩展支持共用的线程池，容器关闭时关闭线程池，避免非守护线程阻止应用退出
+	 */
+	static final class JdbcThreadPool implements DisposableBean {
+
+		/**
+		 * 共用的线程池，没有全局线程池生成器时为null
+		 */
+		private final ExecutorService executor;
+
+		JdbcThreadPool(ExecutorService executor) {
+			this.executor = executor;
+		}
+
+		/**
+		 * 获取共用的线程池
+		 * 
+		 * @return 共用的线程池，没有全局线程池生成器时为null
+		 */
+		ExecutorService getExecutor() {
+			return executor;
+		}
+
+		@Override
+		public void destroy() {
+			if (null != executor) {
+				executor.shutdown();
+			}
+		}
+	}
+
 	/**
 	 * 配置检查
 	 */
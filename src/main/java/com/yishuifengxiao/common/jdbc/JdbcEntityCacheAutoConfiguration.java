@@ -0,0 +1,54 @@
+package com.yishuifengxiao.common.jdbc;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.yishuifengxiao.common.jdbc.cache.EntityCache;
+import com.yishuifengxiao.common.jdbc.cache.impl.RedisEntityCacheBroadcaster;
+
+/**
+ * <p>
+ * 基于Redis发布订阅的实体缓存失效通知自动配置
+ * </p>
+ * 需要在实体缓存和Redis连接工厂都注入之后才能判断是否生效，因此不能作为 JdbcCoreAutoConfiguration 的内部配置
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnClass(RedisConnectionFactory.class)
+@AutoConfigureAfter({ JdbcCoreAutoConfiguration.class, RedisAutoConfiguration.class })
+@ConditionalOnBean({ RedisConnectionFactory.class, EntityCache.class })
+@ConditionalOnProperty(prefix = "yishuifengxiao.jdbc", name = "entity-cache-topic")
+public class JdbcEntityCacheAutoConfiguration {
+
+	/**
+	 * 注入一个监听实体缓存失效通知的容器
+	 *
+	 * @param redisConnectionFactory Redis连接工厂
+	 * @param entityCache            实体缓存
+	 * @param jdbcProperties         JdbcTemplate扩展支持属性配置
+	 * @return 监听实体缓存失效通知的容器
+	 */
+	@Bean
+	public RedisMessageListenerContainer entityCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+			EntityCache entityCache, JdbcProperties jdbcProperties) {
+		RedisEntityCacheBroadcaster broadcaster = new RedisEntityCacheBroadcaster(
+				new StringRedisTemplate(redisConnectionFactory), jdbcProperties.getEntityCacheTopic(), entityCache);
+		entityCache.setBroadcaster(broadcaster);
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(redisConnectionFactory);
+		container.addMessageListener(broadcaster, new ChannelTopic(jdbcProperties.getEntityCacheTopic()));
+		return container;
+	}
+}
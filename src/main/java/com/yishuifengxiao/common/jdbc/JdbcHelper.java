@@ -3,11 +3,26 @@
  */
 package com.yishuifengxiao.common.jdbc;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.CountMode;
 import com.yishuifengxiao.common.jdbc.entity.Example;
 import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
+import com.yishuifengxiao.common.jdbc.entity.Slice;
+import com.yishuifengxiao.common.jdbc.io.ExportFormat;
+import com.yishuifengxiao.common.jdbc.io.ImportResult;
+import com.yishuifengxiao.common.jdbc.scan.ScanCheckpoint;
+import com.yishuifengxiao.common.jdbc.scan.ScanRange;
 import com.yishuifengxiao.common.tool.entity.Page;
 
 /**
@@ -33,6 +48,19 @@ public interface JdbcHelper {
 	 */
 	<T> T findByPrimaryKey(Class<T> clazz, Object primaryKey);
 
+	/**
+	 * <p>
+	 * 根据一组主键从指定表查询数据
+	 * </p>
+	 * 所有的主键会合并为 in 查询，重复的主键只会查询一次，主键数量较多时按照批量操作的大小拆分为多条语句
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 * @return 查询到的数据，不保证与主键的顺序一致
+	 */
+	<T> List<T> findByPrimaryKeys(Class<T> clazz, Collection<?> primaryKeys);
+
 	/**
 	 * 查询符合条件的记录的数量
 	 * 
@@ -511,4 +539,614 @@ public interface JdbcHelper {
 	 * @return 受影响的记录的数量
 	 */
 	<T> int insertSelective(T t);
+
+	/**
+	 * 分页查询所有符合条件的数据
+	 * 
+	 * @param <T>       POJO类
+	 * @param t         查询条件
+	 * @param pageSize  分页大小
+	 * @param pageNum   当前页页码
+	 * @param order     排序条件
+	 * @param countMode 总记录数量的统计方式
+	 * @return 符合条件的数据
+	 */
+	<T> Page<T> findPage(T t, int pageSize, int pageNum, Order order, CountMode countMode);
+
+	/**
+	 * 分页查询所有符合条件的数据
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param pageSize   分页大小
+	 * @param pageNum    当前页页码
+	 * @param order      排序条件
+	 * @param countMode  总记录数量的统计方式
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	<T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, CountMode countMode,
+			Condition... conditions);
+
+	/**
+	 * 分页查询所有符合条件的数据
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param pageSize   分页大小
+	 * @param pageNum    当前页页码
+	 * @param order      排序条件
+	 * @param countMode  总记录数量的统计方式
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	<T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, CountMode countMode,
+			List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 游标分页查询所有符合条件的数据
+	 * </p>
+	 * 通过上一页返回的游标定位下一页的起始位置，无论翻到多深的位置查询耗时都基本保持不变。<br/>
+	 * 排序属性的值可以为null(升序时排在最前面，降序时排在最后面)，排序属性必须存在，未指定排序条件时按照主键升序排列
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param afterKey   上一页返回的游标 {@link Slice#getNextKey()}，查询第一页时为null
+	 * @param size       每一页的记录数量
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	<T> Slice<T> findSlice(Class<T> clazz, Order order, Object afterKey, int size, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 游标分页查询所有符合条件的数据
+	 * </p>
+	 * 通过上一页返回的游标定位下一页的起始位置，无论翻到多深的位置查询耗时都基本保持不变。<br/>
+	 * 排序属性的值可以为null(升序时排在最前面，降序时排在最后面)，排序属性必须存在，未指定排序条件时按照主键升序排列
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param afterKey   上一页返回的游标 {@link Slice#getNextKey()}，查询第一页时为null
+	 * @param size       每一页的记录数量
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	<T> Slice<T> findSlice(Class<T> clazz, Order order, Object afterKey, int size, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 以流的方式查询所有符合条件的数据
+	 * </p>
+	 * 数据在流被消费时才会逐批从数据库中读取，使用完成后必须关闭该流，建议使用 try-with-resources 语句
+	 * 
+	 * @param <T>   POJO类
+	 * @param t     查询条件
+	 * @param order 排序条件
+	 * @return 符合条件的数据组成的流
+	 */
+	<T> Stream<T> stream(T t, Order order);
+
+	/**
+	 * <p>
+	 * 以流的方式查询所有符合条件的数据
+	 * </p>
+	 * 数据在流被消费时才会逐批从数据库中读取，使用完成后必须关闭该流，建议使用 try-with-resources 语句
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据组成的流
+	 */
+	<T> Stream<T> stream(Class<T> clazz, Order order, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 以流的方式查询所有符合条件的数据
+	 * </p>
+	 * 数据在流被消费时才会逐批从数据库中读取，使用完成后必须关闭该流，建议使用 try-with-resources 语句
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据组成的流
+	 */
+	<T> Stream<T> stream(Class<T> clazz, Order order, List<Condition> conditions);
+
+	/**
+	 * 以流的方式逐条处理所有符合条件的数据，处理完成后自动释放数据库资源
+	 * 
+	 * @param <T>    POJO类
+	 * @param t      查询条件
+	 * @param order  排序条件
+	 * @param action 数据处理函数
+	 */
+	<T> void forEach(T t, Order order, Consumer<? super T> action);
+
+	/**
+	 * 以流的方式逐条处理所有符合条件的数据，处理完成后自动释放数据库资源
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param action     数据处理函数
+	 * @param conditions 筛选条件
+	 */
+	<T> void forEach(Class<T> clazz, Order order, Consumer<? super T> action, Condition... conditions);
+
+	/**
+	 * 以流的方式逐条处理所有符合条件的数据，处理完成后自动释放数据库资源
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param action     数据处理函数
+	 * @param conditions 筛选条件
+	 */
+	<T> void forEach(Class<T> clazz, Order order, Consumer<? super T> action, List<Condition> conditions);
+
+	/**
+	 * 以全属性方式批量新增数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待新增的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	<T> int[] insertBatch(List<T> list);
+
+	/**
+	 * 以可选属性方式批量新增数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待新增的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	<T> int[] insertBatchSelective(List<T> list);
+
+	/**
+	 * 根据主键全属性批量更新数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待更新的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	<T> int[] updateBatchByPrimaryKey(List<T> list);
+
+	/**
+	 * 根据主键可选属性批量更新数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待更新的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	<T> int[] updateBatchByPrimaryKeySelective(List<T> list);
+
+	/**
+	 * 根据主键批量删除数据
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       操作的对象
+	 * @param primaryKeys 主键值
+	 * @return 每一个主键受影响的记录的数量，顺序与主键的顺序一致
+	 */
+	<T> int[] deleteByPrimaryKeys(Class<T> clazz, Collection<?> primaryKeys);
+
+	/**
+	 * <p>
+	 * 以流的方式将所有符合条件的数据按照指定的格式导出到输出流中
+	 * </p>
+	 * 数据通过只进游标逐条读取并写出，内存占用与数据总量无关，该方法不会关闭输出流
+	 * 
+	 * @param <T>          POJO类
+	 * @param clazz        POJO类
+	 * @param outputStream 输出流
+	 * @param format       导出的格式
+	 * @param conditions   筛选条件
+	 * @return 导出的记录的数量
+	 */
+	<T> long export(Class<T> clazz, OutputStream outputStream, ExportFormat format, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 以流的方式将所有符合条件的数据按照指定的格式导出到输出流中
+	 * </p>
+	 * 数据通过只进游标逐条读取并写出，内存占用与数据总量无关，该方法不会关闭输出流
+	 * 
+	 * @param <T>          POJO类
+	 * @param clazz        POJO类
+	 * @param outputStream 输出流
+	 * @param format       导出的格式
+	 * @param conditions   筛选条件
+	 * @return 导出的记录的数量
+	 */
+	<T> long export(Class<T> clazz, OutputStream outputStream, ExportFormat format, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 以流的方式将输入流中的数据按照指定的格式批量导入
+	 * </p>
+	 * 数据逐行解析并按照批量操作的大小分批插入，内存占用与数据总量无关；配置了并发导入数量时多个批次会通过不同的连接同时写入。<br/>
+	 * 不支持导入分片表。该方法不会关闭输入流
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param inputStream 输入流
+	 * @param format      数据的格式
+	 * @return 导入结果
+	 */
+	<T> ImportResult importFrom(Class<T> clazz, InputStream inputStream, ExportFormat format);
+
+	/**
+	 * 根据条件计算指定属性的求和，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	<T> BigDecimal sum(Class<T> clazz, String property, Condition... conditions);
+
+	/**
+	 * 根据条件计算指定属性的求和，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	<T> BigDecimal sum(Class<T> clazz, String property, List<Condition> conditions);
+
+	/**
+	 * 根据条件计算指定属性的平均值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	<T> BigDecimal avg(Class<T> clazz, String property, Condition... conditions);
+
+	/**
+	 * 根据条件计算指定属性的平均值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	<T> BigDecimal avg(Class<T> clazz, String property, List<Condition> conditions);
+
+	/**
+	 * 根据条件查询指定属性的最小值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	<T, R> R min(Class<T> clazz, String property, Condition... conditions);
+
+	/**
+	 * 根据条件查询指定属性的最小值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	<T, R> R min(Class<T> clazz, String property, List<Condition> conditions);
+
+	/**
+	 * 根据条件查询指定属性的最大值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	<T, R> R max(Class<T> clazz, String property, Condition... conditions);
+
+	/**
+	 * 根据条件查询指定属性的最大值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	<T, R> R max(Class<T> clazz, String property, List<Condition> conditions);
+
+	/**
+	 * 根据条件按照指定属性分组统计记录数量，由数据库完成统计
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param groupBy    分组属性的名字
+	 * @param conditions 筛选条件
+	 * @return 每一个分组属性值对应的记录数量，分组属性值的类型与属性的类型一致
+	 */
+	<T> Map<Object, Long> groupCount(Class<T> clazz, String groupBy, Condition... conditions);
+
+	/**
+	 * 根据条件按照指定属性分组统计记录数量，由数据库完成统计
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param groupBy    分组属性的名字
+	 * @param conditions 筛选条件
+	 * @return 每一个分组属性值对应的记录数量，分组属性值的类型与属性的类型一致
+	 */
+	<T> Map<Object, Long> groupCount(Class<T> clazz, String groupBy, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T> POJO类
+	 * @param t   查询条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	<T> boolean exists(T t);
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param conditions 筛选条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	<T> boolean exists(Class<T> clazz, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T>     POJO类
+	 * @param clazz   POJO类
+	 * @param example 筛选条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	<T> boolean exists(Class<T> clazz, Example example);
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param conditions 筛选条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	<T> boolean exists(Class<T> clazz, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据并转换为指定的类型
+	 * </p>
+	 * 只查询结果类型与POJO类中名字相同的属性对应的列，适用于只需要宽表中少数几列的场景
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        结果的类型
+	 * @param clazz      POJO类
+	 * @param type       结果的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T, R> List<R> findAs(Class<T> clazz, Class<R> type, Order order, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据并转换为指定的类型
+	 * </p>
+	 * 只查询结果类型与POJO类中名字相同的属性对应的列，适用于只需要宽表中少数几列的场景
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        结果的类型
+	 * @param clazz      POJO类
+	 * @param type       结果的类型
+	 * @param order      排序条件
+	 * @param example    筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T, R> List<R> findAs(Class<T> clazz, Class<R> type, Order order, Example example);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据并转换为指定的类型
+	 * </p>
+	 * 只查询结果类型与POJO类中名字相同的属性对应的列，适用于只需要宽表中少数几列的场景
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        结果的类型
+	 * @param clazz      POJO类
+	 * @param type       结果的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T, R> List<R> findAs(Class<T> clazz, Class<R> type, Order order, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的部分属性
+	 * </p>
+	 * 每一条记录转换为一个以属性名字为键的Map
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param properties 需要查询的属性的名字
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T> List<Map<String, Object>> findMaps(Class<T> clazz, List<String> properties, Order order, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的部分属性
+	 * </p>
+	 * 每一条记录转换为一个以属性名字为键的Map
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param properties 需要查询的属性的名字
+	 * @param order      排序条件
+	 * @param example    筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T> List<Map<String, Object>> findMaps(Class<T> clazz, List<String> properties, Order order, Example example);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的部分属性
+	 * </p>
+	 * 每一条记录转换为一个以属性名字为键的Map
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param properties 需要查询的属性的名字
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T> List<Map<String, Object>> findMaps(Class<T> clazz, List<String> properties, Order order, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的某一个属性的值
+	 * </p>
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性值的类型
+	 * @param clazz      POJO类
+	 * @param property   需要查询的属性的名字
+	 * @param type       属性值的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T, R> List<R> findColumn(Class<T> clazz, String property, Class<R> type, Order order, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的某一个属性的值
+	 * </p>
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性值的类型
+	 * @param clazz      POJO类
+	 * @param property   需要查询的属性的名字
+	 * @param type       属性值的类型
+	 * @param order      排序条件
+	 * @param example    筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T, R> List<R> findColumn(Class<T> clazz, String property, Class<R> type, Order order, Example example);
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的某一个属性的值
+	 * </p>
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性值的类型
+	 * @param clazz      POJO类
+	 * @param property   需要查询的属性的名字
+	 * @param type       属性值的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	<T, R> List<R> findColumn(Class<T> clazz, String property, Class<R> type, Order order, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 分区并行扫描所有符合条件的数据
+	 * </p>
+	 * 根据主键的最小值和最大值将数据拆分为若干个主键区间，每个区间在独立的线程和数据库连接中通过游标分页逐批读取，
+	 * 每一批数据读取之后交给处理函数，处理函数返回之后才会读取下一批数据。<br/>
+	 * 同时扫描的区间的数量不超过 yishuifengxiao.jdbc.scan-parallelism ，该值应当小于连接池的最大连接数量。<br/>
+	 * 【注意】主键必须为整数类型；各个区间在不同的线程中执行，不会参与当前线程的事务
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param partitions 主键区间的数量
+	 * @param chunkSize  每一批数据的数量
+	 * @param checkpoint 检查点，用于跳过已经处理完成的区间，为null时不记录处理进度；检查点中保存了主键范围时直接使用该范围拆分区间，
+	 *                   重新执行时区间的数量必须与第一次扫描时相同
+	 * @param consumer   数据处理函数，可能被多个线程同时调用
+	 * @param conditions 筛选条件
+	 * @return 处理的记录的总数量
+	 */
+	<T> long scan(Class<T> clazz, int partitions, int chunkSize, ScanCheckpoint checkpoint,
+			BiConsumer<ScanRange, List<T>> consumer, Condition... conditions);
+
+	/**
+	 * <p>
+	 * 分区并行扫描所有符合条件的数据
+	 * </p>
+	 * 根据主键的最小值和最大值将数据拆分为若干个主键区间，每个区间在独立的线程和数据库连接中通过游标分页逐批读取，
+	 * 每一批数据读取之后交给处理函数，处理函数返回之后才会读取下一批数据。<br/>
+	 * 同时扫描的区间的数量不超过 yishuifengxiao.jdbc.scan-parallelism ，该值应当小于连接池的最大连接数量。<br/>
+	 * 【注意】主键必须为整数类型；各个区间在不同的线程中执行，不会参与当前线程的事务
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param partitions 主键区间的数量
+	 * @param chunkSize  每一批数据的数量
+	 * @param checkpoint 检查点，用于跳过已经处理完成的区间，为null时不记录处理进度；检查点中保存了主键范围时直接使用该范围拆分区间，
+	 *                   重新执行时区间的数量必须与第一次扫描时相同
+	 * @param consumer   数据处理函数，可能被多个线程同时调用
+	 * @param conditions 筛选条件
+	 * @return 处理的记录的总数量
+	 */
+	<T> long scan(Class<T> clazz, int partitions, int chunkSize, ScanCheckpoint checkpoint,
+			BiConsumer<ScanRange, List<T>> consumer, List<Condition> conditions);
+
+	/**
+	 * <p>
+	 * 获取一个使用指定执行选项的JdbcTemplate操作器
+	 * </p>
+	 * 返回的操作器与当前操作器共享数据源、缓存和事务，只是执行语句时使用指定的最长执行时间、每次获取的记录数量和最多返回的记录数量，
+	 * 未指定的选项使用 yishuifengxiao.jdbc.query-options 中的配置。<br/>
+	 * 语句执行超时被取消时抛出 StatementTimeoutException
+	 * 
+	 * <pre>
+	 * jdbcHelper.withOptions(new QueryOptions().setQueryTimeout(Duration.ofSeconds(5)).setMaxRows(1000))
+	 * 		.findAll(clazz, conditions);
+	 * </pre>
+	 * 
+	 * @param options 执行选项
+	 * @return 使用指定执行选项的JdbcTemplate操作器
+	 */
+	JdbcHelper withOptions(QueryOptions options);
+
 }
@@ -0,0 +1,47 @@
+package com.yishuifengxiao.common.jdbc;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.yishuifengxiao.common.jdbc.executor.StatementRecorder;
+import com.yishuifengxiao.common.jdbc.executor.impl.MicrometerStatementRecorder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * <p>
+ * 基于Micrometer的语句执行指标自动配置
+ * </p>
+ * 指标注册中心由actuator的自动配置注入，因此需要在其之后判断是否生效
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Configuration
+@ConditionalOnClass(MeterRegistry.class)
+@AutoConfigureAfter(name = { "org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration",
+		"org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration" })
+@AutoConfigureBefore(JdbcCoreAutoConfiguration.class)
+@ConditionalOnBean(MeterRegistry.class)
+@ConditionalOnProperty(prefix = "yishuifengxiao.jdbc", name = "metrics-enabled", havingValue = "true")
+public class JdbcMetricsAutoConfiguration {
+
+	/**
+	 * 注入一个基于Micrometer的语句执行情况记录器
+	 *
+	 * @param meterRegistry 指标注册中心
+	 * @return 语句执行情况记录器
+	 */
+	@Bean
+	@ConditionalOnMissingBean
+	public StatementRecorder statementRecorder(MeterRegistry meterRegistry) {
+		return new MicrometerStatementRecorder(meterRegistry);
+	}
+}
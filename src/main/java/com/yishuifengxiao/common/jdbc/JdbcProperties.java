@@ -0,0 +1,208 @@
+package com.yishuifengxiao.common.jdbc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import com.yishuifengxiao.common.jdbc.entity.CountMode;
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
+import com.yishuifengxiao.common.jdbc.routing.LoadBalance;
+import com.yishuifengxiao.common.jdbc.sharding.ShardType;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * JdbcTemplate扩展支持属性配置
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@ConfigurationProperties(prefix = "yishuifengxiao.jdbc")
+public class JdbcProperties {
+
+	/**
+	 * 批量操作时每一批提交的最大记录数量，默认为500
+	 */
+	private Integer batchSize = 500;
+
+	/**
+	 * 流式查询时每次从数据库中获取的记录数量，默认为1000。<br/>
+	 * 对于MySQL数据库，可以设置为 Integer.MIN_VALUE 开启逐行流式读取模式，或者在连接参数中开启 useCursorFetch
+	 */
+	private Integer fetchSize = 1000;
+
+	/**
+	 * 分页查询时默认的总记录数量的统计方式，默认为先查询数据再精确统计
+	 */
+	private CountMode countMode = CountMode.EXACT;
+
+	/**
+	 * 所有语句默认的执行选项，包括最长执行时间(query-timeout)、每次获取的记录数量(fetch-size)和最多返回的记录数量(max-rows)，
+	 * 默认均未设置，可以通过 JdbcHelper 的 withOptions 方法为单次调用覆盖
+	 */
+	private QueryOptions queryOptions = new QueryOptions();
+
+	/**
+	 * 总记录数量缓存的过期时间，默认为30秒
+	 */
+	private Duration countCacheTtl = Duration.ofSeconds(30L);
+
+	/**
+	 * 最多缓存的总记录数量的条数，默认为1000
+	 */
+	private Long countCacheSize = 1000L;
+
+	/**
+	 * 主键批量加载器收集请求的时间窗口，默认为2毫秒
+	 */
+	private Duration loaderWindow = Duration.ofMillis(2L);
+
+	/**
+	 * 导入数据时最多同时写入的批次数量，默认为1，即在当前线程中逐批写入
+	 */
+	private Integer importParallelism = 1;
+
+	/**
+	 * 分区扫描时最多同时扫描的主键区间的数量，默认为4，每一个区间占用一个数据库连接，应当小于连接池的最大连接数量
+	 */
+	private Integer scanParallelism = 4;
+
+	/**
+	 * 实体缓存默认的过期时间，默认为10分钟
+	 */
+	private Duration entityCacheTtl = Duration.ofMinutes(10L);
+
+	/**
+	 * 每一个POJO类默认最多缓存的记录数量，默认为10000
+	 */
+	private Long entityCacheSize = 10000L;
+
+	/**
+	 * 除了标记了 CacheableEntity 注解的POJO类之外，还需要开启实体缓存的POJO类的全限定名
+	 */
+	private Set<String> entityCacheClasses = new HashSet<>();
+
+	/**
+	 * 实体缓存失效通知的Redis通道名字，配置之后通过Redis发布订阅在集群中同步缓存失效事件
+	 */
+	private String entityCacheTopic;
+
+	/**
+	 * 是否在事务内延迟写入通过主键进行的插入和更新，开启后同一事务内对同一主键的多次更新会合并为一次，插入会被批量执行，这些操作的返回值固定为1，分片表的写入不会被延迟，默认为false
+	 */
+	private Boolean writeBehind = false;
+
+	/**
+	 * 是否输出语句执行耗时和记录数量的Micrometer指标，默认为false
+	 */
+	private Boolean metricsEnabled = false;
+
+	/**
+	 * 慢语句阈值，执行耗时超过该值的语句会输出WARN日志，默认为null，即不输出慢语句日志
+	 */
+	private Duration slowStatementThreshold;
+
+	/**
+	 * 慢语句日志的采样比例，取值范围为 [0, 1]，默认为1，即输出所有的慢语句
+	 */
+	private Double slowStatementSampleRate = 1D;
+
+	/**
+	 * 从库的连接信息，配置之后查询语句会路由到从库，写入语句、事务内的所有语句以及实体缓存未命中时的加载语句仍然在主库中执行
+	 */
+	private List<Replica> replicas = new ArrayList<>();
+
+	/**
+	 * 从库的负载均衡策略，默认为轮询
+	 */
+	private LoadBalance replicaLoadBalance = LoadBalance.ROUND_ROBIN;
+
+	/**
+	 * 读己之写窗口，当前线程执行写入之后的这段时间内查询语句也会在主库中执行，默认为0，即不启用
+	 */
+	private Duration readYourWritesWindow = Duration.ZERO;
+
+	/**
+	 * 分片的连接信息，格式与从库的连接信息相同，分片的顺序决定了分片的序号
+	 */
+	private List<Replica> shards = new ArrayList<>();
+
+	/**
+	 * POJO类的全限定名与分片规则的对应关系，只有配置了分片规则的POJO类对应的表才会分片
+	 */
+	private Map<String, Sharding> shardRules = new HashMap<>();
+
+	/**
+	 * 从库的连接信息
+	 * 
+	 * @author yishui
+	 * @version 1.0.0
+	 * @since 1.0.0
+	 */
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class Replica {
+
+		/**
+		 * 数据库连接地址
+		 */
+		private String url;
+
+		/**
+		 * 数据库用户名
+		 */
+		private String username;
+
+		/**
+		 * 数据库密码
+		 */
+		private String password;
+
+		/**
+		 * 数据库驱动类名，为空时根据连接地址推断
+		 */
+		private String driverClassName;
+	}
+
+	/**
+	 * 分片规则
+	 * 
+	 * @author yishui
+	 * @version 1.0.0
+	 * @since 1.0.0
+	 */
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class Sharding {
+
+		/**
+		 * 分片键对应的属性的名字
+		 */
+		private String property;
+
+		/**
+		 * 分片策略的类型，默认为哈希取模
+		 */
+		private ShardType type = ShardType.HASH;
+
+		/**
+		 * 范围分片时升序排列的边界值，数量应当比分片的数量少1
+		 */
+		private List<Long> bounds = new ArrayList<>();
+	}
+
+}
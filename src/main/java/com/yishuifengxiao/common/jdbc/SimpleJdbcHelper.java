@@ -1,17 +1,65 @@
 package com.yishuifengxiao.common.jdbc;
 
+import java.beans.PropertyDescriptor;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.Executor;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import javax.sql.DataSource;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
+import com.yishuifengxiao.common.jdbc.cache.EntityCache;
+import com.yishuifengxiao.common.jdbc.entity.Aggregation;
 import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.CountMode;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.Example;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
+import com.yishuifengxiao.common.jdbc.entity.Slice;
+import com.yishuifengxiao.common.jdbc.executor.CountExecutor;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.impl.SimpleCountExecutor;
 import com.yishuifengxiao.common.jdbc.executor.impl.SimpleExecuteExecutor;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
 import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+import com.yishuifengxiao.common.jdbc.io.EntityExporter;
+import com.yishuifengxiao.common.jdbc.io.EntityImporter;
+import com.yishuifengxiao.common.jdbc.io.ExportFormat;
+import com.yishuifengxiao.common.jdbc.io.ImportResult;
+import com.yishuifengxiao.common.jdbc.mapper.EntityRowMapper;
+import com.yishuifengxiao.common.jdbc.routing.ReadWriteRouter;
+import com.yishuifengxiao.common.jdbc.scan.PartitionScanner;
+import com.yishuifengxiao.common.jdbc.scan.ScanCheckpoint;
+import com.yishuifengxiao.common.jdbc.scan.ScanRange;
 import com.yishuifengxiao.common.jdbc.translator.DeleteTranslator;
 import com.yishuifengxiao.common.jdbc.translator.InsertTranslator;
 import com.yishuifengxiao.common.jdbc.translator.QueryTranslator;
@@ -20,6 +68,7 @@ import com.yishuifengxiao.common.jdbc.translator.impl.SimpleDeleteTranslator;
 import com.yishuifengxiao.common.jdbc.translator.impl.SimpleInsertTranslator;
 import com.yishuifengxiao.common.jdbc.translator.impl.SimpleQueryTranslator;
 import com.yishuifengxiao.common.jdbc.translator.impl.SimpleUpdateTranslator;
+import com.yishuifengxiao.common.jdbc.writebehind.WriteBehindBuffer;
 import com.yishuifengxiao.common.tool.collections.DataUtil;
 import com.yishuifengxiao.common.tool.entity.Page;
 
@@ -42,10 +91,41 @@ public class SimpleJdbcHelper implements JdbcHelper {
 
 	private final FieldExtractor fieldExtractor = new SimpleFieldExtractor();
 
-	private final ExecuteExecutor executeExecutor = new SimpleExecuteExecutor();
+	private ExecuteExecutor executeExecutor = new SimpleExecuteExecutor();
+
+	private static final RowMapper<Map<String, Object>> COLUMN_MAP_ROW_MAPPER = new ColumnMapRowMapper();
 
 	private JdbcTemplate jdbcTemplate;
 
+	private JdbcProperties jdbcProperties = new JdbcProperties();
+
+	private CountExecutor countExecutor = new SimpleCountExecutor();
+
+	/**
+	 * 实体缓存，为null时不使用缓存
+	 */
+	private EntityCache entityCache;
+
+	/**
+	 * 并发导入数据时使用的线程池，为null时在当前线程中导入
+	 */
+	private Executor executor;
+
+	/**
+	 * 读写分离路由器，为null时所有的语句都在主库中执行
+	 */
+	private ReadWriteRouter readWriteRouter;
+
+	/**
+	 * 是否在事务内延迟写入通过主键进行的插入和更新，默认为false
+	 */
+	private boolean writeBehind;
+
+	/**
+	 * 创建当前操作器的原始操作器，通过 withOptions 创建的操作器与原始操作器共享事务内的延迟写入缓冲区
+	 */
+	private SimpleJdbcHelper origin = this;
+
 	/**
 	 * 根据主键从指定表查询一条数据
 	 * 
@@ -56,7 +136,39 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> T findByPrimaryKey(Class<T> clazz, Object primaryKey) {
-		return queryTranslator.findByPrimaryKey(jdbcTemplate, fieldExtractor, executeExecutor, clazz, primaryKey);
+		WriteBehindBuffer buffer = this.writeBehindBuffer(false);
+		if (null != buffer && buffer.contains(clazz, primaryKey)) {
+			return buffer.read(clazz, primaryKey,
+					k -> queryTranslator.findByPrimaryKey(jdbcTemplate, fieldExtractor, executeExecutor, clazz, k));
+		}
+		if (null == entityCache) {
+			return queryTranslator.findByPrimaryKey(this.reader(), fieldExtractor, executeExecutor, clazz, primaryKey);
+		}
+		// 缓存未命中时从主库加载，避免将从库中延迟的旧数据写入缓存
+		return entityCache.get(clazz, primaryKey,
+				k -> queryTranslator.findByPrimaryKey(this.writer(), fieldExtractor, executeExecutor, clazz, k));
+	}
+
+	/**
+	 * <p>
+	 * 根据一组主键从指定表查询数据
+	 * </p>
+	 * 所有的主键会合并为 in 查询，重复的主键只会查询一次，主键数量较多时按照批量操作的大小拆分为多条语句
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 * @return 查询到的数据，不保证与主键的顺序一致
+	 */
+	@Override
+	public <T> List<T> findByPrimaryKeys(Class<T> clazz, Collection<?> primaryKeys) {
+		if (null == entityCache) {
+			return queryTranslator.findByPrimaryKeys(this.reader(), fieldExtractor, executeExecutor, clazz, primaryKeys,
+					this.batchSize());
+		}
+		// 缓存未命中时从主库加载，避免将从库中延迟的旧数据写入缓存
+		return entityCache.getAll(clazz, primaryKeys, k -> queryTranslator.findByPrimaryKeys(this.writer(),
+				fieldExtractor, executeExecutor, clazz, k, this.batchSize()));
 	}
 
 	/**
@@ -68,7 +180,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Long countAll(T t) {
-		return queryTranslator.countAll(jdbcTemplate, fieldExtractor, executeExecutor, t);
+		return queryTranslator.countAll(this.reader(), fieldExtractor, executeExecutor, t);
 	}
 
 	/**
@@ -81,7 +193,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Long countAll(Class<T> clazz, Condition... conditions) {
-		return queryTranslator.countAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz, this.collect(conditions));
+		return queryTranslator.countAll(this.reader(), fieldExtractor, executeExecutor, clazz, this.collect(conditions));
 	}
 
 	/**
@@ -94,7 +206,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Long countAll(Class<T> clazz, Example example) {
-		return queryTranslator.countAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz,
+		return queryTranslator.countAll(this.reader(), fieldExtractor, executeExecutor, clazz,
 				null == example ? new ArrayList<>() : example.toCondition());
 	}
 
@@ -125,7 +237,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> T findOne(T t) {
-		return DataUtil.first(this.findAll(t));
+		return DataUtil.first(this.findTop(t, null, 1));
 	}
 
 	/**
@@ -138,7 +250,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> T findOne(Class<T> clazz, Condition... conditions) {
-		return DataUtil.first(this.findAll(clazz, conditions));
+		return DataUtil.first(this.findTop(clazz, null, 1, conditions));
 	}
 
 	/**
@@ -151,7 +263,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> T findOne(Class<T> clazz, Example example) {
-		return DataUtil.first(this.findAll(clazz, example));
+		return DataUtil.first(this.findTop(clazz, null, 1, example));
 	}
 
 	/**
@@ -164,7 +276,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> T findOne(Class<T> clazz, List<Condition> conditions) {
-		return DataUtil.first(this.findAll(clazz, conditions));
+		return DataUtil.first(
+				queryTranslator.findTop(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, null, 1));
 	}
 
 	/**
@@ -176,7 +289,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(T t) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, t, null);
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, t, null);
 	}
 
 	/**
@@ -189,7 +302,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(Class<T> clazz, Condition... conditions) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz, this.collect(conditions),
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, clazz, this.collect(conditions),
 				null);
 	}
 
@@ -203,7 +316,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(Class<T> clazz, Example example) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz,
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, clazz,
 				null == example ? new ArrayList<>() : example.toCondition(), null);
 	}
 
@@ -217,7 +330,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(Class<T> clazz, List<Condition> conditions) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz, conditions, null);
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, null);
 	}
 
 	/**
@@ -230,7 +343,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(T t, Order order) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, t, order);
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, t, order);
 	}
 
 	/**
@@ -245,7 +358,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(Class<T> clazz, Order order, Condition... conditions) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz, this.collect(conditions),
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, clazz, this.collect(conditions),
 				order);
 	}
 
@@ -261,7 +374,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(Class<T> clazz, Order order, Example example) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz,
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, clazz,
 				null == example ? new ArrayList<>() : example.toCondition(), order);
 	}
 
@@ -277,7 +390,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(Class<T> clazz, Order order, List<Condition> conditions) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, clazz, conditions, order);
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, order);
 	}
 
 	/**
@@ -290,7 +403,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(T t, String orderName) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, t, Order.of(orderName));
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, t, Order.of(orderName));
 	}
 
 	/**
@@ -304,7 +417,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findAll(T t, String orderName, Order.Direction direction) {
-		return queryTranslator.findAll(jdbcTemplate, fieldExtractor, executeExecutor, t,
+		return queryTranslator.findAll(this.reader(), fieldExtractor, executeExecutor, t,
 				Order.of(orderName, direction));
 	}
 
@@ -319,7 +432,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findTop(T t, Order order, int topNum) {
-		return queryTranslator.findTop(jdbcTemplate, fieldExtractor, executeExecutor, t, order, topNum);
+		return queryTranslator.findTop(this.reader(), fieldExtractor, executeExecutor, t, order, topNum);
 	}
 
 	/**
@@ -335,8 +448,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findTop(Class<T> clazz, Order order, int topNum, Example example) {
-		return queryTranslator.findTop(jdbcTemplate, fieldExtractor, executeExecutor, clazz, example.toCondition(),
-				order, topNum);
+		return queryTranslator.findTop(this.reader(), fieldExtractor, executeExecutor, clazz,
+				null == example ? new ArrayList<>() : example.toCondition(), order, topNum);
 	}
 
 	/**
@@ -352,7 +465,7 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> List<T> findTop(Class<T> clazz, Order order, int topNum, Condition... conditions) {
-		return queryTranslator.findTop(jdbcTemplate, fieldExtractor, executeExecutor, clazz, this.collect(conditions),
+		return queryTranslator.findTop(this.reader(), fieldExtractor, executeExecutor, clazz, this.collect(conditions),
 				order, topNum);
 	}
 
@@ -367,7 +480,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(T t, int pageSize, int pageNum) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, t, null, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, t, null, pageSize, pageNum,
+				this.countMode(), countExecutor);
 	}
 
 	/**
@@ -382,8 +496,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Condition... conditions) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz, this.collect(conditions),
-				null, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz, this.collect(conditions),
+				null, pageSize, pageNum, this.countMode(), countExecutor);
 	}
 
 	/**
@@ -398,8 +512,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Example example) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz,
-				null == example ? new ArrayList<>() : example.toCondition(), null, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz,
+				null == example ? new ArrayList<>() : example.toCondition(), null, pageSize, pageNum,
+				this.countMode(), countExecutor);
 	}
 
 	/**
@@ -414,8 +529,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, List<Condition> conditions) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz, conditions, null,
-				pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, null,
+				pageSize, pageNum, this.countMode(), countExecutor);
 	}
 
 	/**
@@ -431,8 +546,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, Condition... conditions) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz, this.collect(conditions),
-				order, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz, this.collect(conditions),
+				order, pageSize, pageNum, this.countMode(), countExecutor);
 	}
 
 	/**
@@ -448,8 +563,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, Example example) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz,
-				null == example ? new ArrayList<>() : example.toCondition(), order, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz,
+				null == example ? new ArrayList<>() : example.toCondition(), order, pageSize, pageNum,
+				this.countMode(), countExecutor);
 	}
 
 	/**
@@ -465,8 +581,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, List<Condition> conditions) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz, conditions, order,
-				pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, order,
+				pageSize, pageNum, this.countMode(), countExecutor);
 	}
 
 	/**
@@ -481,7 +597,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(T t, int pageSize, int pageNum, Order order) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, t, order, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, t, order, pageSize, pageNum,
+				this.countMode(), countExecutor);
 	}
 
 	/**
@@ -496,7 +613,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(T t, int pageSize, int pageNum, String orderName) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, t, null, pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, t, null, pageSize, pageNum,
+				this.countMode(), countExecutor);
 	}
 
 	/**
@@ -512,8 +630,8 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> Page<T> findPage(T t, int pageSize, int pageNum, String orderName, Order.Direction direction) {
-		return queryTranslator.findPage(jdbcTemplate, fieldExtractor, executeExecutor, t,
-				Order.of(orderName, direction), pageSize, pageNum);
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, t,
+				Order.of(orderName, direction), pageSize, pageNum, this.countMode(), countExecutor);
 	}
 
 	/**
@@ -525,7 +643,14 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int updateByPrimaryKey(T t) {
-		return updateTranslator.updateByPrimaryKey(jdbcTemplate, fieldExtractor, executeExecutor, false, t);
+		WriteBehindBuffer buffer = this.writeBehindBuffer(t.getClass());
+		if (null != buffer) {
+			buffer.update(t, false);
+			return 1;
+		}
+		int count = updateTranslator.updateByPrimaryKey(this.writer(), fieldExtractor, executeExecutor, false, t);
+		this.evict(t);
+		return count;
 	}
 
 	/**
@@ -537,7 +662,14 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int updateByPrimaryKeySelective(T t) {
-		return updateTranslator.updateByPrimaryKey(jdbcTemplate, fieldExtractor, executeExecutor, true, t);
+		WriteBehindBuffer buffer = this.writeBehindBuffer(t.getClass());
+		if (null != buffer) {
+			buffer.update(t, true);
+			return 1;
+		}
+		int count = updateTranslator.updateByPrimaryKey(this.writer(), fieldExtractor, executeExecutor, true, t);
+		this.evict(t);
+		return count;
 	}
 
 	/**
@@ -550,8 +682,10 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int update(T t, Example example) {
-		return updateTranslator.update(jdbcTemplate, fieldExtractor, executeExecutor, false, t,
+		int count = updateTranslator.update(this.writer(), fieldExtractor, executeExecutor, false, t,
 				null == example ? new ArrayList<>() : example.toCondition());
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -564,7 +698,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int update(T t, List<Condition> conditions) {
-		return updateTranslator.update(jdbcTemplate, fieldExtractor, executeExecutor, false, t, conditions);
+		int count = updateTranslator.update(this.writer(), fieldExtractor, executeExecutor, false, t, conditions);
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -577,7 +713,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int update(T t, T condition) {
-		return updateTranslator.update(jdbcTemplate, fieldExtractor, executeExecutor, false, t, condition);
+		int count = updateTranslator.update(this.writer(), fieldExtractor, executeExecutor, false, t, condition);
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -590,7 +728,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int updateSelective(T t, T condition) {
-		return updateTranslator.update(jdbcTemplate, fieldExtractor, executeExecutor, true, t, condition);
+		int count = updateTranslator.update(this.writer(), fieldExtractor, executeExecutor, true, t, condition);
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -603,8 +743,10 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int updateSelective(T t, Example example) {
-		return updateTranslator.update(jdbcTemplate, fieldExtractor, executeExecutor, true, t,
+		int count = updateTranslator.update(this.writer(), fieldExtractor, executeExecutor, true, t,
 				null == example ? new ArrayList<>() : example.toCondition());
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -617,7 +759,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int updateSelective(T t, List<Condition> conditions) {
-		return updateTranslator.update(jdbcTemplate, fieldExtractor, executeExecutor, true, t, conditions);
+		int count = updateTranslator.update(this.writer(), fieldExtractor, executeExecutor, true, t, conditions);
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -630,7 +774,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int deleteByPrimaryKey(Class<T> clazz, Object primaryKey) {
-		return deleteTranslator.deleteByPrimaryKey(jdbcTemplate, fieldExtractor, executeExecutor, clazz, primaryKey);
+		int count = deleteTranslator.deleteByPrimaryKey(this.writer(), fieldExtractor, executeExecutor, clazz, primaryKey);
+		this.evict(clazz, primaryKey);
+		return count;
 
 	}
 
@@ -643,7 +789,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int delete(T t) {
-		return deleteTranslator.delete(jdbcTemplate, fieldExtractor, executeExecutor, true, t);
+		int count = deleteTranslator.delete(this.writer(), fieldExtractor, executeExecutor, true, t);
+		this.evictAll(t.getClass());
+		return count;
 	}
 
 	/**
@@ -656,8 +804,10 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int delete(Class<T> clazz, Condition... conditions) {
-		return deleteTranslator.delete(jdbcTemplate, fieldExtractor, executeExecutor, clazz, true,
+		int count = deleteTranslator.delete(this.writer(), fieldExtractor, executeExecutor, clazz, true,
 				this.collect(conditions));
+		this.evictAll(clazz);
+		return count;
 	}
 
 	/**
@@ -670,8 +820,10 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int delete(Class<T> clazz, Example example) {
-		return deleteTranslator.delete(jdbcTemplate, fieldExtractor, executeExecutor, clazz, true,
+		int count = deleteTranslator.delete(this.writer(), fieldExtractor, executeExecutor, clazz, true,
 				null == example ? new ArrayList<>() : example.toCondition());
+		this.evictAll(clazz);
+		return count;
 	}
 
 	/**
@@ -684,7 +836,9 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int delete(Class<T> clazz, List<Condition> conditions) {
-		return deleteTranslator.delete(jdbcTemplate, fieldExtractor, executeExecutor, clazz, true, conditions);
+		int count = deleteTranslator.delete(this.writer(), fieldExtractor, executeExecutor, clazz, true, conditions);
+		this.evictAll(clazz);
+		return count;
 	}
 
 	/**
@@ -696,7 +850,14 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int insert(T t) {
-		return insertTranslator.insert(jdbcTemplate, fieldExtractor, false, executeExecutor, t);
+		WriteBehindBuffer buffer = this.writeBehindBuffer(t.getClass());
+		if (null != buffer) {
+			buffer.insert(t, false);
+			return 1;
+		}
+		int count = insertTranslator.insert(this.writer(), fieldExtractor, false, executeExecutor, t);
+		this.evict(t);
+		return count;
 	}
 
 	/**
@@ -708,15 +869,1138 @@ public class SimpleJdbcHelper implements JdbcHelper {
 	 */
 	@Override
 	public <T> int insertSelective(T t) {
-		return insertTranslator.insert(jdbcTemplate, fieldExtractor, true, executeExecutor, t);
+		WriteBehindBuffer buffer = this.writeBehindBuffer(t.getClass());
+		if (null != buffer) {
+			buffer.insert(t, true);
+			return 1;
+		}
+		int count = insertTranslator.insert(this.writer(), fieldExtractor, true, executeExecutor, t);
+		this.evict(t);
+		return count;
 	}
 
-	public JdbcTemplate getJdbcTemplate() {
-		return jdbcTemplate;
+	/**
+	 * 分页查询所有符合条件的数据
+	 * 
+	 * @param <T>       POJO类
+	 * @param t         查询条件
+	 * @param pageSize  分页大小
+	 * @param pageNum   当前页页码
+	 * @param order     排序条件
+	 * @param countMode 总记录数量的统计方式
+	 * @return 符合条件的数据
+	 */
+	@Override
+	public <T> Page<T> findPage(T t, int pageSize, int pageNum, Order order, CountMode countMode) {
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, t, order, pageSize, pageNum,
+				countMode, countExecutor);
 	}
 
-	public void setJdbcTemplate(JdbcTemplate jdbcTemplate) {
-		this.jdbcTemplate = jdbcTemplate;
+	/**
+	 * 分页查询所有符合条件的数据
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param pageSize   分页大小
+	 * @param pageNum    当前页页码
+	 * @param order      排序条件
+	 * @param countMode  总记录数量的统计方式
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	@Override
+	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, CountMode countMode,
+			Condition... conditions) {
+		return this.findPage(clazz, pageSize, pageNum, order, countMode, this.collect(conditions));
+	}
+
+	/**
+	 * 分页查询所有符合条件的数据
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param pageSize   分页大小
+	 * @param pageNum    当前页页码
+	 * @param order      排序条件
+	 * @param countMode  总记录数量的统计方式
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	@Override
+	public <T> Page<T> findPage(Class<T> clazz, int pageSize, int pageNum, Order order, CountMode countMode,
+			List<Condition> conditions) {
+		return queryTranslator.findPage(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, order,
+				pageSize, pageNum, countMode, countExecutor);
+	}
+
+	/**
+	 * <p>
+	 * 游标分页查询所有符合条件的数据
+	 * </p>
+	 * 通过上一页返回的游标定位下一页的起始位置，无论翻到多深的位置查询耗时都基本保持不变。<br/>
+	 * 排序属性的值可以为null(升序时排在最前面，降序时排在最后面)，排序属性必须存在，未指定排序条件时按照主键升序排列
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param afterKey   上一页返回的游标 {@link Slice#getNextKey()}，查询第一页时为null
+	 * @param size       每一页的记录数量
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	@Override
+	public <T> Slice<T> findSlice(Class<T> clazz, Order order, Object afterKey, int size, Condition... conditions) {
+		return this.findSlice(clazz, order, afterKey, size, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 游标分页查询所有符合条件的数据
+	 * </p>
+	 * 通过上一页返回的游标定位下一页的起始位置，无论翻到多深的位置查询耗时都基本保持不变。<br/>
+	 * 排序属性的值可以为null(升序时排在最前面，降序时排在最后面)，排序属性必须存在，未指定排序条件时按照主键升序排列
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param afterKey   上一页返回的游标 {@link Slice#getNextKey()}，查询第一页时为null
+	 * @param size       每一页的记录数量
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据
+	 */
+	@Override
+	public <T> Slice<T> findSlice(Class<T> clazz, Order order, Object afterKey, int size, List<Condition> conditions) {
+		return queryTranslator.findSlice(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, order,
+				afterKey, size);
+	}
+
+	/**
+	 * <p>
+	 * 以流的方式查询所有符合条件的数据
+	 * </p>
+	 * 数据在流被消费时才会逐批从数据库中读取，使用完成后必须关闭该流，建议使用 try-with-resources 语句
+	 * 
+	 * @param <T>   POJO类
+	 * @param t     查询条件
+	 * @param order 排序条件
+	 * @return 符合条件的数据组成的流
+	 */
+	@Override
+	public <T> Stream<T> stream(T t, Order order) {
+		return queryTranslator.stream(this.reader(), fieldExtractor, executeExecutor, t, order, this.fetchSize());
+	}
+
+	/**
+	 * <p>
+	 * 以流的方式查询所有符合条件的数据
+	 * </p>
+	 * 数据在流被消费时才会逐批从数据库中读取，使用完成后必须关闭该流，建议使用 try-with-resources 语句
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据组成的流
+	 */
+	@Override
+	public <T> Stream<T> stream(Class<T> clazz, Order order, Condition... conditions) {
+		return this.stream(clazz, order, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 以流的方式查询所有符合条件的数据
+	 * </p>
+	 * 数据在流被消费时才会逐批从数据库中读取，使用完成后必须关闭该流，建议使用 try-with-resources 语句
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 符合条件的数据组成的流
+	 */
+	@Override
+	public <T> Stream<T> stream(Class<T> clazz, Order order, List<Condition> conditions) {
+		return queryTranslator.stream(this.reader(), fieldExtractor, executeExecutor, clazz, conditions, order,
+				this.fetchSize());
+	}
+
+	/**
+	 * 以流的方式逐条处理所有符合条件的数据，处理完成后自动释放数据库资源
+	 * 
+	 * @param <T>    POJO类
+	 * @param t      查询条件
+	 * @param order  排序条件
+	 * @param action 数据处理函数
+	 */
+	@Override
+	public <T> void forEach(T t, Order order, Consumer<? super T> action) {
+		try (Stream<T> stream = this.stream(t, order)) {
+			stream.forEach(action);
+		}
+	}
+
+	/**
+	 * 以流的方式逐条处理所有符合条件的数据，处理完成后自动释放数据库资源
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param action     数据处理函数
+	 * @param conditions 筛选条件
+	 */
+	@Override
+	public <T> void forEach(Class<T> clazz, Order order, Consumer<? super T> action, Condition... conditions) {
+		this.forEach(clazz, order, action, this.collect(conditions));
+	}
+
+	/**
+	 * 以流的方式逐条处理所有符合条件的数据，处理完成后自动释放数据库资源
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param order      排序条件
+	 * @param action     数据处理函数
+	 * @param conditions 筛选条件
+	 */
+	@Override
+	public <T> void forEach(Class<T> clazz, Order order, Consumer<? super T> action, List<Condition> conditions) {
+		try (Stream<T> stream = this.stream(clazz, order, conditions)) {
+			stream.forEach(action);
+		}
+	}
+
+	/**
+	 * 以全属性方式批量新增数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待新增的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	@Override
+	public <T> int[] insertBatch(List<T> list) {
+		int[] count = insertTranslator.insertBatch(this.writer(), fieldExtractor, false, executeExecutor, list,
+				this.batchSize());
+		this.evict(list);
+		return count;
+	}
+
+	/**
+	 * 以可选属性方式批量新增数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待新增的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	@Override
+	public <T> int[] insertBatchSelective(List<T> list) {
+		int[] count = insertTranslator.insertBatch(this.writer(), fieldExtractor, true, executeExecutor, list,
+				this.batchSize());
+		this.evict(list);
+		return count;
+	}
+
+	/**
+	 * 根据主键全属性批量更新数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待更新的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	@Override
+	public <T> int[] updateBatchByPrimaryKey(List<T> list) {
+		int[] count = updateTranslator.updateBatchByPrimaryKey(this.writer(), fieldExtractor, executeExecutor, false, list,
+				this.batchSize());
+		this.evict(list);
+		return count;
+	}
+
+	/**
+	 * 根据主键可选属性批量更新数据
+	 * 
+	 * @param <T>  POJO类
+	 * @param list 待更新的数据
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	@Override
+	public <T> int[] updateBatchByPrimaryKeySelective(List<T> list) {
+		int[] count = updateTranslator.updateBatchByPrimaryKey(this.writer(), fieldExtractor, executeExecutor, true, list,
+				this.batchSize());
+		this.evict(list);
+		return count;
+	}
+
+	/**
+	 * 根据主键批量删除数据
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       操作的对象
+	 * @param primaryKeys 主键值
+	 * @return 每一个主键受影响的记录的数量，顺序与主键的顺序一致
+	 */
+	@Override
+	public <T> int[] deleteByPrimaryKeys(Class<T> clazz, Collection<?> primaryKeys) {
+		int[] count = deleteTranslator.deleteByPrimaryKeys(this.writer(), fieldExtractor, executeExecutor, clazz, primaryKeys,
+				this.batchSize());
+		this.evict(clazz, primaryKeys);
+		return count;
+	}
+
+	/**
+	 * <p>
+	 * 以流的方式将所有符合条件的数据按照指定的格式导出到输出流中
+	 * </p>
+	 * 数据通过只进游标逐条读取并写出，内存占用与数据总量无关，该方法不会关闭输出流
+	 * 
+	 * @param <T>          POJO类
+	 * @param clazz        POJO类
+	 * @param outputStream 输出流
+	 * @param format       导出的格式
+	 * @param conditions   筛选条件
+	 * @return 导出的记录的数量
+	 */
+	@Override
+	public <T> long export(Class<T> clazz, OutputStream outputStream, ExportFormat format, Condition... conditions) {
+		return this.export(clazz, outputStream, format, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 以流的方式将所有符合条件的数据按照指定的格式导出到输出流中
+	 * </p>
+	 * 数据通过只进游标逐条读取并写出，内存占用与数据总量无关，该方法不会关闭输出流
+	 * 
+	 * @param <T>          POJO类
+	 * @param clazz        POJO类
+	 * @param outputStream 输出流
+	 * @param format       导出的格式
+	 * @param conditions   筛选条件
+	 * @return 导出的记录的数量
+	 */
+	@Override
+	public <T> long export(Class<T> clazz, OutputStream outputStream, ExportFormat format,
+			List<Condition> conditions) {
+		try (Stream<T> stream = this.stream(clazz, null, conditions)) {
+			return EntityExporter.export(clazz, stream, outputStream, format);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * <p>
+	 * 以流的方式将输入流中的数据按照指定的格式批量导入
+	 * </p>
+	 * 数据逐行解析并按照批量操作的大小分批插入，内存占用与数据总量无关；配置了并发导入数量时多个批次会通过不同的连接同时写入。<br/>
+	 * 每一批数据在独立的事务(在事务中时为保存点)中写入，一批数据写入失败时整批回滚之后再逐条重试，不会重复写入。<br/>
+	 * 分片表的写入不参与事务，无法保证上述行为，因此不支持导入分片表。<br/>
+	 * 该方法不会关闭输入流
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param inputStream 输入流
+	 * @param format      数据的格式
+	 * @return 导入结果
+	 */
+	@Override
+	public <T> ImportResult importFrom(Class<T> clazz, InputStream inputStream, ExportFormat format) {
+		if (this.isSharded(clazz)) {
+			throw new InvalidDataAccessApiUsageException("【yishuifengxiao-common-spring-boot-starter】"
+					+ clazz.getName() + " 对应的表为分片表，分片中的写入不参与事务，不支持批量导入");
+		}
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				new DataSourceTransactionManager(jdbcTemplate.getDataSource()));
+		try {
+			return EntityImporter.importFrom(clazz, inputStream, format, this.batchSize(),
+					null == jdbcProperties.getImportParallelism() ? 1 : jdbcProperties.getImportParallelism(),
+					this.executor, list -> this.atomically(transactionTemplate, () -> this.insertBatch(list)));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * 根据条件计算指定属性的求和，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T> BigDecimal sum(Class<T> clazz, String property, Condition... conditions) {
+		return this.sum(clazz, property, this.collect(conditions));
+	}
+
+	/**
+	 * 根据条件计算指定属性的求和，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T> BigDecimal sum(Class<T> clazz, String property, List<Condition> conditions) {
+		return queryTranslator.aggregate(this.reader(), fieldExtractor, executeExecutor, clazz, Aggregation.SUM,
+				property, conditions, BigDecimal.class);
+	}
+
+	/**
+	 * 根据条件计算指定属性的平均值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T> BigDecimal avg(Class<T> clazz, String property, Condition... conditions) {
+		return this.avg(clazz, property, this.collect(conditions));
+	}
+
+	/**
+	 * 根据条件计算指定属性的平均值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T> BigDecimal avg(Class<T> clazz, String property, List<Condition> conditions) {
+		return queryTranslator.aggregate(this.reader(), fieldExtractor, executeExecutor, clazz, Aggregation.AVG,
+				property, conditions, BigDecimal.class);
+	}
+
+	/**
+	 * 根据条件查询指定属性的最小值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T, R> R min(Class<T> clazz, String property, Condition... conditions) {
+		return this.min(clazz, property, this.collect(conditions));
+	}
+
+	/**
+	 * 根据条件查询指定属性的最小值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T, R> R min(Class<T> clazz, String property, List<Condition> conditions) {
+		return this.aggregate(clazz, Aggregation.MIN, property, conditions);
+	}
+
+	/**
+	 * 根据条件查询指定属性的最大值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T, R> R max(Class<T> clazz, String property, Condition... conditions) {
+		return this.max(clazz, property, this.collect(conditions));
+	}
+
+	/**
+	 * 根据条件查询指定属性的最大值，由数据库完成计算
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性的类型
+	 * @param clazz      POJO类
+	 * @param property   参与计算的属性的名字
+	 * @param conditions 筛选条件
+	 * @return 计算结果，类型与属性的类型一致，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T, R> R max(Class<T> clazz, String property, List<Condition> conditions) {
+		return this.aggregate(clazz, Aggregation.MAX, property, conditions);
+	}
+
+	/**
+	 * 根据条件按照指定属性分组统计记录数量，由数据库完成统计
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param groupBy    分组属性的名字
+	 * @param conditions 筛选条件
+	 * @return 每一个分组属性值对应的记录数量，分组属性值的类型与属性的类型一致
+	 */
+	@Override
+	public <T> Map<Object, Long> groupCount(Class<T> clazz, String groupBy, Condition... conditions) {
+		return this.groupCount(clazz, groupBy, this.collect(conditions));
+	}
+
+	/**
+	 * 根据条件按照指定属性分组统计记录数量，由数据库完成统计
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param groupBy    分组属性的名字
+	 * @param conditions 筛选条件
+	 * @return 每一个分组属性值对应的记录数量，分组属性值的类型与属性的类型一致
+	 */
+	@Override
+	public <T> Map<Object, Long> groupCount(Class<T> clazz, String groupBy, List<Condition> conditions) {
+		return queryTranslator.groupCount(this.reader(), fieldExtractor, executeExecutor, clazz, groupBy, conditions);
+	}
+
+	/**
+	 * 计算指定属性的聚合值，结果的类型与属性的类型一致
+	 * 
+	 * @param <T>         POJO类
+	 * @param <R>         属性的类型
+	 * @param clazz       POJO类
+	 * @param aggregation 聚合函数
+	 * @param property    参与计算的属性的名字
+	 * @param conditions  筛选条件
+	 * @return 计算结果
+	 */
+	@SuppressWarnings("unchecked")
+	private <T, R> R aggregate(Class<T> clazz, Aggregation aggregation, String property, List<Condition> conditions) {
+		FieldValue field = fieldExtractor.extractMetadata(clazz).getField(property);
+		Class<R> type = (Class<R>) (null == field || null == field.getType() ? Object.class
+				: ClassUtils.resolvePrimitiveIfNecessary(field.getType()));
+		return queryTranslator.aggregate(this.reader(), fieldExtractor, executeExecutor, clazz, aggregation, property,
+				conditions, type);
+	}
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T> POJO类
+	 * @param t   查询条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	@Override
+	public <T> boolean exists(T t) {
+		return queryTranslator.exists(this.reader(), fieldExtractor, executeExecutor, t);
+	}
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param conditions 筛选条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	@Override
+	public <T> boolean exists(Class<T> clazz, Condition... conditions) {
+		return this.exists(clazz, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T>     POJO类
+	 * @param clazz   POJO类
+	 * @param example 筛选条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	@Override
+	public <T> boolean exists(Class<T> clazz, Example example) {
+		return this.exists(clazz, null == example ? new ArrayList<>() : example.toCondition());
+	}
+
+	/**
+	 * <p>
+	 * 判断是否存在符合条件的数据
+	 * </p>
+	 * 生成的语句形如 select 1 from ... limit 1 ，找到第一条记录后即返回，比统计全部记录数量更高效
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param conditions 筛选条件
+	 * @return 存在符合条件的数据时返回为true
+	 */
+	@Override
+	public <T> boolean exists(Class<T> clazz, List<Condition> conditions) {
+		return queryTranslator.exists(this.reader(), fieldExtractor, executeExecutor, clazz, conditions);
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据并转换为指定的类型
+	 * </p>
+	 * 只查询结果类型与POJO类中名字相同的属性对应的列，适用于只需要宽表中少数几列的场景
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        结果的类型
+	 * @param clazz      POJO类
+	 * @param type       结果的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T, R> List<R> findAs(Class<T> clazz, Class<R> type, Order order, Condition... conditions) {
+		return this.findAs(clazz, type, order, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据并转换为指定的类型
+	 * </p>
+	 * 只查询结果类型与POJO类中名字相同的属性对应的列，适用于只需要宽表中少数几列的场景
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        结果的类型
+	 * @param clazz      POJO类
+	 * @param type       结果的类型
+	 * @param order      排序条件
+	 * @param example    筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T, R> List<R> findAs(Class<T> clazz, Class<R> type, Order order, Example example) {
+		return this.findAs(clazz, type, order, null == example ? new ArrayList<>() : example.toCondition());
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据并转换为指定的类型
+	 * </p>
+	 * 只查询结果类型与POJO类中名字相同的属性对应的列，适用于只需要宽表中少数几列的场景
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        结果的类型
+	 * @param clazz      POJO类
+	 * @param type       结果的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T, R> List<R> findAs(Class<T> clazz, Class<R> type, Order order, List<Condition> conditions) {
+		List<String> properties = this.properties(clazz, type);
+		Assert.notEmpty(properties, "【yishuifengxiao-common-spring-boot-starter】" + type.getName() + " 与 "
+				+ clazz.getName() + " 中不存在名字相同的属性");
+		// 结果类型与POJO类一样使用预编译的映射器，映射信息按照结果类型和结果集的列结构缓存
+		return queryTranslator.findProjection(this.reader(), fieldExtractor, executeExecutor, clazz, properties,
+				EntityRowMapper.of(type), order, conditions);
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的部分属性
+	 * </p>
+	 * 每一条记录转换为一个以属性名字为键的Map
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param properties 需要查询的属性的名字
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T> List<Map<String, Object>> findMaps(Class<T> clazz, List<String> properties, Order order, Condition... conditions) {
+		return this.findMaps(clazz, properties, order, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的部分属性
+	 * </p>
+	 * 每一条记录转换为一个以属性名字为键的Map
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param properties 需要查询的属性的名字
+	 * @param order      排序条件
+	 * @param example    筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T> List<Map<String, Object>> findMaps(Class<T> clazz, List<String> properties, Order order, Example example) {
+		return this.findMaps(clazz, properties, order, null == example ? new ArrayList<>() : example.toCondition());
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的部分属性
+	 * </p>
+	 * 每一条记录转换为一个以属性名字为键的Map
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param properties 需要查询的属性的名字
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T> List<Map<String, Object>> findMaps(Class<T> clazz, List<String> properties, Order order, List<Condition> conditions) {
+		return queryTranslator.findProjection(this.reader(), fieldExtractor, executeExecutor, clazz, properties,
+				COLUMN_MAP_ROW_MAPPER, order, conditions);
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的某一个属性的值
+	 * </p>
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性值的类型
+	 * @param clazz      POJO类
+	 * @param property   需要查询的属性的名字
+	 * @param type       属性值的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T, R> List<R> findColumn(Class<T> clazz, String property, Class<R> type, Order order, Condition... conditions) {
+		return this.findColumn(clazz, property, type, order, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的某一个属性的值
+	 * </p>
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性值的类型
+	 * @param clazz      POJO类
+	 * @param property   需要查询的属性的名字
+	 * @param type       属性值的类型
+	 * @param order      排序条件
+	 * @param example    筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T, R> List<R> findColumn(Class<T> clazz, String property, Class<R> type, Order order, Example example) {
+		return this.findColumn(clazz, property, type, order, null == example ? new ArrayList<>() : example.toCondition());
+	}
+
+	/**
+	 * <p>
+	 * 查询所有符合条件的数据的某一个属性的值
+	 * </p>
+	 * 
+	 * @param <T>        POJO类
+	 * @param <R>        属性值的类型
+	 * @param clazz      POJO类
+	 * @param property   需要查询的属性的名字
+	 * @param type       属性值的类型
+	 * @param order      排序条件
+	 * @param conditions 筛选条件
+	 * @return 所有符合条件的数据
+	 */
+	@Override
+	public <T, R> List<R> findColumn(Class<T> clazz, String property, Class<R> type, Order order, List<Condition> conditions) {
+		return queryTranslator.findProjection(this.reader(), fieldExtractor, executeExecutor, clazz,
+				Collections.singletonList(property), SingleColumnRowMapper.newInstance(type), order, conditions);
+	}
+
+	/**
+	 * <p>
+	 * 分区并行扫描所有符合条件的数据
+	 * </p>
+	 * 根据主键的最小值和最大值将数据拆分为若干个主键区间，每个区间在独立的线程和数据库连接中通过游标分页逐批读取，
+	 * 每一批数据读取之后交给处理函数，处理函数返回之后才会读取下一批数据。<br/>
+	 * 同时扫描的区间的数量不超过 yishuifengxiao.jdbc.scan-parallelism ，该值应当小于连接池的最大连接数量。<br/>
+	 * 【注意】主键必须为整数类型；各个区间在不同的线程中执行，不会参与当前线程的事务
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param partitions 主键区间的数量
+	 * @param chunkSize  每一批数据的数量
+	 * @param checkpoint 检查点，用于跳过已经处理完成的区间，为null时不记录处理进度；检查点中保存了主键范围时直接使用该范围拆分区间，
+	 *                   重新执行时区间的数量必须与第一次扫描时相同
+	 * @param consumer   数据处理函数，可能被多个线程同时调用
+	 * @param conditions 筛选条件
+	 * @return 处理的记录的总数量
+	 */
+	@Override
+	public <T> long scan(Class<T> clazz, int partitions, int chunkSize, ScanCheckpoint checkpoint,
+			BiConsumer<ScanRange, List<T>> consumer, Condition... conditions) {
+		return this.scan(clazz, partitions, chunkSize, checkpoint, consumer, this.collect(conditions));
+	}
+
+	/**
+	 * <p>
+	 * 分区并行扫描所有符合条件的数据
+	 * </p>
+	 * 根据主键的最小值和最大值将数据拆分为若干个主键区间，每个区间在独立的线程和数据库连接中通过游标分页逐批读取，
+	 * 每一批数据读取之后交给处理函数，处理函数返回之后才会读取下一批数据。<br/>
+	 * 同时扫描的区间的数量不超过 yishuifengxiao.jdbc.scan-parallelism ，该值应当小于连接池的最大连接数量。<br/>
+	 * 【注意】主键必须为整数类型；各个区间在不同的线程中执行，不会参与当前线程的事务
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param partitions 主键区间的数量
+	 * @param chunkSize  每一批数据的数量
+	 * @param checkpoint 检查点，用于跳过已经处理完成的区间，为null时不记录处理进度；检查点中保存了主键范围时直接使用该范围拆分区间，
+	 *                   重新执行时区间的数量必须与第一次扫描时相同
+	 * @param consumer   数据处理函数，可能被多个线程同时调用
+	 * @param conditions 筛选条件
+	 * @return 处理的记录的总数量
+	 */
+	@Override
+	public <T> long scan(Class<T> clazz, int partitions, int chunkSize, ScanCheckpoint checkpoint,
+			BiConsumer<ScanRange, List<T>> consumer, List<Condition> conditions) {
+		Assert.notNull(consumer, "【yishuifengxiao-common-spring-boot-starter】数据处理函数不能为空");
+		Assert.isTrue(chunkSize > 0, "【yishuifengxiao-common-spring-boot-starter】每一批数据的数量必须大于0");
+		FieldValue primaryKey = fieldExtractor.extractMetadata(clazz).getPrimaryKey();
+		Assert.notNull(primaryKey, "【yishuifengxiao-common-spring-boot-starter】" + clazz.getName() + " 中没有主键");
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(primaryKey.getType());
+		Assert.isTrue(Long.class == type || Integer.class == type || Short.class == type || Byte.class == type,
+				"【yishuifengxiao-common-spring-boot-starter】分区扫描只支持整数类型的主键");
+
+		String name = primaryKey.getName();
+		// 重新执行时使用第一次扫描时保存的主键范围，保证拆分出的区间与检查点中记录的区间一致
+		ScanRange bounds = null == checkpoint ? null : checkpoint.getBounds();
+		if (null == bounds) {
+			Number min = this.min(clazz, name, conditions);
+			Number max = this.max(clazz, name, conditions);
+			if (null == min || null == max) {
+				return 0L;
+			}
+			bounds = new ScanRange(0, min.longValue(), max.longValue());
+			if (null != checkpoint) {
+				checkpoint.saveBounds(bounds);
+			}
+		}
+		List<ScanRange> ranges = ScanRange.split(bounds.getLower(), bounds.getUpper(), partitions);
+		int parallelism = Math.min(ranges.size(),
+				null == jdbcProperties.getScanParallelism() ? 1 : jdbcProperties.getScanParallelism());
+
+		return PartitionScanner.scan(ranges, parallelism, this.executor, checkpoint, (range, afterKey) -> {
+			List<Condition> list = null == conditions ? new ArrayList<>() : new ArrayList<>(conditions);
+			list.add(Condition.andGreaterEqual(name, range.getLower()));
+			list.add(Condition.andLessEqual(name, range.getUpper()));
+			return this.<T>findSlice(clazz, null, afterKey, chunkSize, list);
+		}, consumer);
+	}
+
+	/**
+	 * 获取结果类型中可写且在POJO类中存在同名属性的属性的名字
+	 * 
+	 * @param clazz POJO类
+	 * @param type  结果的类型
+	 * @return 属性的名字
+	 */
+	private List<String> properties(Class<?> clazz, Class<?> type) {
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+		List<String> properties = new ArrayList<>();
+		for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+			if (null != descriptor.getWriteMethod() && metadata.indexOf(descriptor.getName()) >= 0) {
+				properties.add(descriptor.getName());
+			}
+		}
+		return properties;
+	}
+
+	/**
+	 * 获取批量操作时每一批提交的最大记录数量
+	 * 
+	 * @return 每一批提交的最大记录数量
+	 */
+	private int batchSize() {
+		return null == jdbcProperties.getBatchSize() ? 0 : jdbcProperties.getBatchSize();
+	}
+
+	/**
+	 * 获取一个使用指定执行选项的JdbcTemplate操作器
+	 * 
+	 * @param options 执行选项
+	 * @return 使用指定执行选项的JdbcTemplate操作器
+	 */
+	@Override
+	public JdbcHelper withOptions(QueryOptions options) {
+		SimpleJdbcHelper helper = new SimpleJdbcHelper();
+		helper.origin = this.origin;
+		helper.jdbcTemplate = this.jdbcTemplate;
+		helper.jdbcProperties = this.jdbcProperties;
+		helper.countExecutor = this.countExecutor;
+		helper.entityCache = this.entityCache;
+		helper.executor = this.executor;
+		helper.readWriteRouter = this.readWriteRouter;
+		helper.writeBehind = this.writeBehind;
+		helper.executeExecutor = this.executeExecutor.withOptions(options);
+		return helper;
+	}
+
+	/**
+	 * <p>
+	 * 以原子方式执行一个写入操作，操作失败时已经执行的语句全部回滚
+	 * </p>
+	 * 在事务中时使用保存点，失败时只回滚到操作开始之前的状态，不影响事务中的其他操作；不在事务中时在一个独立的事务中执行
+	 * 
+	 * @param <R>                 执行结果的类型
+	 * @param transactionTemplate 不在事务中时使用的事务模板
+	 * @param action              写入操作
+	 * @return 执行结果
+	 */
+	private <R> R atomically(TransactionTemplate transactionTemplate, Supplier<R> action) {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return transactionTemplate.execute(status -> action.get());
+		}
+		DataSource dataSource = jdbcTemplate.getDataSource();
+		Connection con = DataSourceUtils.getConnection(dataSource);
+		try {
+			Savepoint savepoint = con.setSavepoint();
+			try {
+				R result = action.get();
+				con.releaseSavepoint(savepoint);
+				return result;
+			} catch (RuntimeException e) {
+				con.rollback(savepoint);
+				throw e;
+			}
+		} catch (SQLException e) {
+			throw jdbcTemplate.getExceptionTranslator().translate("savepoint", null, e);
+		} finally {
+			DataSourceUtils.releaseConnection(con, dataSource);
+		}
+	}
+
+	/**
+	 * 获取当前事务的延迟写入缓冲区
+	 * 
+	 * @param create 不存在时是否创建
+	 * @return 延迟写入缓冲区，未开启延迟写入、不在事务中或者正在写入数据库时为null
+	 */
+	private WriteBehindBuffer writeBehindBuffer(boolean create) {
+		if (!writeBehind || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		WriteBehindBuffer buffer = (WriteBehindBuffer) TransactionSynchronizationManager.getResource(origin);
+		if (null == buffer && create) {
+			buffer = new WriteBehindBuffer(origin, fieldExtractor);
+			TransactionSynchronizationManager.bindResource(origin, buffer);
+			TransactionSynchronizationManager.registerSynchronization(buffer);
+		}
+		return null == buffer || buffer.isFlushing() ? null : buffer;
+	}
+
+	/**
+	 * 获取当前事务中用于缓存指定POJO类的写入操作的延迟写入缓冲区，不存在时创建
+	 * 
+	 * @param clazz POJO类
+	 * @return 延迟写入缓冲区，分片表的写入不参与事务，直接写入数据库，此时为null
+	 */
+	private WriteBehindBuffer writeBehindBuffer(Class<?> clazz) {
+		if (!writeBehind || this.isSharded(clazz)) {
+			return null;
+		}
+		return this.writeBehindBuffer(true);
+	}
+
+	/**
+	 * 判断POJO类对应的表是否为分片表
+	 * 
+	 * @param clazz POJO类
+	 * @return 是分片表时返回为true
+	 */
+	private boolean isSharded(Class<?> clazz) {
+		return executeExecutor.isSharded(fieldExtractor.extractMetadata(clazz).getTableName());
+	}
+
+	/**
+	 * 执行其他语句之前写入当前事务中缓存的所有操作
+	 */
+	private void flushWriteBehind() {
+		WriteBehindBuffer buffer = this.writeBehindBuffer(false);
+		if (null != buffer) {
+			buffer.flush();
+		}
+	}
+
+	/**
+	 * 获取执行查询语句时使用的JdbcTemplate
+	 * 
+	 * @return 执行查询语句时使用的JdbcTemplate
+	 */
+	private JdbcTemplate reader() {
+		this.flushWriteBehind();
+		return null == readWriteRouter ? jdbcTemplate : readWriteRouter.reader(jdbcTemplate);
+	}
+
+	/**
+	 * 获取执行写入语句时使用的JdbcTemplate
+	 * 
+	 * @return 执行写入语句时使用的JdbcTemplate
+	 */
+	private JdbcTemplate writer() {
+		this.flushWriteBehind();
+		return null == readWriteRouter ? jdbcTemplate : readWriteRouter.writer(jdbcTemplate);
+	}
+
+	/**
+	 * 获取流式查询时每次从数据库中获取的记录数量
+	 * 
+	 * @return 每次从数据库中获取的记录数量
+	 */
+	private int fetchSize() {
+		return null == jdbcProperties.getFetchSize() ? 0 : jdbcProperties.getFetchSize();
+	}
+
+	/**
+	 * 获取分页查询时默认的总记录数量的统计方式
+	 * 
+	 * @return 总记录数量的统计方式
+	 */
+	private CountMode countMode() {
+		return null == jdbcProperties.getCountMode() ? CountMode.EXACT : jdbcProperties.getCountMode();
+	}
+
+	public JdbcTemplate getJdbcTemplate() {
+		return jdbcTemplate;
+	}
+
+	public void setJdbcTemplate(JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	public JdbcProperties getJdbcProperties() {
+		return jdbcProperties;
+	}
+
+	public void setJdbcProperties(JdbcProperties jdbcProperties) {
+		this.jdbcProperties = null == jdbcProperties ? new JdbcProperties() : jdbcProperties;
+	}
+
+	/**
+	 * 使一条数据对应的缓存失效
+	 * 
+	 * @param t 数据
+	 */
+	private void evict(Object t) {
+		if (null == entityCache || null == t || !entityCache.isCacheable(t.getClass())) {
+			return;
+		}
+		String primaryKey = fieldExtractor.extractMetadata(t.getClass()).getPrimaryKey().getName();
+		entityCache.evict(t.getClass(), fieldExtractor.extractValue(t, primaryKey));
+	}
+
+	/**
+	 * 使一组数据对应的缓存失效
+	 * 
+	 * @param list 数据
+	 */
+	private void evict(List<?> list) {
+		if (null == entityCache || null == list) {
+			return;
+		}
+		list.forEach(this::evict);
+	}
+
+	/**
+	 * 使一条数据对应的缓存失效
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 */
+	private void evict(Class<?> clazz, Object primaryKey) {
+		if (null == entityCache) {
+			return;
+		}
+		entityCache.evict(clazz, primaryKey);
+	}
+
+	/**
+	 * 使一组数据对应的缓存失效
+	 * 
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 */
+	private void evict(Class<?> clazz, Collection<?> primaryKeys) {
+		if (null == entityCache || null == primaryKeys) {
+			return;
+		}
+		primaryKeys.forEach(v -> entityCache.evict(clazz, v));
+	}
+
+	/**
+	 * 使一个POJO类所有的缓存失效，用于根据条件更新或删除的操作
+	 * 
+	 * @param clazz POJO类
+	 */
+	private void evictAll(Class<?> clazz) {
+		if (null == entityCache) {
+			return;
+		}
+		entityCache.evictAll(clazz);
+	}
+
+	public CountExecutor getCountExecutor() {
+		return countExecutor;
+	}
+
+	public void setCountExecutor(CountExecutor countExecutor) {
+		this.countExecutor = countExecutor;
+	}
+
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	public ExecuteExecutor getExecuteExecutor() {
+		return executeExecutor;
+	}
+
+	public void setExecuteExecutor(ExecuteExecutor executeExecutor) {
+		this.executeExecutor = null == executeExecutor ? new SimpleExecuteExecutor() : executeExecutor;
+	}
+
+	public boolean isWriteBehind() {
+		return writeBehind;
+	}
+
+	public void setWriteBehind(boolean writeBehind) {
+		this.writeBehind = writeBehind;
+	}
+
+	public ReadWriteRouter getReadWriteRouter() {
+		return readWriteRouter;
+	}
+
+	public void setReadWriteRouter(ReadWriteRouter readWriteRouter) {
+		this.readWriteRouter = readWriteRouter;
+	}
+
+	public EntityCache getEntityCache() {
+		return entityCache;
+	}
+
+	public void setEntityCache(EntityCache entityCache) {
+		this.entityCache = entityCache;
 	}
 
 }
@@ -0,0 +1,41 @@
+package com.yishuifengxiao.common.jdbc.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>
+ * 实体缓存注解
+ * </p>
+ * 标记了该注解的POJO类在通过 JdbcHelper 根据主键查询时会优先从本地缓存中获取，
+ * 通过 JdbcHelper 对该类执行的插入、更新和删除操作会使对应的缓存失效。<br/>
+ * 适用于数据字典、系统配置等很少变化的数据
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Target({ ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+public @interface CacheableEntity {
+
+	/**
+	 * 缓存的过期时间，单位为秒，小于等于0时使用全局配置
+	 * 
+	 * @return 缓存的过期时间
+	 */
+	long ttl() default 0L;
+
+	/**
+	 * 最多缓存的记录数量，小于等于0时使用全局配置
+	 * 
+	 * @return 最多缓存的记录数量
+	 */
+	long maximumSize() default 0L;
+}
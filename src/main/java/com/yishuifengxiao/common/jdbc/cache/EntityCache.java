@@ -0,0 +1,89 @@
+package com.yishuifengxiao.common.jdbc.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * <p>
+ * 实体缓存
+ * </p>
+ * 以主键为索引缓存POJO类实例，只有标记了 {@link CacheableEntity} 注解或者在配置中声明的POJO类才会被缓存。<br/>
+ * 缓存中返回的是共享的实例，调用者不应该直接修改该实例
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface EntityCache {
+
+	/**
+	 * 判断一个POJO类是否开启了缓存
+	 * 
+	 * @param clazz POJO类
+	 * @return 开启了缓存时返回为true
+	 */
+	boolean isCacheable(Class<?> clazz);
+
+	/**
+	 * 根据主键获取一条数据，缓存中不存在时通过loader查询
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 * @param loader     数据查询函数
+	 * @return 查询到的数据
+	 */
+	<T> T get(Class<T> clazz, Object primaryKey, Function<Object, T> loader);
+
+	/**
+	 * 根据一组主键获取数据，缓存中不存在的主键通过loader一次查询
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 * @param loader      数据查询函数
+	 * @return 查询到的数据
+	 */
+	<T> List<T> getAll(Class<T> clazz, Collection<?> primaryKeys, Function<Collection<?>, List<T>> loader);
+
+	/**
+	 * 使一条数据的缓存失效，并通知其他节点；在事务中时事务结束后会再次失效
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 */
+	void evict(Class<?> clazz, Object primaryKey);
+
+	/**
+	 * 使一个POJO类所有的缓存失效，并通知其他节点；在事务中时事务结束后会再次失效
+	 * 
+	 * @param clazz POJO类
+	 */
+	void evictAll(Class<?> clazz);
+
+	/**
+	 * 只使本节点的缓存失效，用于处理其他节点的失效通知
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键，为null时表示该类所有的缓存都失效
+	 */
+	void evictLocal(Class<?> clazz, Object primaryKey);
+
+	/**
+	 * 获取每一个POJO类对应的缓存统计信息，包含命中、未命中和淘汰的次数
+	 * 
+	 * @return 缓存统计信息
+	 */
+	Map<Class<?>, CacheStats> stats();
+
+	/**
+	 * 设置缓存失效通知器
+	 * 
+	 * @param broadcaster 缓存失效通知器
+	 */
+	void setBroadcaster(EntityCacheBroadcaster broadcaster);
+}
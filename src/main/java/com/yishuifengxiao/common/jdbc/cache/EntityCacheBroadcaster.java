@@ -0,0 +1,22 @@
+package com.yishuifengxiao.common.jdbc.cache;
+
+/**
+ * <p>
+ * 实体缓存失效通知器
+ * </p>
+ * 用于将本节点的缓存失效事件通知给集群中的其他节点
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface EntityCacheBroadcaster {
+
+	/**
+	 * 通知其他节点使缓存失效
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键，为null时表示该类所有的缓存都失效
+	 */
+	void publish(Class<?> clazz, Object primaryKey);
+}
@@ -0,0 +1,93 @@
+package com.yishuifengxiao.common.jdbc.cache.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.yishuifengxiao.common.jdbc.cache.EntityCache;
+import com.yishuifengxiao.common.jdbc.cache.EntityCacheBroadcaster;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 基于Redis发布订阅的实体缓存失效通知器
+ * </p>
+ * 消息的格式为 节点标识 + 制表符 + POJO类的名字 [+ 制表符 + 主键]，节点会忽略自己发出的消息
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class RedisEntityCacheBroadcaster implements EntityCacheBroadcaster, MessageListener {
+
+	private static final String SEPARATOR = "\t";
+
+	/**
+	 * 当前节点的标识
+	 */
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final StringRedisTemplate redisTemplate;
+
+	private final String topic;
+
+	private final EntityCache entityCache;
+
+	/**
+	 * 构建一个基于Redis发布订阅的实体缓存失效通知器
+	 * 
+	 * @param redisTemplate StringRedisTemplate
+	 * @param topic         发布订阅的通道名字
+	 * @param entityCache   本节点的实体缓存
+	 */
+	public RedisEntityCacheBroadcaster(StringRedisTemplate redisTemplate, String topic, EntityCache entityCache) {
+		Assert.notNull(redisTemplate, "【yishuifengxiao-common-spring-boot-starter】StringRedisTemplate不能为空");
+		Assert.hasText(topic, "【yishuifengxiao-common-spring-boot-starter】缓存失效通道不能为空");
+		this.redisTemplate = redisTemplate;
+		this.topic = topic;
+		this.entityCache = entityCache;
+	}
+
+	/**
+	 * 通知其他节点使缓存失效
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键，为null时表示该类所有的缓存都失效
+	 */
+	@Override
+	public void publish(Class<?> clazz, Object primaryKey) {
+		StringBuilder message = new StringBuilder(this.nodeId).append(SEPARATOR).append(clazz.getName());
+		if (null != primaryKey) {
+			message.append(SEPARATOR).append(primaryKey);
+		}
+		this.redisTemplate.convertAndSend(this.topic, message.toString());
+	}
+
+	/**
+	 * 处理其他节点发出的失效通知
+	 * 
+	 * @param message 消息
+	 * @param pattern 匹配的通道
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+		if (parts.length < 2 || StringUtils.equals(this.nodeId, parts[0])) {
+			return;
+		}
+		try {
+			Class<?> clazz = ClassUtils.forName(parts[1], ClassUtils.getDefaultClassLoader());
+			this.entityCache.evictLocal(clazz, parts.length > 2 ? parts[2] : null);
+		} catch (ClassNotFoundException | LinkageError e) {
+			log.debug("【yishuifengxiao-common-spring-boot-starter】忽略未知的POJO类 {} 的缓存失效通知", parts[1]);
+		}
+	}
+}
@@ -0,0 +1,316 @@
+package com.yishuifengxiao.common.jdbc.cache.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ReflectionUtils;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.yishuifengxiao.common.jdbc.cache.CacheableEntity;
+import com.yishuifengxiao.common.jdbc.cache.EntityCache;
+import com.yishuifengxiao.common.jdbc.cache.EntityCacheBroadcaster;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 系统实体缓存
+ * </p>
+ * <p>
+ * 每一个POJO类使用一个独立的本地缓存，容量和过期时间优先使用 {@link CacheableEntity} 注解中的配置，其次使用全局配置。
+ * 查询结果为null时不会被缓存。
+ * </p>
+ * 主键以字符串形式进行比较，因此 1 与 1L 会被视为同一个主键；在事务中查询到的数据不会写入缓存，避免缓存未提交的数据。<br/>
+ * 写入和读取缓存时都会复制数据，调用者修改查询结果不会影响缓存中的数据
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class SimpleEntityCache implements EntityCache {
+
+	private final FieldExtractor fieldExtractor = new SimpleFieldExtractor();
+
+	/**
+	 * 每一个POJO类对应的缓存，没有开启缓存的类对应的值为空
+	 */
+	private final Map<Class<?>, Optional<Cache<String, Object>>> caches = new ConcurrentHashMap<>();
+
+	private final Duration ttl;
+
+	private final long maximumSize;
+
+	/**
+	 * 在配置中声明的需要缓存的POJO类的名字
+	 */
+	private final Set<String> classNames;
+
+	private volatile EntityCacheBroadcaster broadcaster;
+
+	/**
+	 * 构建一个实体缓存
+	 * 
+	 * @param ttl         默认的缓存过期时间
+	 * @param maximumSize 每一个POJO类默认最多缓存的记录数量
+	 * @param classNames  需要缓存的POJO类的名字
+	 */
+	public SimpleEntityCache(Duration ttl, long maximumSize, Collection<String> classNames) {
+		this.ttl = null == ttl ? Duration.ofMinutes(10L) : ttl;
+		this.maximumSize = maximumSize <= 0 ? 10000L : maximumSize;
+		this.classNames = null == classNames ? new HashSet<>() : new HashSet<>(classNames);
+	}
+
+	/**
+	 * 判断一个POJO类是否开启了缓存
+	 * 
+	 * @param clazz POJO类
+	 * @return 开启了缓存时返回为true
+	 */
+	@Override
+	public boolean isCacheable(Class<?> clazz) {
+		return null != clazz && this.cache(clazz).isPresent();
+	}
+
+	/**
+	 * 根据主键获取一条数据，缓存中不存在时通过loader查询
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 * @param loader     数据查询函数
+	 * @return 查询到的数据
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> T get(Class<T> clazz, Object primaryKey, Function<Object, T> loader) {
+		Optional<Cache<String, Object>> cache = this.cache(clazz);
+		if (null == primaryKey || !cache.isPresent()) {
+			return loader.apply(primaryKey);
+		}
+		String key = String.valueOf(primaryKey);
+		T data = (T) cache.get().getIfPresent(key);
+		if (null == data) {
+			data = loader.apply(primaryKey);
+			this.put(cache.get(), key, data);
+			return data;
+		}
+		return (T) this.copy(data);
+	}
+
+	/**
+	 * 根据一组主键获取数据，缓存中不存在的主键通过loader一次查询
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 * @param loader      数据查询函数
+	 * @return 查询到的数据
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> List<T> getAll(Class<T> clazz, Collection<?> primaryKeys, Function<Collection<?>, List<T>> loader) {
+		Optional<Cache<String, Object>> cache = this.cache(clazz);
+		if (null == primaryKeys || !cache.isPresent()) {
+			return loader.apply(primaryKeys);
+		}
+		Map<String, Object> keys = new LinkedHashMap<>();
+		primaryKeys.stream().filter(Objects::nonNull).forEach(v -> keys.putIfAbsent(String.valueOf(v), v));
+		List<T> list = new ArrayList<>(keys.size());
+		List<Object> misses = new ArrayList<>();
+		keys.forEach((k, v) -> {
+			Object data = cache.get().getIfPresent(k);
+			if (null == data) {
+				misses.add(v);
+			} else {
+				list.add((T) this.copy(data));
+			}
+		});
+		if (!misses.isEmpty()) {
+			String primaryKey = this.fieldExtractor.extractMetadata(clazz).getPrimaryKey().getName();
+			for (T data : loader.apply(misses)) {
+				this.put(cache.get(), String.valueOf(this.fieldExtractor.extractValue(data, primaryKey)), data);
+				list.add(data);
+			}
+		}
+		return list;
+	}
+
+	/**
+	 * 使一条数据的缓存失效，并通知其他节点；在事务中时事务结束后会再次失效
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 */
+	@Override
+	public void evict(Class<?> clazz, Object primaryKey) {
+		if (null == primaryKey || !this.isCacheable(clazz)) {
+			return;
+		}
+		this.invalidate(clazz, primaryKey);
+	}
+
+	/**
+	 * 使一个POJO类所有的缓存失效，并通知其他节点；在事务中时事务结束后会再次失效
+	 * 
+	 * @param clazz POJO类
+	 */
+	@Override
+	public void evictAll(Class<?> clazz) {
+		if (!this.isCacheable(clazz)) {
+			return;
+		}
+		this.invalidate(clazz, null);
+	}
+
+	/**
+	 * 只使本节点的缓存失效，用于处理其他节点的失效通知
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键，为null时表示该类所有的缓存都失效
+	 */
+	@Override
+	public void evictLocal(Class<?> clazz, Object primaryKey) {
+		Optional<Cache<String, Object>> cache = null == clazz ? Optional.empty() : this.caches.get(clazz);
+		if (null == cache || !cache.isPresent()) {
+			return;
+		}
+		if (null == primaryKey) {
+			cache.get().invalidateAll();
+		} else {
+			cache.get().invalidate(String.valueOf(primaryKey));
+		}
+	}
+
+	/**
+	 * 获取每一个POJO类对应的缓存统计信息，包含命中、未命中和淘汰的次数
+	 * 
+	 * @return 缓存统计信息
+	 */
+	@Override
+	public Map<Class<?>, CacheStats> stats() {
+		return this.caches.entrySet().stream().filter(v -> v.getValue().isPresent())
+				.collect(Collectors.toMap(Map.Entry::getKey, v -> v.getValue().get().stats()));
+	}
+
+	/**
+	 * 设置缓存失效通知器
+	 * 
+	 * @param broadcaster 缓存失效通知器
+	 */
+	@Override
+	public void setBroadcaster(EntityCacheBroadcaster broadcaster) {
+		this.broadcaster = broadcaster;
+	}
+
+	/**
+	 * 使缓存失效并通知其他节点
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键，为null时表示该类所有的缓存都失效
+	 */
+	private void invalidate(Class<?> clazz, Object primaryKey) {
+		this.evictLocal(clazz, primaryKey);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			// 事务提交之前其他线程可能已经重新缓存了旧数据，因此事务结束之后需要再次失效
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					evictLocal(clazz, primaryKey);
+					publish(clazz, primaryKey);
+				}
+			});
+			return;
+		}
+		this.publish(clazz, primaryKey);
+	}
+
+	/**
+	 * 通知其他节点使缓存失效
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键，为null时表示该类所有的缓存都失效
+	 */
+	private void publish(Class<?> clazz, Object primaryKey) {
+		EntityCacheBroadcaster broadcaster = this.broadcaster;
+		if (null == broadcaster) {
+			return;
+		}
+		try {
+			broadcaster.publish(clazz, primaryKey);
+		} catch (RuntimeException e) {
+			log.warn("【yishuifengxiao-common-spring-boot-starter】通知其他节点使 {} 的缓存失效时出现问题，问题为 {}", clazz.getName(),
+					e.getMessage());
+		}
+	}
+
+	/**
+	 * 将一条数据写入缓存，在事务中时不写入
+	 * 
+	 * @param cache 缓存
+	 * @param key   主键
+	 * @param data  数据
+	 */
+	private void put(Cache<String, Object> cache, String key, Object data) {
+		if (null == data || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return;
+		}
+		cache.put(key, this.copy(data));
+	}
+
+	/**
+	 * <p>
+	 * 复制一条数据
+	 * </p>
+	 * 缓存中的数据与调用者持有的数据不能是同一个实例，否则调用者修改查询结果时会同时修改所有线程看到的缓存数据。<br/>
+	 * 复制时只复制属性的值(浅复制)，属性本身为可变对象(例如Date)时仍然是同一个实例
+	 * 
+	 * @param data 数据
+	 * @return 复制后的数据
+	 */
+	private Object copy(Object data) {
+		Object copy = BeanUtils.instantiateClass(data.getClass());
+		ReflectionUtils.shallowCopyFieldState(data, copy);
+		return copy;
+	}
+
+	/**
+	 * 获取一个POJO类对应的缓存
+	 * 
+	 * @param clazz POJO类
+	 * @return POJO类对应的缓存，没有开启缓存时为空
+	 */
+	private Optional<Cache<String, Object>> cache(Class<?> clazz) {
+		return this.caches.computeIfAbsent(clazz, k -> {
+			CacheableEntity annotation = k.getAnnotation(CacheableEntity.class);
+			if (null == annotation && !this.classNames.contains(k.getName())) {
+				return Optional.empty();
+			}
+			long ttl = null == annotation || annotation.ttl() <= 0 ? this.ttl.toMillis()
+					: TimeUnit.SECONDS.toMillis(annotation.ttl());
+			long maximumSize = null == annotation || annotation.maximumSize() <= 0 ? this.maximumSize
+					: annotation.maximumSize();
+			return Optional.of(CacheBuilder.newBuilder().maximumSize(maximumSize)
+					.expireAfterWrite(ttl, TimeUnit.MILLISECONDS).recordStats().build());
+		});
+	}
+}
@@ -0,0 +1,46 @@
+package com.yishuifengxiao.common.jdbc.entity;
+
+/**
+ * 聚合函数
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum Aggregation {
+
+	/**
+	 * 求和
+	 */
+	SUM("sum"),
+
+	/**
+	 * 平均值
+	 */
+	AVG("avg"),
+
+	/**
+	 * 最小值
+	 */
+	MIN("min"),
+
+	/**
+	 * 最大值
+	 */
+	MAX("max");
+
+	private final String function;
+
+	Aggregation(String function) {
+		this.function = function;
+	}
+
+	/**
+	 * 获取聚合函数在SQL语句中的名字
+	 * 
+	 * @return 聚合函数在SQL语句中的名字
+	 */
+	public String getFunction() {
+		return function;
+	}
+}
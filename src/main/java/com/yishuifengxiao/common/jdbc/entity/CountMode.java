@@ -0,0 +1,35 @@
+package com.yishuifengxiao.common.jdbc.entity;
+
+/**
+ * <p>
+ * 分页查询时总记录数量的统计方式
+ * </p>
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum CountMode {
+	/**
+	 * 先查询分页数据，再精确统计总记录数量
+	 */
+	EXACT,
+	/**
+	 * <p>
+	 * 不统计总记录数量，只需要一次数据库交互
+	 * </p>
+	 * 通过多查询一条记录判断是否还有下一页，此时返回的总记录数量为已经读取到的记录数量(存在下一页时再加一)，只能用于判断是否还有下一页
+	 */
+	NONE,
+	/**
+	 * <p>
+	 * 使用不同的数据库连接同时查询分页数据和总记录数量，在事务中时退化为 EXACT 方式
+	 * </p>
+	 * 总记录数量在共用的线程池中统计，不要在该线程池执行的任务中使用该方式，否则线程池的线程全部等待统计结果时统计任务无法被执行
+	 */
+	CONCURRENT,
+	/**
+	 * 总记录数量优先从短期缓存中获取，缓存中不存在时才精确统计，适用于对总记录数量实时性要求不高的场景
+	 */
+	CACHED;
+}
@@ -0,0 +1,129 @@
+package com.yishuifengxiao.common.jdbc.entity;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * <p>
+ * POJO类的元数据
+ * </p>
+ * 包含POJO类对应的数据表的名字、主键以及所有按顺序排列的列信息，每个POJO类只会解析一次，解析完成后不可修改，可以在多个线程之间无锁共享
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Getter
+public final class EntityMetadata implements Serializable {
+
+	private static final long serialVersionUID = -2374095137446358791L;
+
+	/**
+	 * POJO类
+	 */
+	private final Class<?> clazz;
+
+	/**
+	 * POJO类对应的数据表的名字
+	 */
+	private final String tableName;
+
+	/**
+	 * POJO类的主键字段信息
+	 */
+	private final FieldValue primaryKey;
+
+	/**
+	 * 主键在所有列中的序号，不存在时为-1
+	 */
+	private final int primaryKeyIndex;
+
+	/**
+	 * POJO类所有按顺序排列的字段属性
+	 */
+	private final List<FieldValue> fields;
+
+	/**
+	 * 属性的名字与序号之间的对应关系
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<String, Integer> index;
+
+	/**
+	 * 小写的属性的名字与序号之间的对应关系
+	 */
+	@Getter(AccessLevel.NONE)
+	private final Map<String, Integer> lowerCaseIndex;
+
+	public EntityMetadata(Class<?> clazz, String tableName, FieldValue primaryKey, List<FieldValue> fields) {
+		this.clazz = clazz;
+		this.tableName = tableName;
+		this.primaryKey = primaryKey;
+		this.fields = Collections.unmodifiableList(fields);
+		Map<String, Integer> index = new HashMap<>(fields.size() * 2);
+		Map<String, Integer> lowerCaseIndex = new HashMap<>(fields.size() * 2);
+		for (int i = 0; i < fields.size(); i++) {
+			index.putIfAbsent(fields.get(i).getName(), i);
+			lowerCaseIndex.putIfAbsent(fields.get(i).getName().toLowerCase(), i);
+		}
+		this.index = index;
+		this.lowerCaseIndex = lowerCaseIndex;
+		Integer primaryKeyIndex = null == primaryKey ? null : index.get(primaryKey.getName());
+		this.primaryKeyIndex = null == primaryKeyIndex ? -1 : primaryKeyIndex;
+	}
+
+	/**
+	 * 根据POJO类属性的名字(忽略大小写)获取其在所有列中的序号
+	 *
+	 * @param name POJO类属性的名字
+	 * @return 在所有列中的序号，不存在时为-1
+	 */
+	public int indexOf(String name) {
+		if (null == name) {
+			return -1;
+		}
+		Integer i = this.index.get(name);
+		if (null == i) {
+			i = this.lowerCaseIndex.get(name.trim().toLowerCase());
+		}
+		return null == i ? -1 : i;
+	}
+
+	/**
+	 * 根据POJO类属性的名字(忽略大小写)获取其字段信息
+	 *
+	 * @param name POJO类属性的名字
+	 * @return 字段信息，不存在时为null
+	 */
+	public FieldValue getField(String name) {
+		int i = this.indexOf(name);
+		return i < 0 ? null : this.fields.get(i);
+	}
+
+	/**
+	 * 根据POJO类属性的名字(忽略大小写)获取其在数据库里对应的列的名字
+	 *
+	 * @param name POJO类属性的名字
+	 * @return 数据库里对应的列的名字，不存在时为null
+	 */
+	public String getColName(String name) {
+		int i = this.indexOf(name);
+		return i < 0 ? null : this.fields.get(i).getSimpleName();
+	}
+
+	/**
+	 * 获取POJO类所有字段属性的数量
+	 *
+	 * @return 字段属性的数量
+	 */
+	public int size() {
+		return this.fields.size();
+	}
+
+}
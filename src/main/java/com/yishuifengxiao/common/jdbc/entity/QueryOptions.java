@@ -0,0 +1,72 @@
+package com.yishuifengxiao.common.jdbc.entity;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * <p>
+ * 语句执行选项
+ * </p>
+ * 用于限制单条语句的执行时间和返回的数据量，避免一个没有命中索引的查询长时间占用连接池中的连接。<br/>
+ * 所有的属性为null时表示使用驱动的默认值
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Accessors(chain = true)
+public class QueryOptions implements Serializable {
+
+	private static final long serialVersionUID = -2291645238129861453L;
+
+	/**
+	 * 语句的最长执行时间，超过之后语句会被取消，精确到秒
+	 */
+	private Duration queryTimeout;
+
+	/**
+	 * 每次从数据库中获取的记录数量
+	 */
+	private Integer fetchSize;
+
+	/**
+	 * 查询语句最多返回的记录数量，超过的记录会被数据库直接丢弃
+	 */
+	private Integer maxRows;
+
+	/**
+	 * 与另一组执行选项合并，另一组执行选项中不为null的属性优先
+	 *
+	 * @param other 另一组执行选项
+	 * @return 合并后的执行选项
+	 */
+	public QueryOptions merge(QueryOptions other) {
+		if (null == other) {
+			return this;
+		}
+		return new QueryOptions(null == other.queryTimeout ? this.queryTimeout : other.queryTimeout,
+				null == other.fetchSize ? this.fetchSize : other.fetchSize,
+				null == other.maxRows ? this.maxRows : other.maxRows);
+	}
+
+	/**
+	 * 获取以秒为单位的最长执行时间，不足一秒时按一秒计算
+	 *
+	 * @return 以秒为单位的最长执行时间，未设置时为0
+	 */
+	public int timeoutSeconds() {
+		if (null == queryTimeout || queryTimeout.isZero() || queryTimeout.isNegative()) {
+			return 0;
+		}
+		return (int) Math.max(1L, (queryTimeout.toMillis() + 999L) / 1000L);
+	}
+
+}
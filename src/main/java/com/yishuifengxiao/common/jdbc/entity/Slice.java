@@ -0,0 +1,55 @@
+package com.yishuifengxiao.common.jdbc.entity;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * <p>
+ * 游标分页查询结果
+ * </p>
+ * 与基于偏移量的分页不同，游标分页通过上一页最后一条记录的排序值和主键定位下一页的起始位置，
+ * 因此无论翻到多深的位置查询耗时都基本保持不变，但是只能连续地向后翻页
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ * @param <T> 数据的类型
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Accessors(chain = true)
+public class Slice<T> implements Serializable {
+
+	private static final long serialVersionUID = 6052946498305287011L;
+
+	/**
+	 * 当前页的数据
+	 */
+	private List<T> data = new ArrayList<>();
+
+	/**
+	 * 当前页的最大记录数量
+	 */
+	private int size;
+
+	/**
+	 * 是否还有下一页
+	 */
+	private boolean hasNext;
+
+	/**
+	 * <p>
+	 * 查询下一页时使用的游标，没有下一页时为null
+	 * </p>
+	 * 未指定排序条件或者按照主键排序时为最后一条记录的主键值，否则为由最后一条记录的排序属性值和主键值组成的数组
+	 */
+	private Object nextKey;
+
+}
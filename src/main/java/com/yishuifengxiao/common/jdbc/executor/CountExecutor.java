@@ -0,0 +1,48 @@
+package com.yishuifengxiao.common.jdbc.executor;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * <p>
+ * 记录数量统计执行器
+ * </p>
+ * 负责在分页查询时以异步或者缓存的方式统计总记录数量
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface CountExecutor {
+
+	/**
+	 * 异步统计数据记录的总条数，在事务中或者没有可用的线程池时会在当前线程中执行
+	 * 
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param executeExecutor 语句执行器
+	 * @param sql             最终执行的sql语句
+	 * @param args            最终执行的sql语句对应的参数
+	 * @return 数据记录的总条数
+	 */
+	CompletableFuture<Long> countAsync(JdbcTemplate jdbcTemplate, ExecuteExecutor executeExecutor, String sql,
+			List<Object> args);
+
+	/**
+	 * 优先从缓存中获取数据记录的总条数，缓存中不存在时再统计
+	 * 
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param executeExecutor 语句执行器
+	 * @param sql             最终执行的sql语句
+	 * @param args            最终执行的sql语句对应的参数
+	 * @return 数据记录的总条数
+	 */
+	long countCached(JdbcTemplate jdbcTemplate, ExecuteExecutor executeExecutor, String sql, List<Object> args);
+
+	/**
+	 * 清空缓存的数据记录的总条数
+	 */
+	void clear();
+
+}
@@ -1,8 +1,13 @@
 package com.yishuifengxiao.common.jdbc.executor;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
 
 /**
  * <p>
@@ -26,6 +31,17 @@ public interface ExecuteExecutor {
 	 */
 	int execute(JdbcTemplate jdbcTemplate, StringBuilder sql, List<Object> args);
 
+	/**
+	 * 批量执行非查询语句
+	 * 
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param sql          最终执行的sql语句
+	 * @param batchArgs    每一次执行对应的参数
+	 * @param batchSize    每一批提交的最大记录数量
+	 * @return 每一次执行受影响的记录的数量，顺序与参数的顺序一致
+	 */
+	int[] batchExecute(JdbcTemplate jdbcTemplate, String sql, List<Object[]> batchArgs, int batchSize);
+
 	/**
 	 * 查询数据记录的总条数
 	 * 
@@ -36,6 +52,30 @@ public interface ExecuteExecutor {
 	 */
 	long countAll(JdbcTemplate jdbcTemplate, String sql, List<Object> args);
 
+	/**
+	 * 查询一个单行单列的值
+	 * 
+	 * @param <R>          结果的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param type         结果的类型
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @return 查询到的值，没有值时为null
+	 */
+	<R> R queryForValue(JdbcTemplate jdbcTemplate, Class<R> type, String sql, List<Object> args);
+
+	/**
+	 * 查询分组统计结果，结果集的第一列为分组的值，第二列为记录数量
+	 * 
+	 * @param <K>          分组的值的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param keyType      分组的值的类型
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @return 每一个分组的值对应的记录数量
+	 */
+	<K> Map<K, Long> groupCount(JdbcTemplate jdbcTemplate, Class<K> keyType, String sql, List<Object> args);
+
 	/**
 	 * 查询所有的符合条件的记录
 	 * 
@@ -48,4 +88,59 @@ public interface ExecuteExecutor {
 	 */
 	<T> List<T> findAll(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args);
 
+	/**
+	 * 以流的方式查询所有的符合条件的记录
+	 * <p>
+	 * 使用只读且只能向前移动的游标逐批读取记录，记录在流被消费时才会被转换，使用完成后必须关闭该流以释放数据库资源
+	 * </p>
+	 * 
+	 * @param <T>          查询的结果数据的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param clazz        查询的数据的类型
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @param fetchSize    每次从数据库中获取的记录数量，为0时使用驱动的默认值
+	 * @return 所有的符合条件的记录组成的流
+	 */
+	<T> Stream<T> stream(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args, int fetchSize);
+
+	/**
+	 * 查询所有的符合条件的记录，每一条记录使用指定的映射器转换
+	 * 
+	 * @param <R>          查询的结果数据的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param rowMapper    记录映射器
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @return 所有的符合条件的记录
+	 */
+	<R> List<R> query(JdbcTemplate jdbcTemplate, RowMapper<R> rowMapper, String sql, List<Object> args);
+
+	/**
+	 * <p>
+	 * 获取一个使用指定执行选项的语句执行器
+	 * </p>
+	 * 指定的执行选项中不为null的属性覆盖当前执行器的执行选项，当前执行器不受影响。<br/>
+	 * 不支持执行选项的语句执行器直接返回自身
+	 * 
+	 * @param options 执行选项
+	 * @return 使用指定执行选项的语句执行器
+	 */
+	default ExecuteExecutor withOptions(QueryOptions options) {
+		return this;
+	}
+
+	/**
+	 * <p>
+	 * 判断指定的表是否为分片表
+	 * </p>
+	 * 分片表的语句在独立的数据源中执行，不会参与当前线程的事务
+	 * 
+	 * @param tableName 表名
+	 * @return 是分片表时返回为true
+	 */
+	default boolean isSharded(String tableName) {
+		return false;
+	}
+
 }
@@ -0,0 +1,54 @@
+package com.yishuifengxiao.common.jdbc.executor;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * <p>
+ * 主键批量加载器
+ * </p>
+ * 在一个很短的时间窗口内收集所有根据主键查询的请求，合并为一条 in 查询语句之后再将结果分发给各个调用者。<br/>
+ * 同一个主键在查询完成之前只会查询一次，所有等待该主键的调用者共享同一个查询结果。
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface PrimaryKeyLoader {
+
+	/**
+	 * 异步根据主键查询一条数据，在事务中时会直接在当前线程中查询
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 * @return 查询到的数据，不存在时结果为null
+	 */
+	<T> CompletableFuture<T> load(Class<T> clazz, Object primaryKey);
+
+	/**
+	 * 根据主键查询一条数据，查询完成之前会阻塞当前线程
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 * @return 查询到的数据
+	 */
+	<T> T get(Class<T> clazz, Object primaryKey);
+
+	/**
+	 * 根据一组主键查询数据，查询完成之前会阻塞当前线程
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 * @return 查询到的数据，顺序与主键的顺序一致，不存在的数据会被忽略
+	 */
+	<T> List<T> getAll(Class<T> clazz, Collection<?> primaryKeys);
+
+	/**
+	 * 立即执行所有还在等待中的查询请求，适用于在一个请求作用域结束时主动触发查询
+	 */
+	void dispatch();
+}
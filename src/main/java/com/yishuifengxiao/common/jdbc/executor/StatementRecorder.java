@@ -0,0 +1,25 @@
+package com.yishuifengxiao.common.jdbc.executor;
+
+/**
+ * <p>
+ * 语句执行情况记录器
+ * </p>
+ * 每一条语句执行完成之后被调用一次，用于将执行耗时和结果数量输出到监控系统
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface StatementRecorder {
+
+	/**
+	 * 记录一条语句的执行情况
+	 * 
+	 * @param table     语句操作的表，无法识别时为 unknown
+	 * @param operation 操作类型，即语句执行器中对应的方法的名字
+	 * @param elapsed   执行耗时，单位为纳秒
+	 * @param rows      返回或受影响的记录数量，执行失败时为-1
+	 * @param success   是否执行成功
+	 */
+	void record(String table, String operation, long elapsed, int rows, boolean success);
+}
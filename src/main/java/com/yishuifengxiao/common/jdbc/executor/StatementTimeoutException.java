@@ -0,0 +1,42 @@
+package com.yishuifengxiao.common.jdbc.executor;
+
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * <p>
+ * 语句执行超时异常
+ * </p>
+ * 语句的执行时间超过了 QueryOptions 中设置的最长执行时间，已经被数据库取消
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class StatementTimeoutException extends QueryTimeoutException {
+
+	private static final long serialVersionUID = 4390274361805521837L;
+
+	/**
+	 * 被取消的sql语句
+	 */
+	private final String sql;
+
+	/**
+	 * 以秒为单位的最长执行时间
+	 */
+	private final int timeout;
+
+	public StatementTimeoutException(String sql, int timeout, Throwable cause) {
+		super("【yishuifengxiao-common-spring-boot-starter】语句执行超过 " + timeout + " 秒后被取消，sql语句为 " + sql, cause);
+		this.sql = sql;
+		this.timeout = timeout;
+	}
+
+	public String getSql() {
+		return sql;
+	}
+
+	public int getTimeout() {
+		return timeout;
+	}
+}
@@ -0,0 +1,72 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.yishuifengxiao.common.jdbc.executor.StatementRecorder;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * <p>
+ * 基于Micrometer的语句执行情况记录器
+ * </p>
+ * 输出以下指标，均带有 table 和 operation 标签：
+ * <ul>
+ * <li>yishuifengxiao.jdbc.statements 语句执行耗时，另外带有 outcome 标签区分成功(success)和失败(error)</li>
+ * <li>yishuifengxiao.jdbc.rows 每一条语句返回或受影响的记录数量</li>
+ * </ul>
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class MicrometerStatementRecorder implements StatementRecorder {
+
+	private final MeterRegistry registry;
+
+	/**
+	 * 已经注册的指标，避免每次记录时重新构建指标的标识
+	 */
+	private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+	public MicrometerStatementRecorder(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Override
+	public void record(String table, String operation, long elapsed, int rows, boolean success) {
+		Meters meter = meters.computeIfAbsent(table + ":" + operation, k -> new Meters(table, operation));
+		if (success) {
+			meter.success.record(elapsed, TimeUnit.NANOSECONDS);
+			meter.rows.record(rows);
+		} else {
+			meter.error.record(elapsed, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	/**
+	 * 一个表的一种操作对应的所有指标
+	 */
+	private final class Meters {
+
+		private final Timer success;
+
+		private final Timer error;
+
+		private final DistributionSummary rows;
+
+		Meters(String table, String operation) {
+			this.success = Timer.builder("yishuifengxiao.jdbc.statements").tag("table", table)
+					.tag("operation", operation).tag("outcome", "success").register(registry);
+			this.error = Timer.builder("yishuifengxiao.jdbc.statements").tag("table", table)
+					.tag("operation", operation).tag("outcome", "error").register(registry);
+			this.rows = DistributionSummary.builder("yishuifengxiao.jdbc.rows").tag("table", table)
+					.tag("operation", operation).publishPercentileHistogram().register(registry);
+		}
+	}
+
+}
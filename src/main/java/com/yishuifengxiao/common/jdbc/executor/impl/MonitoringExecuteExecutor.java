@@ -0,0 +1,204 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.stream.Stream;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
+import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.StatementRecorder;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 带监控的语句执行器
+ * </p>
+ * 包装另一个语句执行器，记录每一条语句的执行耗时和结果数量，执行耗时超过阈值的语句按照采样比例输出WARN日志。<br/>
+ * 只有开启了监控或者配置了慢语句阈值时才会使用该执行器，未开启时语句执行路径上没有任何额外的开销。<br/>
+ * 流式查询只在打开游标时计时，不包含消费数据的耗时
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class MonitoringExecuteExecutor implements ExecuteExecutor {
+
+	/**
+	 * 每一条语句操作的表
+	 */
+	private final Cache<String, String> tables;
+
+	private final ExecuteExecutor delegate;
+
+	/**
+	 * 语句执行情况记录器，为null时只输出慢语句日志
+	 */
+	private final StatementRecorder recorder;
+
+	/**
+	 * 慢语句阈值，单位为纳秒，小于等于0时不输出慢语句日志
+	 */
+	private final long slowThreshold;
+
+	/**
+	 * 慢语句日志的采样比例，取值范围为 [0, 1]
+	 */
+	private final double sampleRate;
+
+	/**
+	 * 创建一个带监控的语句执行器
+	 * 
+	 * @param delegate      实际执行语句的执行器
+	 * @param recorder      语句执行情况记录器，为null时只输出慢语句日志
+	 * @param slowThreshold 慢语句阈值，为null时不输出慢语句日志
+	 * @param sampleRate    慢语句日志的采样比例，取值范围为 [0, 1]
+	 */
+	public MonitoringExecuteExecutor(ExecuteExecutor delegate, StatementRecorder recorder, Duration slowThreshold,
+			double sampleRate) {
+		Assert.notNull(delegate, "【yishuifengxiao-common-spring-boot-starter】语句执行器不能为空");
+		this.delegate = delegate;
+		this.recorder = recorder;
+		this.slowThreshold = null == slowThreshold ? 0L : slowThreshold.toNanos();
+		this.sampleRate = Math.max(0D, Math.min(1D, sampleRate));
+		this.tables = CacheBuilder.newBuilder().maximumSize(4096).build();
+	}
+
+	/**
+	 * 创建一个与另一个带监控的语句执行器共享监控配置的语句执行器
+	 * 
+	 * @param delegate 实际执行语句的执行器
+	 * @param source   另一个带监控的语句执行器
+	 */
+	private MonitoringExecuteExecutor(ExecuteExecutor delegate, MonitoringExecuteExecutor source) {
+		this.delegate = delegate;
+		this.recorder = source.recorder;
+		this.slowThreshold = source.slowThreshold;
+		this.sampleRate = source.sampleRate;
+		this.tables = source.tables;
+	}
+
+	@Override
+	public ExecuteExecutor withOptions(QueryOptions options) {
+		ExecuteExecutor executor = delegate.withOptions(options);
+		return executor == delegate ? this : new MonitoringExecuteExecutor(executor, this);
+	}
+
+	@Override
+	public boolean isSharded(String tableName) {
+		return delegate.isSharded(tableName);
+	}
+
+	@Override
+	public int execute(JdbcTemplate jdbcTemplate, StringBuilder sql, List<Object> args) {
+		String statement = sql.toString();
+		return this.monitor("execute", statement, null == args ? 0 : args.size(),
+				() -> delegate.execute(jdbcTemplate, sql, args), count -> count);
+	}
+
+	@Override
+	public int[] batchExecute(JdbcTemplate jdbcTemplate, String sql, List<Object[]> batchArgs, int batchSize) {
+		return this.monitor("batchExecute", sql, batchArgs.isEmpty() ? 0 : batchArgs.get(0).length,
+				() -> delegate.batchExecute(jdbcTemplate, sql, batchArgs, batchSize),
+				// 驱动无法获取受影响的记录数量时返回负数，不计入其中
+				counts -> Arrays.stream(counts).filter(count -> count > 0).sum());
+	}
+
+	@Override
+	public long countAll(JdbcTemplate jdbcTemplate, String sql, List<Object> args) {
+		return this.monitor("countAll", sql, null == args ? 0 : args.size(),
+				() -> delegate.countAll(jdbcTemplate, sql, args), count -> 1);
+	}
+
+	@Override
+	public <R> R queryForValue(JdbcTemplate jdbcTemplate, Class<R> type, String sql, List<Object> args) {
+		return this.monitor("queryForValue", sql, null == args ? 0 : args.size(),
+				() -> delegate.queryForValue(jdbcTemplate, type, sql, args), value -> null == value ? 0 : 1);
+	}
+
+	@Override
+	public <K> Map<K, Long> groupCount(JdbcTemplate jdbcTemplate, Class<K> keyType, String sql, List<Object> args) {
+		return this.monitor("groupCount", sql, null == args ? 0 : args.size(),
+				() -> delegate.groupCount(jdbcTemplate, keyType, sql, args), Map::size);
+	}
+
+	@Override
+	public <T> List<T> findAll(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args) {
+		return this.monitor("findAll", sql, null == args ? 0 : args.size(),
+				() -> delegate.findAll(jdbcTemplate, clazz, sql, args), List::size);
+	}
+
+	@Override
+	public <T> Stream<T> stream(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args,
+			int fetchSize) {
+		return this.monitor("stream", sql, null == args ? 0 : args.size(),
+				() -> delegate.stream(jdbcTemplate, clazz, sql, args, fetchSize), stream -> 0);
+	}
+
+	@Override
+	public <R> List<R> query(JdbcTemplate jdbcTemplate, RowMapper<R> rowMapper, String sql, List<Object> args) {
+		return this.monitor("query", sql, null == args ? 0 : args.size(),
+				() -> delegate.query(jdbcTemplate, rowMapper, sql, args), List::size);
+	}
+
+	/**
+	 * 执行语句并记录执行情况
+	 * 
+	 * @param <R>       执行结果的类型
+	 * @param operation 操作类型
+	 * @param sql       执行的sql语句
+	 * @param binds     绑定的参数的数量
+	 * @param task      执行语句的任务
+	 * @param rows      根据执行结果计算记录数量的函数
+	 * @return 执行结果
+	 */
+	private <R> R monitor(String operation, String sql, int binds, Supplier<R> task, ToIntFunction<R> rows) {
+		long start = System.nanoTime();
+		R result = null;
+		boolean success = false;
+		try {
+			result = task.get();
+			success = true;
+			return result;
+		} finally {
+			long elapsed = System.nanoTime() - start;
+			int count = success ? rows.applyAsInt(result) : -1;
+			if (null != recorder) {
+				recorder.record(this.table(sql), operation, elapsed, count, success);
+			}
+			if (slowThreshold > 0 && elapsed >= slowThreshold
+					&& (sampleRate >= 1D || ThreadLocalRandom.current().nextDouble() < sampleRate)) {
+				log.warn("【yishuifengxiao-common-spring-boot-starter】慢语句 ({}) 耗时 {} ms ,参数数量为 {} ,记录数量为 {} ,语句为 {}",
+						operation, Duration.ofNanos(elapsed).toMillis(), binds, count, Statements.compact(sql));
+			}
+		}
+	}
+
+	/**
+	 * 获取语句操作的表
+	 * 
+	 * @param sql 执行的sql语句
+	 * @return 语句操作的表
+	 */
+	private String table(String sql) {
+		String table = tables.getIfPresent(sql);
+		if (null == table) {
+			table = Statements.table(sql);
+			tables.put(sql, table);
+		}
+		return table;
+	}
+
+}
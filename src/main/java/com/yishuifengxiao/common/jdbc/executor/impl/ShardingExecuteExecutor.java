@@ -0,0 +1,586 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.Assert;
+import org.springframework.util.NumberUtils;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
+import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.sharding.ShardRule;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 分片语句执行器
+ * </p>
+ * 语句生成部分保持不变，只在执行时根据语句操作的表和分片键的值选择分片：
+ * <ul>
+ * <li>没有配置分片规则的表在传入的JdbcTemplate中执行</li>
+ * <li>插入语句以及筛选条件中以 and 连接了分片键等值比较的语句只在分片键所在的分片中执行</li>
+ * <li>其他语句在所有的分片中并行执行，查询结果合并后重新排序并截取分页范围，统计数量、求和、最大值和最小值会被合并，
+ * 平均值由各个分片的求和与统计数量计算得到</li>
+ * </ul>
+ * 【注意】
+ * <ul>
+ * <li>分片中执行的语句不会参与主库的事务，因此分片表不支持批量导入，也不会使用延迟写入</li>
+ * <li>跨分片的投影查询和流式查询只保证每个分片内部的顺序</li>
+ * </ul>
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class ShardingExecuteExecutor implements ExecuteExecutor, AutoCloseable {
+
+	/**
+	 * 插入语句的列
+	 */
+	private static final Pattern INSERT_COLUMNS = Pattern.compile("^\\s*insert\\s+into\\s+\\S+\\s*\\((.*?)\\)\\s*values",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	/**
+	 * 筛选条件中的 or 连接
+	 */
+	private static final Pattern OR = Pattern.compile("\\bor\\b", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 偏移量分页，依次绑定偏移量和分页大小
+	 */
+	private static final Pattern PAGE = Pattern.compile("limit\\s+\\?\\s*,\\s*\\?\\s*$", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 只限制记录数量的分页
+	 */
+	private static final Pattern TOP = Pattern.compile("limit\\s+\\?\\s*$", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 排序条件
+	 */
+	private static final Pattern ORDER = Pattern.compile("order\\s+by\\s+(.*?)(?:\\slimit\\s.*)?$",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	/**
+	 * 聚合函数
+	 */
+	private static final Pattern AGGREGATE = Pattern.compile("^\\s*select\\s+(count|sum|min|max|avg|1)\\b",
+			Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 每一条语句的路由信息
+	 */
+	private final Cache<String, Route> routes;
+
+	private final ExecuteExecutor delegate;
+
+	/**
+	 * 所有的分片
+	 */
+	private final List<JdbcTemplate> shards;
+
+	/**
+	 * 表名(小写)与分片规则的对应关系
+	 */
+	private final Map<String, ShardRule> rules = new HashMap<>();
+
+	private final FieldExtractor fieldExtractor;
+
+	/**
+	 * 并行执行跨分片语句的线程池，为null时依次在每个分片中执行
+	 */
+	private final Executor executor;
+
+	/**
+	 * 创建一个分片语句执行器
+	 * 
+	 * @param shards         所有的分片
+	 * @param rules          分片规则
+	 * @param fieldExtractor 属性提取器，用于合并查询结果时读取排序属性的值
+	 * @param executor       并行执行跨分片语句的线程池，为null时依次在每个分片中执行
+	 */
+	public ShardingExecuteExecutor(List<JdbcTemplate> shards, Collection<ShardRule> rules,
+			FieldExtractor fieldExtractor, Executor executor) {
+		Assert.notEmpty(shards, "【yishuifengxiao-common-spring-boot-starter】分片不能为空");
+		this.shards = new ArrayList<>(shards);
+		this.routes = CacheBuilder.newBuilder().maximumSize(4096).build();
+		for (ShardRule rule : rules) {
+			this.rules.put(Statements.normalize(rule.getTableName()), rule);
+		}
+		this.fieldExtractor = fieldExtractor;
+		this.executor = executor;
+		this.delegate = new SimpleExecuteExecutor();
+	}
+
+	/**
+	 * 创建一个与另一个分片语句执行器共享分片和路由的语句执行器
+	 * 
+	 * @param delegate 在单个分片中执行语句的执行器
+	 * @param source   另一个分片语句执行器
+	 */
+	private ShardingExecuteExecutor(ExecuteExecutor delegate, ShardingExecuteExecutor source) {
+		this.shards = source.shards;
+		this.rules.putAll(source.rules);
+		this.routes = source.routes;
+		this.fieldExtractor = source.fieldExtractor;
+		this.executor = source.executor;
+		this.delegate = delegate;
+	}
+
+	/**
+	 * 获取一个与当前执行器共享分片和路由、在单个分片中使用指定执行器执行语句的分片语句执行器
+	 * 
+	 * @param delegate 在单个分片以及非分片表中执行语句的执行器
+	 * @return 分片语句执行器
+	 */
+	public ShardingExecuteExecutor wrap(ExecuteExecutor delegate) {
+		Assert.notNull(delegate, "【yishuifengxiao-common-spring-boot-starter】语句执行器不能为空");
+		return new ShardingExecuteExecutor(delegate, this);
+	}
+
+	@Override
+	public boolean isSharded(String tableName) {
+		return null != tableName && rules.containsKey(Statements.normalize(tableName));
+	}
+
+	@Override
+	public ExecuteExecutor withOptions(QueryOptions options) {
+		ExecuteExecutor executor = delegate.withOptions(options);
+		return executor == delegate ? this : new ShardingExecuteExecutor(executor, this);
+	}
+
+	@Override
+	public int execute(JdbcTemplate jdbcTemplate, StringBuilder sql, List<Object> args) {
+		Route route = this.route(sql.toString());
+		if (null == route.rule) {
+			return delegate.execute(jdbcTemplate, sql, args);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.execute(this.shard(route, args.get(route.keyIndex)), sql, args);
+		}
+		return this.scatter(shard -> delegate.execute(shard, sql, args)).stream().mapToInt(Integer::intValue).sum();
+	}
+
+	@Override
+	public int[] batchExecute(JdbcTemplate jdbcTemplate, String sql, List<Object[]> batchArgs, int batchSize) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.batchExecute(jdbcTemplate, sql, batchArgs, batchSize);
+		}
+		int[] counts = new int[batchArgs.size()];
+		if (route.keyIndex < 0) {
+			for (int[] result : this.scatter(shard -> delegate.batchExecute(shard, sql, batchArgs, batchSize))) {
+				for (int i = 0; i < counts.length; i++) {
+					counts[i] = merge(counts[i], result[i]);
+				}
+			}
+			return counts;
+		}
+		// 按照分片拆分参数，执行之后按照原来的顺序填回结果
+		Map<Integer, List<Integer>> positions = new LinkedHashMap<>();
+		for (int i = 0; i < batchArgs.size(); i++) {
+			int shard = this.shardIndex(route, batchArgs.get(i)[route.keyIndex]);
+			positions.computeIfAbsent(shard, k -> new ArrayList<>()).add(i);
+		}
+		for (Map.Entry<Integer, List<Integer>> entry : positions.entrySet()) {
+			List<Object[]> args = entry.getValue().stream().map(batchArgs::get).collect(Collectors.toList());
+			int[] result = delegate.batchExecute(shards.get(entry.getKey()), sql, args, batchSize);
+			for (int i = 0; i < result.length; i++) {
+				counts[entry.getValue().get(i)] = result[i];
+			}
+		}
+		return counts;
+	}
+
+	@Override
+	public long countAll(JdbcTemplate jdbcTemplate, String sql, List<Object> args) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.countAll(jdbcTemplate, sql, args);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.countAll(this.shard(route, args.get(route.keyIndex)), sql, args);
+		}
+		return this.scatter(shard -> delegate.countAll(shard, sql, args)).stream().mapToLong(Long::longValue).sum();
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Override
+	public <R> R queryForValue(JdbcTemplate jdbcTemplate, Class<R> type, String sql, List<Object> args) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.queryForValue(jdbcTemplate, type, sql, args);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.queryForValue(this.shard(route, args.get(route.keyIndex)), type, sql, args);
+		}
+		Matcher matcher = AGGREGATE.matcher(sql);
+		Assert.isTrue(matcher.find(), "【yishuifengxiao-common-spring-boot-starter】不支持跨分片执行该语句 " + sql);
+		String function = matcher.group(1).toLowerCase();
+		if ("avg".equals(function)) {
+			return this.avg(type, sql, args, matcher);
+		}
+		List<R> values = this.scatter(shard -> delegate.queryForValue(shard, type, sql, args)).stream()
+				.filter(v -> null != v).collect(Collectors.toList());
+		if (values.isEmpty()) {
+			return null;
+		}
+		switch (function) {
+		case "count":
+		case "sum":
+			BigDecimal sum = values.stream().map(v -> new BigDecimal(v.toString())).reduce(BigDecimal.ZERO,
+					BigDecimal::add);
+			return (R) NumberUtils.convertNumberToTargetClass(sum, (Class) type);
+		case "min":
+			return values.stream().min((a, b) -> ((Comparable) a).compareTo(b)).orElse(null);
+		case "max":
+			return values.stream().max((a, b) -> ((Comparable) a).compareTo(b)).orElse(null);
+		default:
+			return values.get(0);
+		}
+	}
+
+	@Override
+	public <K> Map<K, Long> groupCount(JdbcTemplate jdbcTemplate, Class<K> keyType, String sql, List<Object> args) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.groupCount(jdbcTemplate, keyType, sql, args);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.groupCount(this.shard(route, args.get(route.keyIndex)), keyType, sql, args);
+		}
+		Map<K, Long> result = new LinkedHashMap<>();
+		for (Map<K, Long> counts : this.scatter(shard -> delegate.groupCount(shard, keyType, sql, args))) {
+			counts.forEach((k, v) -> result.merge(k, v, Long::sum));
+		}
+		return result;
+	}
+
+	@Override
+	public <T> List<T> findAll(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.findAll(jdbcTemplate, clazz, sql, args);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.findAll(this.shard(route, args.get(route.keyIndex)), clazz, sql, args);
+		}
+		// 每个分片都需要返回截止到当前页末尾的所有记录，合并排序之后再截取当前页
+		int offset = 0;
+		int limit = Integer.MAX_VALUE;
+		List<Object> shardArgs = args;
+		if (route.page || route.top) {
+			shardArgs = new ArrayList<>(args);
+			limit = ((Number) args.get(args.size() - 1)).intValue();
+			if (route.page) {
+				offset = ((Number) args.get(args.size() - 2)).intValue();
+				shardArgs.set(args.size() - 2, 0);
+			}
+			shardArgs.set(args.size() - 1, offset + limit);
+		}
+		List<Object> finalArgs = shardArgs;
+		List<T> list = this.scatter(shard -> delegate.findAll(shard, clazz, sql, finalArgs)).stream()
+				.flatMap(List::stream).collect(Collectors.toList());
+		Comparator<T> comparator = this.comparator(clazz, route.orders);
+		if (null != comparator) {
+			list.sort(comparator);
+		}
+		if (offset >= list.size()) {
+			return new ArrayList<>();
+		}
+		return new ArrayList<>(list.subList(offset, (int) Math.min(list.size(), (long) offset + limit)));
+	}
+
+	@Override
+	public <T> Stream<T> stream(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args,
+			int fetchSize) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.stream(jdbcTemplate, clazz, sql, args, fetchSize);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.stream(this.shard(route, args.get(route.keyIndex)), clazz, sql, args, fetchSize);
+		}
+		// 依次读取每个分片，前一个分片读取完成并关闭之后才会打开下一个分片的游标
+		return shards.stream().flatMap(shard -> delegate.stream(shard, clazz, sql, args, fetchSize));
+	}
+
+	@Override
+	public <R> List<R> query(JdbcTemplate jdbcTemplate, RowMapper<R> rowMapper, String sql, List<Object> args) {
+		Route route = this.route(sql);
+		if (null == route.rule) {
+			return delegate.query(jdbcTemplate, rowMapper, sql, args);
+		}
+		if (route.keyIndex >= 0) {
+			return delegate.query(this.shard(route, args.get(route.keyIndex)), rowMapper, sql, args);
+		}
+		return this.scatter(shard -> delegate.query(shard, rowMapper, sql, args)).stream().flatMap(List::stream)
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * <p>
+	 * 计算跨分片的平均值
+	 * </p>
+	 * 在每个分片中分别计算求和与非null值的数量，合并之后相除，结果保留的小数位数比求和结果多4位，与MySQL的默认行为一致
+	 * 
+	 * @param type    平均值的类型
+	 * @param sql     计算平均值的语句
+	 * @param args    语句的参数
+	 * @param matcher 语句中聚合函数的位置
+	 * @return 平均值，没有非null值时为null
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <R> R avg(Class<R> type, String sql, List<Object> args, Matcher matcher) {
+		String sumSql = sql.substring(0, matcher.start(1)) + "sum" + sql.substring(matcher.end(1));
+		String countSql = sql.substring(0, matcher.start(1)) + "count" + sql.substring(matcher.end(1));
+		BigDecimal sum = BigDecimal.ZERO;
+		long count = 0L;
+		for (Object[] result : this.scatter(shard -> new Object[] {
+				delegate.queryForValue(shard, BigDecimal.class, sumSql, args),
+				delegate.queryForValue(shard, Long.class, countSql, args) })) {
+			if (null != result[0]) {
+				sum = sum.add((BigDecimal) result[0]);
+			}
+			count += null == result[1] ? 0L : (Long) result[1];
+		}
+		if (count == 0L) {
+			return null;
+		}
+		BigDecimal avg = sum.divide(BigDecimal.valueOf(count), Math.max(sum.scale(), 0) + 4, RoundingMode.HALF_UP);
+		return (R) NumberUtils.convertNumberToTargetClass(avg, (Class) type);
+	}
+
+	/**
+	 * <p>
+	 * 合并同一条语句在不同分片中的受影响记录数量
+	 * </p>
+	 * 任意一个分片执行失败时结果为 {@link Statement#EXECUTE_FAILED}，否则任意一个分片无法获取数量时结果为
+	 * {@link Statement#SUCCESS_NO_INFO}，都能获取数量时结果为数量之和
+	 * 
+	 * @param total 已经合并的数量
+	 * @param count 当前分片的数量
+	 * @return 合并之后的数量
+	 */
+	private static int merge(int total, int count) {
+		if (Statement.EXECUTE_FAILED == total || Statement.EXECUTE_FAILED == count) {
+			return Statement.EXECUTE_FAILED;
+		}
+		if (Statement.SUCCESS_NO_INFO == total || Statement.SUCCESS_NO_INFO == count) {
+			return Statement.SUCCESS_NO_INFO;
+		}
+		return total + count;
+	}
+
+	/**
+	 * 关闭所有分片的数据源
+	 */
+	@Override
+	public void close() {
+		for (JdbcTemplate shard : shards) {
+			if (shard.getDataSource() instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) shard.getDataSource()).close();
+				} catch (Exception e) {
+					log.warn("【yishuifengxiao-common-spring-boot-starter】关闭分片 {} 时出现问题 {}", shard.getDataSource(),
+							e.getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * 在所有的分片中执行同一个任务
+	 * 
+	 * @param <R>  执行结果的类型
+	 * @param task 任务
+	 * @return 每个分片的执行结果，顺序与分片的顺序一致
+	 */
+	private <R> List<R> scatter(Function<JdbcTemplate, R> task) {
+		if (null == executor || shards.size() == 1) {
+			return shards.stream().map(task).collect(Collectors.toList());
+		}
+		List<CompletableFuture<R>> futures = shards.stream()
+				.map(shard -> CompletableFuture.supplyAsync(() -> task.apply(shard), executor))
+				.collect(Collectors.toList());
+		try {
+			return futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+		} catch (CompletionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 获取分片键的值对应的分片
+	 */
+	private JdbcTemplate shard(Route route, Object value) {
+		return shards.get(this.shardIndex(route, value));
+	}
+
+	/**
+	 * 获取分片键的值对应的分片的序号
+	 */
+	private int shardIndex(Route route, Object value) {
+		Assert.notNull(value, "【yishuifengxiao-common-spring-boot-starter】表 " + route.rule.getTableName() + " 的分片键 "
+				+ route.rule.getColumn() + " 的值不能为空");
+		int index = route.rule.getStrategy().shard(value, shards.size());
+		log.trace("【yishuifengxiao-common-spring-boot-starter】分片键的值 {} 对应的分片为 {}", value, index);
+		return index;
+	}
+
+	/**
+	 * 根据排序条件生成合并查询结果时使用的比较器
+	 * 
+	 * @param clazz  查询的数据的类型
+	 * @param orders 排序条件，每一项为列名和是否降序
+	 * @return 比较器，没有排序条件时为null
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private <T> Comparator<T> comparator(Class<T> clazz, List<String[]> orders) {
+		if (orders.isEmpty()) {
+			return null;
+		}
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+		Comparator<T> comparator = null;
+		for (String[] order : orders) {
+			String name = metadata.getFields().stream()
+					.filter(f -> StringUtils.equalsIgnoreCase(f.getSimpleName(), order[0])).map(FieldValue::getName)
+					.findFirst().orElse(order[0]);
+			Comparator<T> current = Comparator.comparing(t -> (Comparable) fieldExtractor.extractValue(t, name),
+					Comparator.nullsFirst(Comparator.naturalOrder()));
+			if (Boolean.parseBoolean(order[1])) {
+				current = current.reversed();
+			}
+			comparator = null == comparator ? current : comparator.thenComparing(current);
+		}
+		return comparator;
+	}
+
+	/**
+	 * 获取语句的路由信息
+	 */
+	private Route route(String sql) {
+		if (rules.isEmpty()) {
+			return Route.NONE;
+		}
+		try {
+			return routes.get(sql, () -> this.analyze(sql));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 分析语句操作的表、分片键参数的位置、分页方式和排序条件
+	 */
+	private Route analyze(String sql) {
+		ShardRule rule = rules.get(Statements.table(sql));
+		if (null == rule) {
+			return Route.NONE;
+		}
+		Route route = new Route(rule);
+		Matcher insert = INSERT_COLUMNS.matcher(sql);
+		if (insert.find()) {
+			String[] columns = insert.group(1).split(",");
+			for (int i = 0; i < columns.length; i++) {
+				if (Statements.normalize(columns[i]).equals(Statements.normalize(rule.getColumn()))) {
+					route.keyIndex = i;
+				}
+			}
+			Assert.isTrue(route.keyIndex >= 0, "【yishuifengxiao-common-spring-boot-starter】插入表 " + rule.getTableName()
+					+ " 的数据时分片键 " + rule.getColumn() + " 的值不能为空");
+			return route;
+		}
+
+		int where = StringUtils.indexOfIgnoreCase(sql, " where ");
+		if (where >= 0 && !OR.matcher(sql.substring(where)).find()) {
+			Matcher key = Pattern.compile("\\band\\s+[`\"]?" + Pattern.quote(rule.getColumn()) + "[`\"]?\\s*=\\s*\\?",
+					Pattern.CASE_INSENSITIVE).matcher(sql);
+			if (key.find(where)) {
+				route.keyIndex = StringUtils.countMatches(sql.substring(0, key.end()), "?") - 1;
+			}
+		}
+		route.page = PAGE.matcher(sql).find();
+		route.top = !route.page && TOP.matcher(sql).find();
+		Matcher order = ORDER.matcher(sql);
+		if (order.find()) {
+			for (String item : order.group(1).split(",")) {
+				String[] parts = item.trim().split("\\s+");
+				if (StringUtils.isNotBlank(parts[0])) {
+					route.orders.add(new String[] { Statements.normalize(parts[0]),
+							String.valueOf(parts.length > 1 && "desc".equalsIgnoreCase(parts[1])) });
+				}
+			}
+		}
+		return route;
+	}
+
+	/**
+	 * 语句的路由信息
+	 */
+	private static final class Route {
+
+		private static final Route NONE = new Route(null);
+
+		/**
+		 * 分片规则，为null时表示不是分片表
+		 */
+		private final ShardRule rule;
+
+		/**
+		 * 分片键参数的位置，为-1时表示需要在所有的分片中执行
+		 */
+		private int keyIndex = -1;
+
+		/**
+		 * 是否为偏移量分页
+		 */
+		private boolean page;
+
+		/**
+		 * 是否为只限制记录数量的分页
+		 */
+		private boolean top;
+
+		/**
+		 * 排序条件，每一项为列名和是否降序
+		 */
+		private final List<String[]> orders = new ArrayList<>();
+
+		Route(ShardRule rule) {
+			this.rule = rule;
+		}
+	}
+
+}
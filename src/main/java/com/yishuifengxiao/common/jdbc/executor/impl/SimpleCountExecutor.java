@@ -0,0 +1,118 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.yishuifengxiao.common.jdbc.executor.CountExecutor;
+import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
+
+/**
+ * <p>
+ * 系统记录数量统计执行器
+ * </p>
+ * 缓存的总记录数量以执行的sql语句和参数作为索引，在过期时间到达之后自动失效
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SimpleCountExecutor implements CountExecutor {
+
+	/**
+	 * 异步统计时使用的线程池，为null时在当前线程中执行
+	 */
+	private final Executor executor;
+
+	private final Cache<List<Object>, Long> cache;
+
+	/**
+	 * 构建一个不使用线程池、缓存过期时间为30秒的记录数量统计执行器
+	 */
+	public SimpleCountExecutor() {
+		this(null, Duration.ofSeconds(30L), 1000L);
+	}
+
+	/**
+	 * 构建一个记录数量统计执行器
+	 * 
+	 * @param executor    异步统计时使用的线程池，为null时在当前线程中执行
+	 * @param ttl         缓存的过期时间
+	 * @param maximumSize 最多缓存的记录数量
+	 */
+	public SimpleCountExecutor(Executor executor, Duration ttl, long maximumSize) {
+		this.executor = executor;
+		this.cache = CacheBuilder.newBuilder().maximumSize(maximumSize)
+				.expireAfterWrite(null == ttl ? 30000L : ttl.toMillis(), TimeUnit.MILLISECONDS).build();
+	}
+
+	/**
+	 * <p>
+	 * 异步统计数据记录的总条数，在事务中或者没有可用的线程池时会在当前线程中执行
+	 * </p>
+	 * 在该线程池执行的任务中调用并等待统计结果时，线程池的线程全部处于等待状态会导致统计任务无法被执行
+	 * 
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param executeExecutor 语句执行器
+	 * @param sql             最终执行的sql语句
+	 * @param args            最终执行的sql语句对应的参数
+	 * @return 数据记录的总条数
+	 */
+	@Override
+	public CompletableFuture<Long> countAsync(JdbcTemplate jdbcTemplate, ExecuteExecutor executeExecutor, String sql,
+			List<Object> args) {
+		// 事务中的查询必须使用同一个连接，否则无法读取到事务中未提交的数据
+		if (null == this.executor || TransactionSynchronizationManager.isActualTransactionActive()) {
+			CompletableFuture<Long> future = new CompletableFuture<>();
+			try {
+				future.complete(executeExecutor.countAll(jdbcTemplate, sql, args));
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			return future;
+		}
+		return CompletableFuture.supplyAsync(() -> executeExecutor.countAll(jdbcTemplate, sql, args), this.executor);
+	}
+
+	/**
+	 * 优先从缓存中获取数据记录的总条数，缓存中不存在时再统计
+	 * 
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param executeExecutor 语句执行器
+	 * @param sql             最终执行的sql语句
+	 * @param args            最终执行的sql语句对应的参数
+	 * @return 数据记录的总条数
+	 */
+	@Override
+	public long countCached(JdbcTemplate jdbcTemplate, ExecuteExecutor executeExecutor, String sql,
+			List<Object> args) {
+		List<Object> key = Arrays.asList(sql, null == args ? new ArrayList<>() : new ArrayList<>(args));
+		try {
+			return this.cache.get(key, () -> executeExecutor.countAll(jdbcTemplate, sql, args));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 清空缓存的数据记录的总条数
+	 */
+	@Override
+	public void clear() {
+		this.cache.invalidateAll();
+	}
+
+}
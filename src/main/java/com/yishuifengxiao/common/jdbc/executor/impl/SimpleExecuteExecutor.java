@@ -1,17 +1,46 @@
 package com.yishuifengxiao.common.jdbc.executor.impl;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.SingleColumnRowMapper;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.support.JdbcUtils;
 
+import com.yishuifengxiao.common.jdbc.entity.QueryOptions;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.StatementTimeoutException;
+import com.yishuifengxiao.common.jdbc.mapper.EntityRowMapper;
 
 import lombok.extern.slf4j.Slf4j;
 
 /**
+ * <p>
  * 系统语句执行器
+ * </p>
+ * 所有语句都会应用执行选项中的最长执行时间，查询语句还会应用每次获取的记录数量和最多返回的记录数量
  * 
  * @author yishui
  * @version 1.0.0
@@ -20,6 +49,34 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SimpleExecuteExecutor implements ExecuteExecutor {
 
+	/**
+	 * 语句被取消时各个数据库返回的SQLState，例如PostgreSQL的 57014 和SQL Server的 HYT00
+	 */
+	private static final Set<String> TIMEOUT_SQL_STATES = new HashSet<>(Arrays.asList("57014", "HYT00", "HYT01"));
+
+	/**
+	 * 执行语句时使用的执行选项
+	 */
+	private final QueryOptions options;
+
+	public SimpleExecuteExecutor() {
+		this(null);
+	}
+
+	/**
+	 * 创建一个使用指定执行选项的语句执行器
+	 * 
+	 * @param options 执行选项，为null时使用驱动的默认值
+	 */
+	public SimpleExecuteExecutor(QueryOptions options) {
+		this.options = null == options ? new QueryOptions() : options;
+	}
+
+	@Override
+	public ExecuteExecutor withOptions(QueryOptions options) {
+		return null == options ? this : new SimpleExecuteExecutor(this.options.merge(options));
+	}
+
 	/**
 	 * 执行非查询语句
 	 * 
@@ -30,17 +87,57 @@ public class SimpleExecuteExecutor implements ExecuteExecutor {
 	 */
 	@Override
 	public int execute(JdbcTemplate jdbcTemplate, StringBuilder sql, List<Object> args) {
-		log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】  (执行sql)  ============= start ================ ");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】  (执行sql) 执行的sql语句为 {}", sql);
-		log.trace("【yishuifengxiao-common-spring-boot-starter】   (执行sql) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
-		int count = jdbcTemplate.update(sql.toString(), this.list2Array(args));
-		log.trace("【yishuifengxiao-common-spring-boot-starter】   (执行sql) 执行的sql语句对应的结果为 {}", count);
-		log.trace("【yishuifengxiao-common-spring-boot-starter】   (执行sql) ============= end  ================ ");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (执行sql)  ============= start ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (执行sql) 执行的sql语句为 {}", sql);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】   (执行sql) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
+		}
+		String statement = sql.toString();
+		int count = this.run(statement, () -> jdbcTemplate.update(this.creator(statement, args, null)));
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】   (执行sql) 执行的sql语句对应的结果为 {}", count);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】   (执行sql) ============= end  ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		}
 		return count;
 	}
 
+	/**
+	 * 批量执行非查询语句
+	 * 
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param sql          最终执行的sql语句
+	 * @param batchArgs    每一次执行对应的参数
+	 * @param batchSize    每一批提交的最大记录数量
+	 * @return 每一次执行受影响的记录的数量，顺序与参数的顺序一致
+	 */
+	@Override
+	public int[] batchExecute(JdbcTemplate jdbcTemplate, String sql, List<Object[]> batchArgs, int batchSize) {
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (批量执行sql)  ============= start ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (批量执行sql) 执行的sql语句为 {}", sql);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (批量执行sql) 执行的记录数量为 {} ,每一批的数量为 {}", batchArgs.size(), batchSize);
+		}
+		int[] counts = new int[batchArgs.size()];
+		batchSize = batchSize <= 0 ? batchArgs.size() : batchSize;
+		for (int from = 0; from < batchArgs.size(); from += batchSize) {
+			int to = Math.min(from + batchSize, batchArgs.size());
+			List<Object[]> batch = batchArgs.subList(from, to);
+			PreparedStatementCreator creator = new OptionsPreparedStatementCreator(sql,
+					new ArgumentPreparedStatementSetter(null), options.timeoutSeconds(), null, null);
+			int[] result = this.run(sql, () -> jdbcTemplate.execute(creator, this.batchCallback(batch)));
+			System.arraycopy(result, 0, counts, from, Math.min(result.length, to - from));
+		}
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (批量执行sql) 执行的sql语句对应的结果为 {}", counts);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (批量执行sql) ============= end  ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		}
+		return counts;
+	}
+
 	/**
 	 * 查询数据记录的总条数
 	 * 
@@ -51,14 +148,19 @@ public class SimpleExecuteExecutor implements ExecuteExecutor {
 	 */
 	@Override
 	public long countAll(JdbcTemplate jdbcTemplate, String sql, List<Object> args) {
-		log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) ============= start ================ ");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) 执行的sql语句为 {}", sql);
-		log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
-		long count = jdbcTemplate.queryForObject(sql, Long.class, this.list2Array(args));
-		log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) 执行的sql语句对应的结果为 {}", count);
-		log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) ============= end  ================ ");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) ============= start ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) 执行的sql语句为 {}", sql);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
+		}
+		long count = this.run(sql, () -> DataAccessUtils.nullableSingleResult(
+				jdbcTemplate.query(this.creator(sql, args, null), new SingleColumnRowMapper<>(Long.class))));
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) 执行的sql语句对应的结果为 {}", count);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】(查询数量) ============= end  ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		}
 		return count;
 	}
 
@@ -72,20 +174,184 @@ public class SimpleExecuteExecutor implements ExecuteExecutor {
 	 * @param args         最终执行的sql语句对应的参数
 	 * @return 所有的符合条件的记录
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	@Override
 	public <T> List<T> findAll(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args) {
-		log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) ============= start ================ ");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】   (查询记录) 执行的sql语句为 {}", sql);
-		log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
-		List<T> list = jdbcTemplate.query(sql, new BeanPropertyRowMapper(clazz), this.list2Array(args));
-		log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) 执行的sql语句对应的记录的数量为 {} ,对应的结果为 {}", null == list ? 0 : list.size(), list);
-		log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) ============= end  ================ ");
-		log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) ============= start ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】   (查询记录) 执行的sql语句为 {}", sql);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
+		}
+		List<T> list = this.run(sql, () -> jdbcTemplate.query(this.creator(sql, args, null), EntityRowMapper.of(clazz)));
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) 执行的sql语句对应的记录的数量为 {} ,对应的结果为 {}", null == list ? 0 : list.size(), list);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (查询记录) ============= end  ================ ");
+			log.trace("【yishuifengxiao-common-spring-boot-starter】 \r\n");
+		}
 		return list;
 	}
 
+	/**
+	 * 以流的方式查询所有的符合条件的记录
+	 * <p>
+	 * 使用只读且只能向前移动的游标逐批读取记录，记录在流被消费时才会被转换，使用完成后必须关闭该流以释放数据库资源
+	 * </p>
+	 * 
+	 * @param <T>          查询的结果数据的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param clazz        查询的数据的类型
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @param fetchSize    每次从数据库中获取的记录数量，为0时使用驱动的默认值
+	 * @return 所有的符合条件的记录组成的流
+	 */
+	@Override
+	public <T> Stream<T> stream(JdbcTemplate jdbcTemplate, Class<T> clazz, String sql, List<Object> args,
+			int fetchSize) {
+		if (log.isTraceEnabled()) {
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (流式查询) 执行的sql语句为 {} ,每次获取的记录数量为 {}", sql, fetchSize);
+			log.trace("【yishuifengxiao-common-spring-boot-starter】  (流式查询) 执行的sql语句参数数量为 {} ,参数值为 {}", StringUtils.countMatches(sql, "?"), args);
+		}
+		PreparedStatementCreator creator = this.creator(sql, args, 0 == fetchSize ? null : fetchSize);
+		return this.run(sql, () -> jdbcTemplate.queryForStream(creator, EntityRowMapper.of(clazz)));
+	}
+
+	/**
+	 * 查询一个单行单列的值
+	 * 
+	 * @param <R>          结果的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param type         结果的类型
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @return 查询到的值，没有值时为null
+	 */
+	@Override
+	public <R> R queryForValue(JdbcTemplate jdbcTemplate, Class<R> type, String sql, List<Object> args) {
+		log.trace("【yishuifengxiao-common-spring-boot-starter】(聚合查询) 执行的sql语句为 {} ,参数值为 {}", sql, args);
+		List<R> list = this.run(sql,
+				() -> jdbcTemplate.query(this.creator(sql, args, null), new SingleColumnRowMapper<>(type)));
+		return DataAccessUtils.singleResult(list);
+	}
+
+	/**
+	 * 查询所有的符合条件的记录，每一条记录使用指定的映射器转换
+	 * 
+	 * @param <R>          查询的结果数据的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param rowMapper    记录映射器
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @return 所有的符合条件的记录
+	 */
+	@Override
+	public <R> List<R> query(JdbcTemplate jdbcTemplate, RowMapper<R> rowMapper, String sql, List<Object> args) {
+		log.trace("【yishuifengxiao-common-spring-boot-starter】(投影查询) 执行的sql语句为 {} ,参数值为 {}", sql, args);
+		return this.run(sql, () -> jdbcTemplate.query(this.creator(sql, args, null), rowMapper));
+	}
+
+	/**
+	 * 查询分组统计结果，结果集的第一列为分组的值，第二列为记录数量
+	 * 
+	 * @param <K>          分组的值的类型
+	 * @param jdbcTemplate JdbcTemplate
+	 * @param keyType      分组的值的类型
+	 * @param sql          最终执行的sql语句
+	 * @param args         最终执行的sql语句对应的参数
+	 * @return 每一个分组的值对应的记录数量
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <K> Map<K, Long> groupCount(JdbcTemplate jdbcTemplate, Class<K> keyType, String sql, List<Object> args) {
+		log.trace("【yishuifengxiao-common-spring-boot-starter】(分组统计) 执行的sql语句为 {} ,参数值为 {}", sql, args);
+		Map<K, Long> result = new LinkedHashMap<>();
+		return this.run(sql, () -> {
+			jdbcTemplate.query(this.creator(sql, args, null), (RowCallbackHandler) rs -> {
+				result.put((K) JdbcUtils.getResultSetValue(rs, 1, keyType), rs.getLong(2));
+			});
+			return result;
+		});
+	}
+
+	/**
+	 * 创建一个应用了执行选项的语句创建器
+	 * 
+	 * @param sql       最终执行的sql语句
+	 * @param args      最终执行的sql语句对应的参数
+	 * @param fetchSize 执行选项中未指定时每次从数据库中获取的记录数量，为null时使用驱动的默认值
+	 * @return 语句创建器
+	 */
+	private PreparedStatementCreator creator(String sql, List<Object> args, Integer fetchSize) {
+		return new OptionsPreparedStatementCreator(sql, new ArgumentPreparedStatementSetter(this.list2Array(args)),
+				options.timeoutSeconds(), null == options.getFetchSize() ? fetchSize : options.getFetchSize(),
+				options.getMaxRows());
+	}
+
+	/**
+	 * 创建一个批量执行语句的回调，驱动不支持批量执行时逐条执行
+	 * 
+	 * @param batchArgs 每一次执行对应的参数
+	 * @return 批量执行语句的回调
+	 */
+	private PreparedStatementCallback<int[]> batchCallback(List<Object[]> batchArgs) {
+		return ps -> {
+			int[] result = new int[batchArgs.size()];
+			boolean batchSupported = JdbcUtils.supportsBatchUpdates(ps.getConnection());
+			for (int i = 0; i < batchArgs.size(); i++) {
+				ArgumentPreparedStatementSetter setter = new ArgumentPreparedStatementSetter(batchArgs.get(i));
+				setter.setValues(ps);
+				if (batchSupported) {
+					ps.addBatch();
+				} else {
+					result[i] = ps.executeUpdate();
+				}
+				setter.cleanupParameters();
+			}
+			return batchSupported ? ps.executeBatch() : result;
+		};
+	}
+
+	/**
+	 * 执行语句，语句因为超过最长执行时间被取消时转换为 StatementTimeoutException
+	 * 
+	 * @param <R>    执行结果的类型
+	 * @param sql    最终执行的sql语句
+	 * @param action 执行语句的操作
+	 * @return 执行结果
+	 */
+	private <R> R run(String sql, Supplier<R> action) {
+		try {
+			return action.get();
+		} catch (DataAccessException e) {
+			int timeout = options.timeoutSeconds();
+			if (timeout > 0 && !(e instanceof StatementTimeoutException) && this.isTimeout(e)) {
+				throw new StatementTimeoutException(sql, timeout, e);
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 判断异常是否由语句执行超时导致
+	 * 
+	 * @param e 执行语句时出现的异常
+	 * @return 由语句执行超时导致时返回为true
+	 */
+	private boolean isTimeout(DataAccessException e) {
+		if (e instanceof QueryTimeoutException) {
+			return true;
+		}
+		for (Throwable cause = e.getCause(); null != cause; cause = cause.getCause()) {
+			if (cause instanceof SQLTimeoutException) {
+				return true;
+			}
+			if (cause instanceof SQLException && TIMEOUT_SQL_STATES.contains(((SQLException) cause).getSQLState())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * 将链表转换成数组
 	 * 
@@ -105,4 +371,57 @@ public class SimpleExecuteExecutor implements ExecuteExecutor {
 		return array;
 	}
 
+	/**
+	 * 应用了执行选项的语句创建器，同时提供sql语句用于异常信息
+	 */
+	private static final class OptionsPreparedStatementCreator
+			implements PreparedStatementCreator, SqlProvider, ParameterDisposer {
+
+		private final String sql;
+
+		private final ArgumentPreparedStatementSetter setter;
+
+		private final int timeout;
+
+		private final Integer fetchSize;
+
+		private final Integer maxRows;
+
+		OptionsPreparedStatementCreator(String sql, ArgumentPreparedStatementSetter setter, int timeout,
+				Integer fetchSize, Integer maxRows) {
+			this.sql = sql;
+			this.setter = setter;
+			this.timeout = timeout;
+			this.fetchSize = fetchSize;
+			this.maxRows = maxRows;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+			PreparedStatement ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			// JdbcTemplate在事务设置了超时时间时会使用事务剩余的时间覆盖这里的设置
+			if (timeout > 0) {
+				ps.setQueryTimeout(timeout);
+			}
+			if (null != fetchSize) {
+				ps.setFetchSize(fetchSize);
+			}
+			if (null != maxRows && maxRows > 0) {
+				ps.setMaxRows(maxRows);
+			}
+			setter.setValues(ps);
+			return ps;
+		}
+
+		@Override
+		public String getSql() {
+			return sql;
+		}
+
+		@Override
+		public void cleanupParameters() {
+			setter.cleanupParameters();
+		}
+	}
+
 }
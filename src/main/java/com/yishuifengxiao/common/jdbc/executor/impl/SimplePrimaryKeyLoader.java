@@ -0,0 +1,315 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.yishuifengxiao.common.jdbc.JdbcHelper;
+import com.yishuifengxiao.common.jdbc.executor.PrimaryKeyLoader;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 系统主键批量加载器
+ * </p>
+ * <p>
+ * 第一个请求到达之后开始计时，时间窗口结束或者等待中的主键数量达到上限时，同一个POJO类的所有主键合并为一次
+ * {@link JdbcHelper#findByPrimaryKeys(Class, java.util.Collection)} 查询。
+ * </p>
+ * 主键以字符串形式进行比较，因此 1 与 1L 会被视为同一个主键
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class SimplePrimaryKeyLoader implements PrimaryKeyLoader, AutoCloseable {
+
+	private final FieldExtractor fieldExtractor = new SimpleFieldExtractor();
+
+	private final JdbcHelper jdbcHelper;
+
+	/**
+	 * 执行查询时使用的线程池，为null时在调度线程中执行
+	 */
+	private final Executor executor;
+
+	private final long window;
+
+	private final int maxBatchSize;
+
+	private final ScheduledExecutorService scheduler;
+
+	/**
+	 * 所有等待中或者查询中的主键，用于合并相同主键的请求
+	 */
+	private final Map<Key, CompletableFuture<Object>> futures = new ConcurrentHashMap<>();
+
+	/**
+	 * 每一个POJO类对应的等待中的请求
+	 */
+	private final Map<Class<?>, List<Request>> pending = new HashMap<>();
+
+	/**
+	 * 构建一个主键批量加载器
+	 * 
+	 * @param jdbcHelper   JdbcTemplate操作工具
+	 * @param executor     执行查询时使用的线程池，为null时在调度线程中执行
+	 * @param window       收集请求的时间窗口
+	 * @param maxBatchSize 一次查询中最多包含的主键的数量
+	 */
+	public SimplePrimaryKeyLoader(JdbcHelper jdbcHelper, Executor executor, Duration window, int maxBatchSize) {
+		Assert.notNull(jdbcHelper, "【yishuifengxiao-common-spring-boot-starter】JdbcHelper不能为空");
+		this.jdbcHelper = jdbcHelper;
+		this.executor = executor;
+		this.window = null == window ? 2000L : Math.max(window.toNanos() / 1000L, 0L);
+		this.maxBatchSize = maxBatchSize <= 0 ? 500 : maxBatchSize;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(
+				new ThreadFactoryBuilder().setNameFormat("jdbc-primary-key-loader-%d").setDaemon(true).build());
+	}
+
+	/**
+	 * 异步根据主键查询一条数据，在事务中时会直接在当前线程中查询
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 * @return 查询到的数据，不存在时结果为null
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> CompletableFuture<T> load(Class<T> clazz, Object primaryKey) {
+		Assert.notNull(clazz, "【yishuifengxiao-common-spring-boot-starter】POJO类不能为空");
+		Assert.notNull(primaryKey, "【yishuifengxiao-common-spring-boot-starter】主键不能为空");
+		// 事务中的查询必须使用同一个连接，否则无法读取到事务中未提交的数据
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			CompletableFuture<T> future = new CompletableFuture<>();
+			try {
+				future.complete(this.jdbcHelper.findByPrimaryKey(clazz, primaryKey));
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+			return future;
+		}
+		Key key = new Key(clazz, primaryKey);
+		CompletableFuture<Object> future = new CompletableFuture<>();
+		CompletableFuture<Object> existing = this.futures.putIfAbsent(key, future);
+		if (null != existing) {
+			return (CompletableFuture<T>) existing;
+		}
+		future.whenComplete((v, e) -> this.futures.remove(key, future));
+
+		List<Request> full = null;
+		synchronized (this.pending) {
+			List<Request> requests = this.pending.computeIfAbsent(clazz, k -> new ArrayList<>());
+			requests.add(new Request(key, primaryKey, future));
+			if (requests.size() >= this.maxBatchSize) {
+				full = this.pending.remove(clazz);
+			} else if (requests.size() == 1) {
+				this.scheduler.schedule(() -> this.dispatch(clazz), this.window, TimeUnit.MICROSECONDS);
+			}
+		}
+		if (null != full) {
+			this.submit(clazz, full);
+		}
+		return (CompletableFuture<T>) future;
+	}
+
+	/**
+	 * 根据主键查询一条数据，查询完成之前会阻塞当前线程
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键
+	 * @return 查询到的数据
+	 */
+	@Override
+	public <T> T get(Class<T> clazz, Object primaryKey) {
+		return this.join(this.load(clazz, primaryKey));
+	}
+
+	/**
+	 * 根据一组主键查询数据，查询完成之前会阻塞当前线程
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param primaryKeys 主键
+	 * @return 查询到的数据，顺序与主键的顺序一致，不存在的数据会被忽略
+	 */
+	@Override
+	public <T> List<T> getAll(Class<T> clazz, Collection<?> primaryKeys) {
+		if (null == primaryKeys || primaryKeys.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<CompletableFuture<T>> list = primaryKeys.stream().filter(Objects::nonNull)
+				.map(v -> this.load(clazz, v)).collect(Collectors.toList());
+		return list.stream().map(this::join).filter(Objects::nonNull).collect(Collectors.toList());
+	}
+
+	/**
+	 * 立即执行所有还在等待中的查询请求，适用于在一个请求作用域结束时主动触发查询
+	 */
+	@Override
+	public void dispatch() {
+		Map<Class<?>, List<Request>> all;
+		synchronized (this.pending) {
+			all = new LinkedHashMap<>(this.pending);
+			this.pending.clear();
+		}
+		all.forEach(this::submit);
+	}
+
+	/**
+	 * 执行所有等待中的请求并停止调度线程
+	 */
+	@Override
+	public void close() {
+		this.dispatch();
+		this.scheduler.shutdown();
+	}
+
+	/**
+	 * 时间窗口结束时执行一个POJO类对应的等待中的请求
+	 * 
+	 * @param clazz POJO类
+	 */
+	private void dispatch(Class<?> clazz) {
+		List<Request> requests;
+		synchronized (this.pending) {
+			requests = this.pending.remove(clazz);
+		}
+		if (null != requests) {
+			this.submit(clazz, requests);
+		}
+	}
+
+	/**
+	 * 提交一批请求
+	 * 
+	 * @param clazz    POJO类
+	 * @param requests 请求
+	 */
+	private void submit(Class<?> clazz, List<Request> requests) {
+		Runnable task = () -> this.execute(clazz, requests);
+		try {
+			if (null == this.executor) {
+				this.scheduler.execute(task);
+			} else {
+				this.executor.execute(task);
+			}
+		} catch (RuntimeException e) {
+			// 线程池已经关闭或者已满时在当前线程中执行
+			task.run();
+		}
+	}
+
+	/**
+	 * 将一批请求合并为一次查询，并将结果分发给各个请求
+	 * 
+	 * @param clazz    POJO类
+	 * @param requests 请求
+	 */
+	private void execute(Class<?> clazz, List<Request> requests) {
+		try {
+			List<?> list = this.jdbcHelper.findByPrimaryKeys(clazz,
+					requests.stream().map(v -> v.primaryKey).collect(Collectors.toList()));
+			String primaryKey = this.fieldExtractor.extractMetadata(clazz).getPrimaryKey().getName();
+			Map<String, Object> loaded = new HashMap<>(list.size() * 2);
+			for (Object data : list) {
+				loaded.put(String.valueOf(this.fieldExtractor.extractValue(data, primaryKey)), data);
+			}
+			log.trace("【yishuifengxiao-common-spring-boot-starter】合并查询 {} 的 {} 个主键，查询到 {} 条记录", clazz.getName(),
+					requests.size(), list.size());
+			requests.forEach(v -> v.future.complete(loaded.get(v.key.primaryKey)));
+		} catch (Throwable e) {
+			requests.forEach(v -> v.future.completeExceptionally(e));
+		}
+	}
+
+	/**
+	 * 等待查询完成，并还原查询过程中抛出的异常
+	 * 
+	 * @param <T>    POJO类
+	 * @param future 查询结果
+	 * @return 查询到的数据
+	 */
+	private <T> T join(CompletableFuture<T> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw e;
+		}
+	}
+
+	/**
+	 * 一个等待中的请求
+	 */
+	private static class Request {
+
+		private final Key key;
+
+		private final Object primaryKey;
+
+		private final CompletableFuture<Object> future;
+
+		Request(Key key, Object primaryKey, CompletableFuture<Object> future) {
+			this.key = key;
+			this.primaryKey = primaryKey;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * 请求的索引
+	 */
+	private static final class Key {
+
+		private final Class<?> clazz;
+
+		private final String primaryKey;
+
+		Key(Class<?> clazz, Object primaryKey) {
+			this.clazz = clazz;
+			this.primaryKey = String.valueOf(primaryKey);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * this.clazz.hashCode() + this.primaryKey.hashCode();
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.clazz == other.clazz && this.primaryKey.equals(other.primaryKey);
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 从生成的SQL语句中提取信息的工具
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class Statements {
+
+	/**
+	 * 语句操作的表
+	 */
+	private static final Pattern TABLE = Pattern.compile(
+			"^\\s*(?:select\\s.*?\\sfrom|insert\\s+into|update|delete\\s+from)\\s+([\\w.`\"]+)",
+			Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+
+	/**
+	 * 连续的空白字符
+	 */
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	/**
+	 * 无法识别时使用的表名
+	 */
+	static final String UNKNOWN = "unknown";
+
+	private Statements() {
+	}
+
+	/**
+	 * 提取语句操作的表，去除标识符的引号并转换为小写
+	 * 
+	 * @param sql SQL语句
+	 * @return 语句操作的表，无法识别时为 unknown
+	 */
+	static String table(String sql) {
+		Matcher matcher = TABLE.matcher(sql);
+		return matcher.find() ? normalize(matcher.group(1)) : UNKNOWN;
+	}
+
+	/**
+	 * 去除标识符的引号并转换为小写
+	 * 
+	 * @param name 标识符
+	 * @return 处理后的标识符
+	 */
+	static String normalize(String name) {
+		return name.trim().replace("`", "").replace("\"", "").toLowerCase();
+	}
+
+	/**
+	 * 将连续的空白字符合并为一个空格
+	 * 
+	 * @param sql SQL语句
+	 * @return 处理后的SQL语句
+	 */
+	static String compact(String sql) {
+		return WHITESPACE.matcher(sql).replaceAll(" ").trim();
+	}
+}
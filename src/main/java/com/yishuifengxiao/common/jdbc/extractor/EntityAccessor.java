@@ -0,0 +1,132 @@
+package com.yishuifengxiao.common.jdbc.extractor;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.util.ReflectionUtils;
+
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+
+/**
+ * <p>
+ * 预编译的属性读取器
+ * </p>
+ * 每个POJO类只解析一次所有属性的读取方法(优先使用get方法，其次直接读取属性)，并将其编译为MethodHandle，
+ * 读取方法的顺序与POJO类元数据中属性的顺序一致，读取时不会再有任何反射查找或加锁的操作
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+final class EntityAccessor {
+
+	/**
+	 * 存储一个类对应的属性读取器
+	 */
+	private static final Map<Class<?>, EntityAccessor> ACCESSORS = new ConcurrentHashMap<>();
+
+	private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private final EntityMetadata metadata;
+
+	/**
+	 * 按照元数据中属性的顺序排列的读取方法，无法读取的属性对应的值为null
+	 */
+	private final MethodHandle[] getters;
+
+	private EntityAccessor(EntityMetadata metadata) {
+		this.metadata = metadata;
+		List<FieldValue> fields = metadata.getFields();
+		this.getters = new MethodHandle[fields.size()];
+		for (int i = 0; i < fields.size(); i++) {
+			this.getters[i] = getter(metadata.getClazz(), fields.get(i).getName());
+		}
+	}
+
+	/**
+	 * 获取一个POJO类对应的属性读取器
+	 * 
+	 * @param metadata POJO类的元数据
+	 * @return 属性读取器
+	 */
+	static EntityAccessor of(EntityMetadata metadata) {
+		EntityAccessor accessor = ACCESSORS.get(metadata.getClazz());
+		if (null != accessor) {
+			return accessor;
+		}
+		return ACCESSORS.computeIfAbsent(metadata.getClazz(), k -> new EntityAccessor(metadata));
+	}
+
+	/**
+	 * 判断指定序号的属性是否可以读取
+	 * 
+	 * @param index 属性的序号
+	 * @return 可以读取时返回为true
+	 */
+	boolean isReadable(int index) {
+		return index >= 0 && index < this.getters.length && null != this.getters[index];
+	}
+
+	/**
+	 * 读取指定序号的属性的值
+	 * 
+	 * @param data  POJO类实例
+	 * @param index 属性的序号
+	 * @return 属性的值
+	 */
+	Object get(Object data, int index) {
+		try {
+			return (Object) this.getters[index].invokeExact(data);
+		} catch (RuntimeException | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new InvalidDataAccessApiUsageException(
+					"读取属性 " + this.metadata.getFields().get(index).getName() + " 失败", e);
+		}
+	}
+
+	/**
+	 * 按照元数据中属性的顺序一次读取所有属性的值
+	 * 
+	 * @param data POJO类实例
+	 * @return 所有属性的值，无法读取的属性对应的值为null
+	 */
+	Object[] values(Object data) {
+		Object[] values = new Object[this.getters.length];
+		for (int i = 0; i < this.getters.length; i++) {
+			if (null != this.getters[i]) {
+				values[i] = this.get(data, i);
+			}
+		}
+		return values;
+	}
+
+	private static MethodHandle getter(Class<?> clazz, String name) {
+		try {
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(clazz, name);
+			Method method = null == descriptor ? null : descriptor.getReadMethod();
+			if (null != method) {
+				ReflectionUtils.makeAccessible(method);
+				return MethodHandles.lookup().unreflect(method).asType(GETTER_TYPE);
+			}
+			Field field = ReflectionUtils.findField(clazz, name);
+			if (null != field) {
+				ReflectionUtils.makeAccessible(field);
+				return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+			}
+		} catch (IllegalAccessException e) {
+			throw new InvalidDataAccessApiUsageException("无法访问 " + clazz.getName() + " 的属性 " + name, e);
+		}
+		return null;
+	}
+}
@@ -2,6 +2,7 @@ package com.yishuifengxiao.common.jdbc.extractor;
 
 import java.util.List;
 
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 
 /**
@@ -16,6 +17,18 @@ import com.yishuifengxiao.common.jdbc.entity.FieldValue;
  */
 public interface FieldExtractor {
 
+	/**
+	 * <p>
+	 * 提取一个POJO类的元数据
+	 * </p>
+	 * 元数据包含数据表的名字、主键以及所有按顺序排列的列信息，每个POJO类只会解析一次
+	 * 
+	 * @param <T>   POJO类的类型
+	 * @param clazz POJO类
+	 * @return POJO类的元数据
+	 */
+	<T> EntityMetadata extractMetadata(Class<T> clazz);
+
 	/**
 	 * <p>
 	 * 提取一个POJO类所有字段属性
@@ -80,6 +93,17 @@ public interface FieldExtractor {
 	 */
 	Object extractValue(Object data, String fieldName);
 
+	/**
+	 * <p>
+	 * 一次提取对象中所有属性的值
+	 * </p>
+	 * 值的顺序与 {@link #extractMetadata(Class)} 中属性的顺序一致
+	 * 
+	 * @param data 提取对象
+	 * @return 所有属性的值
+	 */
+	Object[] extractValues(Object data);
+
 	/**
 	 * 根据POJO类属性的名字提取其在数据库库里对应的列的名字
 	 * 
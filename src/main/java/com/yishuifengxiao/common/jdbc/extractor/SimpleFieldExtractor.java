@@ -2,9 +2,9 @@ package com.yishuifengxiao.common.jdbc.extractor;
 
 import java.lang.reflect.Field;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -14,6 +14,7 @@ import javax.persistence.Table;
 import com.yishuifengxiao.common.tool.lang.TextUtil;
 import org.apache.commons.lang3.StringUtils;
 
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.tool.bean.ClassUtil;
 
@@ -28,24 +29,66 @@ import com.yishuifengxiao.common.tool.bean.ClassUtil;
 public class SimpleFieldExtractor implements FieldExtractor {
 
 	/**
-	 * 存储一个类所有对应的属性
+	 * 存储一个类对应的元数据
 	 */
-	private static final Map<String, List<FieldValue>> FIELDS_MAP = new HashMap<>();
+	private static final Map<Class<?>, EntityMetadata> METADATA = new ConcurrentHashMap<>();
 
 	/**
-	 * 存储一个类对应的主键属性
+	 * <p>
+	 * 提取一个POJO类的元数据
+	 * </p>
+	 * 元数据包含数据表的名字、主键以及所有按顺序排列的列信息，每个POJO类只会解析一次
+	 * 
+	 * @param <T>   POJO类的类型
+	 * @param clazz POJO类
+	 * @return POJO类的元数据
 	 */
-	private static final Map<String, FieldValue> FIELD_MAP = new HashMap<>();
+	@Override
+	public <T> EntityMetadata extractMetadata(Class<T> clazz) {
+		EntityMetadata metadata = METADATA.get(clazz);
+		if (null != metadata) {
+			return metadata;
+		}
+		return METADATA.computeIfAbsent(clazz, this::createMetadata);
+	}
 
 	/**
-	 * 存储一个类对应的数据表名字
+	 * 解析一个POJO类的元数据
+	 * 
+	 * @param clazz POJO类
+	 * @return POJO类的元数据
 	 */
-	private static final Map<String, String> TABLE_MAP = new HashMap<>();
+	private EntityMetadata createMetadata(Class<?> clazz) {
+		List<FieldValue> list = new ArrayList<>();
+		FieldValue primaryKey = null;
+		List<Field> fields = ClassUtil.fields(clazz, true);
+		for (Field field : fields) {
+			FieldValue filedValue = new FieldValue();
+			// 属性的名字
+			String name = field.getName();
+			filedValue.setName(name);
+			// 有没有@Column修饰
+			Column column = field.getAnnotation(Column.class);
+			if (null != column) {
+				filedValue.setColName(column.name());
+			} else {
+				filedValue.setColName(name);
+			}
 
-	/**
-	 * 对应一个类里对象属性名字与数据库属性名字
-	 */
-	private static final Map<String, String> NAME_TABLE = new HashMap<>();
+			filedValue.setType(field.getType());
+
+			list.add(filedValue);
+
+			// 查找 @Id 注解的属性
+			if (null == primaryKey && null != field.getAnnotation(Id.class)) {
+				primaryKey = filedValue;
+			}
+		}
+		if (null == primaryKey) {
+			primaryKey = new FieldValue("id", null, null);
+		}
+		return new EntityMetadata(clazz, this.createTableName(clazz), primaryKey, list);
+	}
 
 	/**
 	 * <p>
@@ -70,41 +113,10 @@ public class SimpleFieldExtractor implements FieldExtractor {
 	 */
 	@Override
 	public <T> List<FieldValue> extractFiled(Class<T> clazz) {
-
-		synchronized (this) {
-
-			if (null != clazz) {
-				List<FieldValue> list = FIELDS_MAP.get(clazz.getName());
-				if (null != list) {
-					return list;
-				}
-				list = new ArrayList<>();
-				List<Field> fields = ClassUtil.fields(clazz, true);
-				for (Field field : fields) {
-					FieldValue filedValue = new FieldValue();
-					// 属性的名字
-					String name = field.getName();
-					filedValue.setName(name);
-					// 有没有@Column修饰
-					Column column = field.getAnnotation(Column.class);
-					if (null != column) {
-						filedValue.setColName(column.name());
-					} else {
-						filedValue.setColName(name);
-					}
-
-					filedValue.setType(field.getType());
-
-					list.add(filedValue);
-				}
-				FIELDS_MAP.put(clazz.getName(), list);
-				return list;
-			}
-
+		if (null == clazz) {
+			return new ArrayList<>();
 		}
-
-		return new ArrayList<>();
-
+		return this.extractMetadata(clazz).getFields();
 	}
 
 	/**
@@ -120,42 +132,7 @@ public class SimpleFieldExtractor implements FieldExtractor {
 	 */
 	@Override
 	public <T> FieldValue extractPrimaryKey(Class<T> clazz) {
-		FieldValue primaryKey = null;
-		synchronized (this) {
-			if (null != clazz) {
-				primaryKey = FIELD_MAP.get(clazz.getName());
-				if (null != primaryKey) {
-					return primaryKey;
-				}
-
-				List<Field> fields = ClassUtil.fields(clazz, true);
-				for (Field field : fields) {
-					Id idCol = field.getAnnotation(Id.class);
-					// 查找 @Id 注解的属性
-					if (null != idCol) {
-						FieldValue filedValue = new FieldValue();
-						filedValue.setName(field.getName());
-
-						// 有没有@Column修饰
-						Column column = field.getAnnotation(Column.class);
-						if (null != column) {
-							filedValue.setColName(column.name());
-						} else {
-							filedValue.setColName(field.getName());
-						}
-
-						filedValue.setType(field.getType());
-
-						FIELD_MAP.put(clazz.getName(), filedValue);
-						return filedValue;
-					}
-
-				}
-			}
-		}
-		primaryKey = new FieldValue("id", null, null);
-		FIELD_MAP.put(clazz.getName(), primaryKey);
-		return primaryKey;
+		return this.extractMetadata(clazz).getPrimaryKey();
 	}
 
 	/**
@@ -175,22 +152,24 @@ public class SimpleFieldExtractor implements FieldExtractor {
 	 */
 	@Override
 	public <T> String extractTableName(Class<T> clazz) {
-		synchronized (this) {
-			String name = TABLE_MAP.get(clazz.getName());
-			if (StringUtils.isNotBlank(name)) {
-				return name;
-			}
-			name = this.getTableName(clazz);
+		return this.extractMetadata(clazz).getTableName();
+	}
+
+	/**
+	 * 解析POJO类的对应的数据表的名字
+	 * 
+	 * @param clazz POJO类
+	 * @return OJO类的对应的数据表的名字
+	 */
+	private String createTableName(Class<?> clazz) {
+		String name = this.getTableName(clazz);
+		if (StringUtils.isBlank(name)) {
+			name = this.getEntityName(clazz);
 			if (StringUtils.isBlank(name)) {
-				name = this.getEntityName(clazz);
-				if (StringUtils.isBlank(name)) {
-					name = this.getSimpleName(clazz);
-				}
+				name = this.getSimpleName(clazz);
 			}
-			TABLE_MAP.put(clazz.getName(), name);
-			return name;
 		}
-
+		return name;
 	}
 
 	/**
@@ -244,14 +223,36 @@ public class SimpleFieldExtractor implements FieldExtractor {
 	 * @return 属性的值
 	 */
 	@Override
-	public synchronized Object extractValue(Object data, String fieldName) {
+	public Object extractValue(Object data, String fieldName) {
 		if (null == data || null == fieldName) {
 			return null;
 		}
-
+		EntityMetadata metadata = this.extractMetadata(data.getClass());
+		int index = metadata.indexOf(fieldName);
+		EntityAccessor accessor = EntityAccessor.of(metadata);
+		if (accessor.isReadable(index) && metadata.getFields().get(index).getName().equals(fieldName)) {
+			return accessor.get(data, index);
+		}
 		return ClassUtil.extractValue(data, fieldName);
 	}
 
+	/**
+	 * <p>
+	 * 一次提取对象中所有属性的值
+	 * </p>
+	 * 值的顺序与 {@link #extractMetadata(Class)} 中属性的顺序一致
+	 * 
+	 * @param data 提取对象
+	 * @return 所有属性的值
+	 */
+	@Override
+	public Object[] extractValues(Object data) {
+		if (null == data) {
+			return new Object[0];
+		}
+		return EntityAccessor.of(this.extractMetadata(data.getClass())).values(data);
+	}
+
 	/**
 	 * 根据POJO类属性的名字提取其在数据库库里对应的列的名字
 	 * 
@@ -265,23 +266,7 @@ public class SimpleFieldExtractor implements FieldExtractor {
 		if (null == clazz || StringUtils.isBlank(name)) {
 			return null;
 		}
-		synchronized (this) {
-			String key = new StringBuilder(clazz.getName()).append(name).toString();
-			String colName = NAME_TABLE.get(key);
-			if (null != colName) {
-				return colName;
-			}
-			List<FieldValue> list = this.extractFiled(clazz);
-
-			for (FieldValue field : list) {
-				if (StringUtils.equalsIgnoreCase(field.getName(), name.trim())) {
-					colName = field.getSimpleName();
-					break;
-				}
-			}
-			NAME_TABLE.put(key, colName);
-			return colName;
-		}
+		return this.extractMetadata(clazz).getColName(name);
 	}
 
 }
@@ -0,0 +1,109 @@
+package com.yishuifengxiao.common.jdbc.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * 按照RFC 4180逐行解析逗号分隔的文本
+ * </p>
+ * 被引号包裹的值中可以包含逗号、换行以及使用两个引号表示的引号
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class CsvReader {
+
+	private final Reader reader;
+
+	/**
+	 * 当前读取到的行号
+	 */
+	private long line;
+
+	/**
+	 * 预读的一个字符，没有时为-2
+	 */
+	private int peek = -2;
+
+	CsvReader(Reader reader) {
+		this.reader = reader;
+	}
+
+	/**
+	 * 读取下一行记录
+	 * 
+	 * @return 一行记录中所有的值，没有更多记录时返回null
+	 * @throws IOException 读取输入时出现问题
+	 */
+	List<String> next() throws IOException {
+		int c = this.read();
+		if (c < 0) {
+			return null;
+		}
+		this.line++;
+		List<String> values = new ArrayList<>();
+		StringBuilder value = new StringBuilder();
+		boolean quoted = false;
+		while (true) {
+			if (quoted) {
+				if (c < 0) {
+					throw new IOException("第 " + this.line + " 行中的引号没有闭合");
+				}
+				if (c == '"') {
+					int next = this.read();
+					if (next == '"') {
+						value.append('"');
+					} else {
+						quoted = false;
+						this.peek = next;
+					}
+				} else {
+					if (c == '\n') {
+						this.line++;
+					}
+					value.append((char) c);
+				}
+			} else if (c < 0 || c == '\n') {
+				values.add(value.toString());
+				return values;
+			} else if (c == '\r') {
+				int next = this.read();
+				if (next != '\n') {
+					this.peek = next;
+				}
+				values.add(value.toString());
+				return values;
+			} else if (c == ',') {
+				values.add(value.toString());
+				value.setLength(0);
+			} else if (c == '"' && value.length() == 0) {
+				quoted = true;
+			} else {
+				value.append((char) c);
+			}
+			c = this.read();
+		}
+	}
+
+	/**
+	 * 获取最近一次读取的记录的结束行号
+	 * 
+	 * @return 行号
+	 */
+	long getLine() {
+		return this.line;
+	}
+
+	private int read() throws IOException {
+		if (this.peek != -2) {
+			int c = this.peek;
+			this.peek = -2;
+			return c;
+		}
+		return this.reader.read();
+	}
+}
@@ -0,0 +1,126 @@
+package com.yishuifengxiao.common.jdbc.io;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+
+/**
+ * <p>
+ * 数据导出工具
+ * </p>
+ * 逐条从数据流中读取数据并写入到输出流中，不会在内存中保留已经写出的数据，每写出一定数量的记录之后会主动刷新输出流。<br/>
+ * 该工具不会关闭输出流
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class EntityExporter {
+
+	/**
+	 * 每写出多少条记录刷新一次输出流
+	 */
+	private static final int FLUSH_INTERVAL = 1000;
+
+	private static final FieldExtractor FIELD_EXTRACTOR = new SimpleFieldExtractor();
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, SerializationFeature.FAIL_ON_EMPTY_BEANS,
+					SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	private EntityExporter() {
+	}
+
+	/**
+	 * 将数据流中的数据按照指定的格式写入到输出流中
+	 * 
+	 * @param <T>          POJO类
+	 * @param clazz        POJO类
+	 * @param data         数据流
+	 * @param outputStream 输出流
+	 * @param format       导出的格式
+	 * @return 导出的记录的数量
+	 * @throws IOException 写出数据时出现问题
+	 */
+	public static <T> long export(Class<T> clazz, Stream<T> data, OutputStream outputStream, ExportFormat format)
+			throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), 64 * 1024);
+		long count = ExportFormat.NDJSON == format ? ndjson(data.iterator(), writer)
+				: csv(clazz, data.iterator(), writer);
+		writer.flush();
+		return count;
+	}
+
+	private static <T> long csv(Class<T> clazz, Iterator<T> iterator, Writer writer) throws IOException {
+		List<FieldValue> fields = FIELD_EXTRACTOR.extractMetadata(clazz).getFields();
+		for (int i = 0; i < fields.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(escape(fields.get(i).getName()));
+		}
+		writer.write("\r\n");
+		SimpleDateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+		long count = 0;
+		while (iterator.hasNext()) {
+			Object[] values = FIELD_EXTRACTOR.extractValues(iterator.next());
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				if (null != values[i]) {
+					writer.write(escape(values[i] instanceof Date ? dateFormat.format((Date) values[i])
+							: values[i].toString()));
+				}
+			}
+			writer.write("\r\n");
+			if (++count % FLUSH_INTERVAL == 0) {
+				writer.flush();
+			}
+		}
+		return count;
+	}
+
+	private static <T> long ndjson(Iterator<T> iterator, Writer writer) throws IOException {
+		long count = 0;
+		while (iterator.hasNext()) {
+			OBJECT_MAPPER.writeValue(writer, iterator.next());
+			writer.write('\n');
+			if (++count % FLUSH_INTERVAL == 0) {
+				writer.flush();
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 按照RFC 4180转义一个值，包含逗号、引号或换行时使用引号包裹
+	 * 
+	 * @param value 原始值
+	 * @return 转义后的值
+	 */
+	private static String escape(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+				&& value.indexOf('\r') < 0) {
+			return value;
+		}
+		return '"' + value.replace("\"", "\"\"") + '"';
+	}
+}
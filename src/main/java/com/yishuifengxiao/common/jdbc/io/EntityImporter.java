@@ -0,0 +1,277 @@
+package com.yishuifengxiao.common.jdbc.io;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 数据导入工具
+ * </p>
+ * <p>
+ * 逐行解析输入流中的数据并转换为POJO类实例，每凑满一批之后交给写入函数批量写入，内存中最多只保留 并发数量+1 批数据。
+ * CSV格式的第一行为列名，可以是POJO类属性的名字，也可以是属性在数据库中对应的列的名字(忽略大小写)，无法识别的列会被忽略。
+ * </p>
+ * 无法解析的记录以及写入失败的记录会被拒绝，一批数据写入失败时会逐条重试以找出具体失败的记录。
+ * 写入函数必须保证一批数据要么全部写入要么全部不写入，否则逐条重试时已经写入的记录会被重复写入。<br/>
+ * 该工具不会关闭输入流
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class EntityImporter {
+
+	/**
+	 * 最多保留的被拒绝的记录的详细信息的数量
+	 */
+	private static final int MAX_REJECTIONS = 1000;
+
+	private static final FieldExtractor FIELD_EXTRACTOR = new SimpleFieldExtractor();
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new JavaTimeModule())
+			.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+			.setDateFormat(new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"));
+
+	private EntityImporter() {
+	}
+
+	/**
+	 * 将输入流中的数据按照指定的格式解析之后批量写入
+	 * 
+	 * @param <T>         POJO类
+	 * @param clazz       POJO类
+	 * @param inputStream 输入流
+	 * @param format      数据的格式
+	 * @param batchSize   每一批写入的记录数量
+	 * @param parallelism 最多同时写入的批次数量，小于等于1、没有线程池或者在事务中时在当前线程中写入
+	 * @param executor    并发写入时使用的线程池
+	 * @param writer      批量写入函数
+	 * @return 导入结果
+	 * @throws IOException 读取数据时出现问题
+	 */
+	public static <T> ImportResult importFrom(Class<T> clazz, InputStream inputStream, ExportFormat format,
+			int batchSize, int parallelism, Executor executor, Function<List<T>, int[]> writer) throws IOException {
+		boolean parallel = parallelism > 1 && null != executor
+				&& !TransactionSynchronizationManager.isActualTransactionActive();
+		Context<T> context = new Context<>(batchSize <= 0 ? 500 : batchSize, parallel ? parallelism : 1,
+				parallel ? executor : null, writer);
+		long start = System.currentTimeMillis();
+		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8),
+				64 * 1024);
+		try {
+			if (ExportFormat.NDJSON == format) {
+				ndjson(clazz, reader, context);
+			} else {
+				csv(clazz, reader, context);
+			}
+		} finally {
+			context.await();
+		}
+		ImportResult result = new ImportResult(context.total.get(), context.imported.get(), context.rejected.get(),
+				System.currentTimeMillis() - start, new ArrayList<>(context.rejections));
+		log.debug("【yishuifengxiao-common-spring-boot-starter】导入 {} 完成，读取 {} 条，导入 {} 条，拒绝 {} 条，耗时 {} 毫秒",
+				clazz.getName(), result.getTotal(), result.getImported(), result.getRejected(), result.getElapsed());
+		return result;
+	}
+
+	private static <T> void ndjson(Class<T> clazz, BufferedReader reader, Context<T> context) throws IOException {
+		long line = 0;
+		String text;
+		while (null != (text = reader.readLine())) {
+			line++;
+			if (StringUtils.isBlank(text)) {
+				continue;
+			}
+			context.total.incrementAndGet();
+			try {
+				context.add(OBJECT_MAPPER.readValue(text, clazz), line);
+			} catch (JsonProcessingException e) {
+				context.reject(line, e.getOriginalMessage());
+			}
+		}
+	}
+
+	private static <T> void csv(Class<T> clazz, BufferedReader reader, Context<T> context) throws IOException {
+		CsvReader csv = new CsvReader(reader);
+		List<String> header = csv.next();
+		if (null == header) {
+			return;
+		}
+		String[] names = names(FIELD_EXTRACTOR.extractMetadata(clazz), header);
+		List<String> values;
+		while (null != (values = csv.next())) {
+			if (values.size() == 1 && values.get(0).isEmpty()) {
+				continue;
+			}
+			context.total.incrementAndGet();
+			ObjectNode node = OBJECT_MAPPER.createObjectNode();
+			for (int i = 0; i < values.size() && i < names.length; i++) {
+				if (null != names[i] && !values.get(i).isEmpty()) {
+					node.put(names[i], values.get(i));
+				}
+			}
+			try {
+				context.add(OBJECT_MAPPER.treeToValue(node, clazz), csv.getLine());
+			} catch (IOException | IllegalArgumentException e) {
+				context.reject(csv.getLine(), e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 将CSV的列名转换为POJO类属性的名字
+	 * 
+	 * @param metadata POJO类的元数据
+	 * @param header   CSV的列名
+	 * @return POJO类属性的名字，无法识别的列对应的值为null
+	 */
+	private static String[] names(EntityMetadata metadata, List<String> header) {
+		String[] names = new String[header.size()];
+		for (int i = 0; i < header.size(); i++) {
+			// 去除可能存在的BOM
+			String name = StringUtils.removeStart(header.get(i), "\uFEFF").trim();
+			FieldValue field = metadata.getField(name);
+			if (null == field) {
+				field = metadata.getFields().stream().filter(v -> StringUtils.equalsIgnoreCase(v.getSimpleName(), name))
+						.findFirst().orElse(null);
+			}
+			names[i] = null == field ? null : field.getName();
+		}
+		return names;
+	}
+
+	/**
+	 * 一次导入过程中的状态
+	 */
+	private static class Context<T> {
+
+		private final AtomicLong total = new AtomicLong();
+
+		private final AtomicLong imported = new AtomicLong();
+
+		private final AtomicLong rejected = new AtomicLong();
+
+		private final List<ImportResult.Rejection> rejections = Collections.synchronizedList(new ArrayList<>());
+
+		private final int batchSize;
+
+		private final int parallelism;
+
+		private final Semaphore permits;
+
+		private final Executor executor;
+
+		private final Function<List<T>, int[]> writer;
+
+		private List<T> batch = new ArrayList<>();
+
+		private List<Long> lines = new ArrayList<>();
+
+		Context(int batchSize, int parallelism, Executor executor, Function<List<T>, int[]> writer) {
+			this.batchSize = batchSize;
+			this.parallelism = parallelism;
+			this.permits = new Semaphore(parallelism);
+			this.executor = executor;
+			this.writer = writer;
+		}
+
+		void add(T data, long line) {
+			this.batch.add(data);
+			this.lines.add(line);
+			if (this.batch.size() >= this.batchSize) {
+				this.submit();
+			}
+		}
+
+		void reject(long line, String reason) {
+			this.rejected.incrementAndGet();
+			if (this.rejections.size() < MAX_REJECTIONS) {
+				this.rejections.add(new ImportResult.Rejection(line, reason));
+			}
+		}
+
+		/**
+		 * 提交当前批次的数据，并发数量已满时阻塞读取线程
+		 */
+		void submit() {
+			if (this.batch.isEmpty()) {
+				return;
+			}
+			List<T> batch = this.batch;
+			List<Long> lines = this.lines;
+			this.batch = new ArrayList<>(this.batchSize);
+			this.lines = new ArrayList<>(this.batchSize);
+			if (null == this.executor) {
+				this.write(batch, lines);
+				return;
+			}
+			this.permits.acquireUninterruptibly();
+			try {
+				this.executor.execute(() -> {
+					try {
+						this.write(batch, lines);
+					} finally {
+						this.permits.release();
+					}
+				});
+			} catch (RejectedExecutionException e) {
+				this.permits.release();
+				this.write(batch, lines);
+			}
+		}
+
+		/**
+		 * 提交剩余的数据并等待所有批次写入完成
+		 */
+		void await() {
+			this.submit();
+			this.permits.acquireUninterruptibly(this.parallelism);
+			this.permits.release(this.parallelism);
+		}
+
+		private void write(List<T> batch, List<Long> lines) {
+			try {
+				this.writer.apply(batch);
+				this.imported.addAndGet(batch.size());
+			} catch (RuntimeException e) {
+				// 逐条重试，找出具体失败的记录
+				for (int i = 0; i < batch.size(); i++) {
+					try {
+						this.writer.apply(Collections.singletonList(batch.get(i)));
+						this.imported.incrementAndGet();
+					} catch (RuntimeException ex) {
+						this.reject(lines.get(i), ex.getMessage());
+					}
+				}
+			}
+		}
+	}
+}
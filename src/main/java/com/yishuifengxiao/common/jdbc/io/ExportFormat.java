@@ -0,0 +1,48 @@
+package com.yishuifengxiao.common.jdbc.io;
+
+/**
+ * 数据导入导出的格式
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ExportFormat {
+
+	/**
+	 * 逗号分隔的文本，第一行为属性的名字
+	 */
+	CSV("text/csv;charset=UTF-8", "csv"),
+
+	/**
+	 * 每一行为一个json对象的文本
+	 */
+	NDJSON("application/x-ndjson;charset=UTF-8", "ndjson");
+
+	private final String contentType;
+
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	/**
+	 * 获取该格式对应的响应内容类型
+	 * 
+	 * @return 响应内容类型
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+
+	/**
+	 * 获取该格式对应的文件扩展名
+	 * 
+	 * @return 文件扩展名
+	 */
+	public String getExtension() {
+		return extension;
+	}
+}
@@ -0,0 +1,88 @@
+package com.yishuifengxiao.common.jdbc.io;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * <p>
+ * 数据导入结果
+ * </p>
+ * 包含读取、导入和拒绝的记录的数量以及导入的耗时，被拒绝的记录最多保留前1000条的详细信息
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Accessors(chain = true)
+public class ImportResult implements Serializable {
+
+	private static final long serialVersionUID = -1829326446513062183L;
+
+	/**
+	 * 读取到的记录的数量
+	 */
+	private long total;
+
+	/**
+	 * 成功导入的记录的数量
+	 */
+	private long imported;
+
+	/**
+	 * 被拒绝的记录的数量
+	 */
+	private long rejected;
+
+	/**
+	 * 导入的耗时，单位为毫秒
+	 */
+	private long elapsed;
+
+	/**
+	 * 被拒绝的记录的详细信息
+	 */
+	private List<Rejection> rejections = new ArrayList<>();
+
+	/**
+	 * 获取每秒导入的记录的数量
+	 * 
+	 * @return 每秒导入的记录的数量
+	 */
+	public double getThroughput() {
+		return this.elapsed <= 0 ? this.imported : this.imported * 1000D / this.elapsed;
+	}
+
+	/**
+	 * 一条被拒绝的记录
+	 *
+	 * @author yishui
+	 * @version 1.0.0
+	 * @since 1.0.0
+	 */
+	@Data
+	@AllArgsConstructor
+	@NoArgsConstructor
+	public static class Rejection implements Serializable {
+
+		private static final long serialVersionUID = 4381745230945571736L;
+
+		/**
+		 * 记录在输入中的行号，从1开始
+		 */
+		private long line;
+
+		/**
+		 * 被拒绝的原因
+		 */
+		private String reason;
+	}
+}
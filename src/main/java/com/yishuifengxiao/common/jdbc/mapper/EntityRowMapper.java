@@ -0,0 +1,287 @@
+package com.yishuifengxiao.common.jdbc.mapper;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.TypeMismatchDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+import com.yishuifengxiao.common.tool.lang.TextUtil;
+
+/**
+ * <p>
+ * 预编译的结果集映射器
+ * </p>
+ * <p>
+ * 每个POJO类只解析一次属性与对应的写入方法(优先使用set方法，其次直接写入属性)，并将其编译为MethodHandle；
+ * 每一种结果集列结构(ResultSetMetaData)也只解析一次，解析后按照列的序号直接绑定到对应的写入方法上，
+ * 因此在逐行映射的过程中不会再有任何反射查找的操作
+ * </p>
+ * <p>
+ * 映射器在处理一个结果集的第一行时获取该结果集的列绑定信息，之后的每一行直接复用，
+ * 因此映射器实例不是线程安全的，每一次查询都需要通过 {@link #of(Class)} 获取一个新的实例。
+ * 解析后的映射信息在同一个POJO类的所有实例之间共享，创建实例的开销可以忽略
+ * </p>
+ * 结果集中的列名与POJO类属性的匹配规则如下(忽略大小写)
+ * <ul>
+ * <li>POJO类属性的名字</li>
+ * <li>POJO类属性在数据库中对应的列的名字</li>
+ * <li>POJO类属性的名字转化为下划线形式后的名字</li>
+ * </ul>
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ * @param <T> 希望转换的javabean的数据类型
+ */
+public class EntityRowMapper<T> implements RowMapper<T> {
+
+	/**
+	 * 存储一个类对应的映射信息
+	 */
+	private static final Map<Class<?>, Mapping> MAPPINGS = new ConcurrentHashMap<>();
+
+	private static final FieldExtractor FIELD_EXTRACTOR = new SimpleFieldExtractor();
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private final Class<T> clazz;
+
+	private final Mapping mapping;
+
+	/**
+	 * 当前处理的结果集
+	 */
+	private ResultSet rs;
+
+	/**
+	 * 当前处理的结果集对应的列绑定信息
+	 */
+	private Binder[] binders;
+
+	private EntityRowMapper(Class<T> clazz, Mapping mapping) {
+		this.clazz = clazz;
+		this.mapping = mapping;
+	}
+
+	/**
+	 * 为一次查询创建一个POJO类对应的结果集映射器
+	 *
+	 * @param <T>   希望转换的javabean的数据类型
+	 * @param clazz 希望转换的javabean
+	 * @return 结果集映射器
+	 */
+	public static <T> EntityRowMapper<T> of(Class<T> clazz) {
+		Assert.notNull(clazz, "【yishuifengxiao-common-spring-boot-starter】转换目标对象不能为空");
+		return new EntityRowMapper<>(clazz, MAPPINGS.computeIfAbsent(clazz, Mapping::new));
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T mapRow(ResultSet rs, int rowNum) throws SQLException {
+		if (this.rs != rs) {
+			this.binders = this.mapping.binders(rs.getMetaData());
+			this.rs = rs;
+		}
+		Object instance = this.mapping.newInstance();
+		for (Binder binder : this.binders) {
+			if (null != binder) {
+				binder.bind(rs, instance);
+			}
+		}
+		return (T) instance;
+	}
+
+	public Class<T> getClazz() {
+		return clazz;
+	}
+
+	/**
+	 * 一个类对应的映射信息
+	 */
+	private static class Mapping {
+
+		private final Class<?> clazz;
+
+		/**
+		 * 无参构造函数
+		 */
+		private final MethodHandle constructor;
+
+		/**
+		 * 小写的列名(或属性名)与写入方法之间的对应关系
+		 */
+		private final Map<String, Property> properties = new HashMap<>();
+
+		/**
+		 * 每一种列结构对应的绑定信息
+		 */
+		private final Map<String, Binder[]> shapes = new ConcurrentHashMap<>();
+
+		Mapping(Class<?> clazz) {
+			this.clazz = clazz;
+			this.constructor = constructor(clazz);
+			for (FieldValue field : FIELD_EXTRACTOR.extractMetadata(clazz).getFields()) {
+				MethodHandle setter = setter(clazz, field.getName());
+				if (null == setter) {
+					continue;
+				}
+				Property property = new Property(field.getName(), field.getType(), setter);
+				this.properties.putIfAbsent(field.getName().toLowerCase(), property);
+				this.properties.putIfAbsent(field.getSimpleName().toLowerCase(), property);
+				this.properties.putIfAbsent(TextUtil.underscoreName(field.getName()).toLowerCase(), property);
+			}
+		}
+
+		Object newInstance() throws SQLException {
+			if (null == this.constructor) {
+				return BeanUtils.instantiateClass(this.clazz);
+			}
+			try {
+				return (Object) this.constructor.invokeExact();
+			} catch (Throwable e) {
+				throw new SQLException("实例化 " + this.clazz.getName() + " 失败", e);
+			}
+		}
+
+		/**
+		 * 获取一种列结构对应的绑定信息
+		 *
+		 * @param metaData 结果集的列结构
+		 * @return 按照列的序号排列的绑定信息，无法映射的列对应的值为null
+		 * @throws SQLException 读取列结构失败时抛出
+		 */
+		Binder[] binders(ResultSetMetaData metaData) throws SQLException {
+			int count = metaData.getColumnCount();
+			String[] labels = new String[count];
+			StringBuilder key = new StringBuilder();
+			for (int i = 0; i < count; i++) {
+				labels[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+				key.append(labels[i]).append(',');
+			}
+			return this.shapes.computeIfAbsent(key.toString(), k -> {
+				Binder[] binders = new Binder[count];
+				for (int i = 0; i < count; i++) {
+					String label = StringUtils.isBlank(labels[i]) ? "" : labels[i].replace(" ", "").toLowerCase();
+					Property property = this.properties.get(label);
+					binders[i] = null == property ? null : new Binder(i + 1, property);
+				}
+				return binders;
+			});
+		}
+
+		private static MethodHandle constructor(Class<?> clazz) {
+			try {
+				Constructor<?> ctor = clazz.getDeclaredConstructor();
+				ReflectionUtils.makeAccessible(ctor);
+				return MethodHandles.lookup().unreflectConstructor(ctor).asType(CONSTRUCTOR_TYPE);
+			} catch (NoSuchMethodException | IllegalAccessException e) {
+				return null;
+			}
+		}
+
+		private static MethodHandle setter(Class<?> clazz, String name) {
+			try {
+				PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(clazz, name);
+				Method method = null == descriptor ? null : descriptor.getWriteMethod();
+				if (null != method) {
+					ReflectionUtils.makeAccessible(method);
+					return MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+				}
+				Field field = ReflectionUtils.findField(clazz, name);
+				if (null != field) {
+					ReflectionUtils.makeAccessible(field);
+					return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+				}
+			} catch (IllegalAccessException e) {
+				throw new InvalidDataAccessApiUsageException("无法访问 " + clazz.getName() + " 的属性 " + name, e);
+			}
+			return null;
+		}
+	}
+
+	/**
+	 * 一个可写入的属性
+	 */
+	private static class Property {
+
+		private final String name;
+
+		private final Class<?> type;
+
+		private final MethodHandle setter;
+
+		Property(String name, Class<?> type, MethodHandle setter) {
+			this.name = name;
+			this.type = type;
+			this.setter = setter;
+		}
+	}
+
+	/**
+	 * 结果集中的一列与一个属性之间的绑定关系
+	 */
+	private static class Binder {
+
+		private final int index;
+
+		private final Property property;
+
+		Binder(int index, Property property) {
+			this.index = index;
+			this.property = property;
+		}
+
+		void bind(ResultSet rs, Object instance) throws SQLException {
+			Object value = JdbcUtils.getResultSetValue(rs, this.index, this.property.type);
+			if (null == value) {
+				if (this.property.type.isPrimitive()) {
+					return;
+				}
+			} else if (!ClassUtils.isAssignableValue(this.property.type, value)) {
+				value = this.convert(value);
+			}
+			try {
+				this.property.setter.invokeExact(instance, value);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new SQLException("写入属性 " + this.property.name + " 失败", e);
+			}
+		}
+
+		private Object convert(Object value) {
+			try {
+				return DefaultConversionService.getSharedInstance().convert(value, this.property.type);
+			} catch (RuntimeException e) {
+				throw new TypeMismatchDataAccessException("无法将列 " + this.index + " 的值 " + value + " 转换为属性 "
+						+ this.property.name + " 的类型 " + this.property.type.getName(), e);
+			}
+		}
+	}
+
+}
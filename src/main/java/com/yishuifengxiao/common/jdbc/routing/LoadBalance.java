@@ -0,0 +1,19 @@
+package com.yishuifengxiao.common.jdbc.routing;
+
+/**
+ * 从库的负载均衡策略
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum LoadBalance {
+	/**
+	 * 轮询
+	 */
+	ROUND_ROBIN,
+	/**
+	 * 选择当前借出的连接数量最少的从库
+	 */
+	LEAST_OUTSTANDING;
+}
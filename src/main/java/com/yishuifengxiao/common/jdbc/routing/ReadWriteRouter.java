@@ -0,0 +1,94 @@
+package com.yishuifengxiao.common.jdbc.routing;
+
+import java.time.Duration;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+/**
+ * <p>
+ * 读写分离路由器
+ * </p>
+ * 查询语句路由到从库，写入语句和事务内的所有语句路由到主库。<br/>
+ * 配置了读己之写窗口时，当前线程执行写入之后的一段时间内查询语句也会路由到主库，避免因主从复制延迟而读取不到刚写入的数据
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReadWriteRouter implements AutoCloseable {
+
+	/**
+	 * 当前线程的查询语句路由到主库的截止时间
+	 */
+	private final ThreadLocal<Long> pinnedUntil = new ThreadLocal<>();
+
+	/**
+	 * 从库的JdbcTemplate
+	 */
+	private final JdbcTemplate replica;
+
+	/**
+	 * 读己之写窗口的长度，单位为纳秒，为0时不启用
+	 */
+	private final long window;
+
+	/**
+	 * 创建一个读写分离路由器
+	 * 
+	 * @param replica 从库的JdbcTemplate
+	 * @param window  读己之写窗口，为null或0时不启用
+	 */
+	public ReadWriteRouter(JdbcTemplate replica, Duration window) {
+		Assert.notNull(replica, "【yishuifengxiao-common-spring-boot-starter】从库的JdbcTemplate不能为空");
+		this.replica = replica;
+		this.window = null == window || window.isNegative() ? 0L : window.toNanos();
+	}
+
+	/**
+	 * 获取执行查询语句时使用的JdbcTemplate
+	 * 
+	 * @param primary 主库的JdbcTemplate
+	 * @return 执行查询语句时使用的JdbcTemplate
+	 */
+	public JdbcTemplate reader(JdbcTemplate primary) {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return primary;
+		}
+		Long until = this.pinnedUntil.get();
+		if (null != until) {
+			if (System.nanoTime() - until < 0) {
+				return primary;
+			}
+			this.pinnedUntil.remove();
+		}
+		return this.replica;
+	}
+
+	/**
+	 * 获取执行写入语句时使用的JdbcTemplate，同时开启当前线程的读己之写窗口
+	 * 
+	 * @param primary 主库的JdbcTemplate
+	 * @return 执行写入语句时使用的JdbcTemplate
+	 */
+	public JdbcTemplate writer(JdbcTemplate primary) {
+		if (this.window > 0) {
+			this.pinnedUntil.set(System.nanoTime() + this.window);
+		}
+		return primary;
+	}
+
+	/**
+	 * 关闭从库数据源
+	 * 
+	 * @throws Exception 关闭时出现问题
+	 */
+	@Override
+	public void close() throws Exception {
+		if (this.replica.getDataSource() instanceof AutoCloseable) {
+			((AutoCloseable) this.replica.getDataSource()).close();
+		}
+	}
+
+}
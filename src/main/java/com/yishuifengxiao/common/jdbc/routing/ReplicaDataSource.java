@@ -0,0 +1,147 @@
+package com.yishuifengxiao.common.jdbc.routing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.util.Assert;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 从库数据源
+ * </p>
+ * 将一组从库数据源组合为一个数据源，每次获取连接时按照负载均衡策略选择其中一个从库
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements AutoCloseable {
+
+	/**
+	 * 所有的从库
+	 */
+	private final List<DataSource> replicas;
+
+	/**
+	 * 每一个从库当前借出的连接数量
+	 */
+	private final AtomicInteger[] outstanding;
+
+	/**
+	 * 负载均衡策略
+	 */
+	private final LoadBalance loadBalance;
+
+	/**
+	 * 轮询时的计数器
+	 */
+	private final AtomicInteger counter = new AtomicInteger();
+
+	/**
+	 * 创建一个从库数据源
+	 * 
+	 * @param replicas    所有的从库
+	 * @param loadBalance 负载均衡策略，为null时为轮询
+	 */
+	public ReplicaDataSource(List<DataSource> replicas, LoadBalance loadBalance) {
+		Assert.notEmpty(replicas, "【yishuifengxiao-common-spring-boot-starter】从库不能为空");
+		this.replicas = new ArrayList<>(replicas);
+		this.outstanding = new AtomicInteger[replicas.size()];
+		for (int i = 0; i < this.outstanding.length; i++) {
+			this.outstanding[i] = new AtomicInteger();
+		}
+		this.loadBalance = null == loadBalance ? LoadBalance.ROUND_ROBIN : loadBalance;
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		int index = this.select();
+		return this.track(index, this.replicas.get(index).getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		int index = this.select();
+		return this.track(index, this.replicas.get(index).getConnection(username, password));
+	}
+
+	/**
+	 * 根据负载均衡策略选择一个从库
+	 * 
+	 * @return 从库的序号
+	 */
+	private int select() {
+		if (this.replicas.size() == 1) {
+			return 0;
+		}
+		int start = (this.counter.getAndIncrement() & Integer.MAX_VALUE) % this.replicas.size();
+		if (LoadBalance.ROUND_ROBIN == this.loadBalance) {
+			return start;
+		}
+		// 从轮询位置开始查找，借出连接数量相同时依次分摊到各个从库
+		int index = start;
+		for (int i = 1; i < this.replicas.size(); i++) {
+			int candidate = (start + i) % this.replicas.size();
+			if (this.outstanding[candidate].get() < this.outstanding[index].get()) {
+				index = candidate;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * 记录借出的连接，连接关闭时归还计数
+	 * 
+	 * @param index      从库的序号
+	 * @param connection 借出的连接
+	 * @return 包装后的连接
+	 */
+	private Connection track(int index, Connection connection) {
+		if (LoadBalance.LEAST_OUTSTANDING != this.loadBalance) {
+			return connection;
+		}
+		AtomicInteger counter = this.outstanding[index];
+		counter.incrementAndGet();
+		AtomicBoolean closed = new AtomicBoolean(false);
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+				new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+					if ("close".equals(method.getName()) && closed.compareAndSet(false, true)) {
+						counter.decrementAndGet();
+					}
+					try {
+						return method.invoke(connection, args);
+					} catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+				});
+	}
+
+	/**
+	 * 关闭所有的从库
+	 */
+	@Override
+	public void close() {
+		for (DataSource replica : this.replicas) {
+			if (replica instanceof AutoCloseable) {
+				try {
+					((AutoCloseable) replica).close();
+				} catch (Exception e) {
+					log.warn("【yishuifengxiao-common-spring-boot-starter】关闭从库 {} 时出现问题 {}", replica, e.getMessage());
+				}
+			}
+		}
+	}
+
+}
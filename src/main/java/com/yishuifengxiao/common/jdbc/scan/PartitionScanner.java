@@ -0,0 +1,113 @@
+package com.yishuifengxiao.common.jdbc.scan;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+import com.google.common.base.Throwables;
+import com.yishuifengxiao.common.jdbc.entity.Slice;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 分区扫描执行器
+ * </p>
+ * 多个工作线程从共享的队列中领取主键区间，每个区间内通过游标分页逐批读取数据并交给处理函数。<br/>
+ * 处理函数在工作线程中同步执行，只有当前批次处理完成后才会读取下一批数据，因此处理速度较慢时读取速度会随之降低，
+ * 同时读取的批次数量不会超过工作线程的数量。<br/>
+ * 任意一个区间处理失败后其他工作线程在完成当前批次后停止，失败的异常会被重新抛出
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public final class PartitionScanner {
+
+	private PartitionScanner() {
+	}
+
+	/**
+	 * 扫描所有的主键区间
+	 * 
+	 * @param <T>         数据的类型
+	 * @param ranges      主键区间
+	 * @param parallelism 最多同时扫描的区间的数量，每一个区间占用一个数据库连接
+	 * @param executor    执行扫描任务的线程池，为null时在当前线程中逐个扫描
+	 * @param checkpoint  检查点，为null时不记录处理进度
+	 * @param fetcher     数据读取函数，参数为主键区间和上一批数据返回的游标
+	 * @param consumer    数据处理函数，参数为主键区间和当前批次的数据
+	 * @return 处理的记录的总数量
+	 */
+	public static <T> long scan(List<ScanRange> ranges, int parallelism, Executor executor,
+			ScanCheckpoint checkpoint, BiFunction<ScanRange, Object, Slice<T>> fetcher,
+			BiConsumer<ScanRange, List<T>> consumer) {
+		Queue<ScanRange> queue = new ConcurrentLinkedQueue<>();
+		for (ScanRange range : ranges) {
+			if (null == checkpoint || !checkpoint.isCompleted(range)) {
+				queue.add(range);
+			}
+		}
+		LongAdder total = new LongAdder();
+		AtomicBoolean failed = new AtomicBoolean(false);
+		Runnable worker = () -> {
+			try {
+				ScanRange range;
+				while (!failed.get() && null != (range = queue.poll())) {
+					scan(range, fetcher, consumer, total, failed);
+					if (!failed.get() && null != checkpoint) {
+						checkpoint.complete(range);
+					}
+				}
+			} catch (RuntimeException | Error e) {
+				failed.set(true);
+				throw e;
+			}
+		};
+
+		int workers = Math.min(Math.max(parallelism, 1), queue.size());
+		if (null == executor || workers <= 1) {
+			worker.run();
+			return total.sum();
+		}
+		List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+		for (int i = 0; i < workers; i++) {
+			futures.add(CompletableFuture.runAsync(worker, executor));
+		}
+		try {
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+		} catch (CompletionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+		return total.sum();
+	}
+
+	/**
+	 * 通过游标分页扫描一个主键区间
+	 */
+	private static <T> void scan(ScanRange range, BiFunction<ScanRange, Object, Slice<T>> fetcher,
+			BiConsumer<ScanRange, List<T>> consumer, LongAdder total, AtomicBoolean failed) {
+		log.debug("【yishuifengxiao-common-spring-boot-starter】开始扫描主键区间 {}", range);
+		Object afterKey = null;
+		Slice<T> slice;
+		do {
+			slice = fetcher.apply(range, afterKey);
+			if (!slice.getData().isEmpty()) {
+				consumer.accept(range, slice.getData());
+				total.add(slice.getData().size());
+			}
+			afterKey = slice.getNextKey();
+		} while (slice.isHasNext() && !failed.get());
+	}
+
+}
@@ -0,0 +1,48 @@
+package com.yishuifengxiao.common.jdbc.scan;
+
+/**
+ * <p>
+ * 分区扫描的检查点
+ * </p>
+ * 记录已经处理完成的主键区间，任务中断后重新执行时会跳过已经完成的区间。<br/>
+ * 只有一个区间内的所有数据都被成功处理之后该区间才会被标记为完成，因此重新执行时未完成的区间中的部分数据可能会被再次处理。<br/>
+ * 第一次扫描时主键的最小值和最大值会通过 {@link #saveBounds(ScanRange)} 与检查点一起保存，
+ * 重新执行时直接使用保存的范围拆分区间，不再重新查询最小值和最大值，因此即使表中的数据增加了，拆分出的区间(序号、上界和下界)也与之前完全一致，
+ * 检查点应当使用区间的序号、上界和下界一起作为区间的标识。
+ * 重新执行时使用的区间的数量必须与第一次扫描时相同；第一次扫描之后新增的主键超出保存的范围的数据不会被扫描
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ScanCheckpoint {
+
+	/**
+	 * 判断主键区间是否已经处理完成
+	 * 
+	 * @param range 主键区间
+	 * @return 已经处理完成时返回为true
+	 */
+	boolean isCompleted(ScanRange range);
+
+	/**
+	 * 将主键区间标记为处理完成
+	 * 
+	 * @param range 主键区间
+	 */
+	void complete(ScanRange range);
+
+	/**
+	 * 获取第一次扫描时保存的主键范围
+	 * 
+	 * @return 主键范围，区间的下界为主键的最小值，上界为主键的最大值，还没有保存时为null
+	 */
+	ScanRange getBounds();
+
+	/**
+	 * 保存第一次扫描时的主键范围，该范围需要与已经完成的区间一起持久化
+	 * 
+	 * @param bounds 主键范围，区间的下界为主键的最小值，上界为主键的最大值
+	 */
+	void saveBounds(ScanRange bounds);
+}
@@ -0,0 +1,76 @@
+package com.yishuifengxiao.common.jdbc.scan;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.Accessors;
+
+/**
+ * <p>
+ * 分区扫描的主键区间
+ * </p>
+ * 区间的上下界都包含在区间内，区间的序号从0开始
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Accessors(chain = true)
+public class ScanRange implements Serializable {
+
+	private static final long serialVersionUID = 2911463095537780542L;
+
+	/**
+	 * 区间的序号
+	 */
+	private int index;
+
+	/**
+	 * 区间的下界(包含)
+	 */
+	private long lower;
+
+	/**
+	 * 区间的上界(包含)
+	 */
+	private long upper;
+
+	/**
+	 * <p>
+	 * 将 [min, max] 均匀地拆分为若干个区间
+	 * </p>
+	 * 拆分的结果只与参数有关，相同的参数总是拆分出相同的区间
+	 * 
+	 * @param min        主键的最小值
+	 * @param max        主键的最大值
+	 * @param partitions 区间的数量，区间的跨度小于区间的数量时会相应地减少
+	 * @return 拆分后的区间
+	 */
+	public static List<ScanRange> split(long min, long max, int partitions) {
+		List<ScanRange> ranges = new ArrayList<>();
+		if (min > max) {
+			return ranges;
+		}
+		// 使用无符号除法避免跨度超出long的范围
+		long span = max - min;
+		long step = Long.divideUnsigned(span, Math.max(partitions, 1)) + 1;
+		long lower = min;
+		int index = 0;
+		while (true) {
+			long upper = max - lower < step ? max : lower + step - 1;
+			ranges.add(new ScanRange(index++, lower, upper));
+			if (upper == max) {
+				return ranges;
+			}
+			lower = upper + 1;
+		}
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.yishuifengxiao.common.jdbc.sharding;
+
+/**
+ * <p>
+ * 哈希取模分片策略
+ * </p>
+ * 整数类型的分片键直接对分片数量取模，其他类型使用其字符串形式的哈希值取模，保证在不同的实例中计算结果一致
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class HashShardStrategy implements ShardStrategy {
+
+	@Override
+	public int shard(Object value, int shards) {
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+			return (int) Math.floorMod(((Number) value).longValue(), (long) shards);
+		}
+		return Math.floorMod(value.toString().hashCode(), shards);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.yishuifengxiao.common.jdbc.sharding;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * <p>
+ * 范围分片策略
+ * </p>
+ * 按照一组升序排列的边界值划分分片，分片键的值小于第一个边界值的数据位于第0个分片，
+ * 大于等于第i个边界值且小于第i+1个边界值的数据位于第i+1个分片
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class RangeShardStrategy implements ShardStrategy {
+
+	/**
+	 * 升序排列的边界值
+	 */
+	private final long[] bounds;
+
+	/**
+	 * 创建一个范围分片策略
+	 * 
+	 * @param bounds 升序排列的边界值，边界值的数量应当比分片的数量少1
+	 */
+	public RangeShardStrategy(List<Long> bounds) {
+		Assert.notEmpty(bounds, "【yishuifengxiao-common-spring-boot-starter】范围分片的边界值不能为空");
+		this.bounds = bounds.stream().mapToLong(Long::longValue).toArray();
+		for (int i = 1; i < this.bounds.length; i++) {
+			Assert.isTrue(this.bounds[i - 1] < this.bounds[i],
+					"【yishuifengxiao-common-spring-boot-starter】范围分片的边界值必须升序排列");
+		}
+	}
+
+	@Override
+	public int shard(Object value, int shards) {
+		Assert.isTrue(value instanceof Number, "【yishuifengxiao-common-spring-boot-starter】范围分片的分片键必须为数字");
+		int index = Arrays.binarySearch(this.bounds, ((Number) value).longValue());
+		int shard = index >= 0 ? index + 1 : -index - 1;
+		Assert.isTrue(shard < shards, "【yishuifengxiao-common-spring-boot-starter】分片键的值 " + value + " 超出了所有分片的范围");
+		return shard;
+	}
+
+}
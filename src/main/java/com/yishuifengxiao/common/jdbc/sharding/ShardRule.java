@@ -0,0 +1,33 @@
+package com.yishuifengxiao.common.jdbc.sharding;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 一张表的分片规则
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ShardRule {
+
+	/**
+	 * 表名
+	 */
+	private String tableName;
+
+	/**
+	 * 分片键对应的列名
+	 */
+	private String column;
+
+	/**
+	 * 分片策略
+	 */
+	private ShardStrategy strategy;
+}
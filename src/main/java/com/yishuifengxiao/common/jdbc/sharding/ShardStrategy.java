@@ -0,0 +1,23 @@
+package com.yishuifengxiao.common.jdbc.sharding;
+
+/**
+ * <p>
+ * 分片策略
+ * </p>
+ * 根据分片键的值计算数据所在的分片的序号
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public interface ShardStrategy {
+
+	/**
+	 * 计算分片键的值对应的分片的序号
+	 * 
+	 * @param value  分片键的值，不为null
+	 * @param shards 分片的数量
+	 * @return 分片的序号，取值范围为 [0, shards)
+	 */
+	int shard(Object value, int shards);
+}
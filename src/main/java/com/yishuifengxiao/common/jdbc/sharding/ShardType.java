@@ -0,0 +1,19 @@
+package com.yishuifengxiao.common.jdbc.sharding;
+
+/**
+ * 分片策略的类型
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public enum ShardType {
+	/**
+	 * 哈希取模
+	 */
+	HASH,
+	/**
+	 * 按照边界值划分范围
+	 */
+	RANGE;
+}
@@ -40,6 +40,14 @@ public interface ConditionBuilder {
 	 */
 	<T> SqlData build(FieldExtractor fieldExtractor, T t, boolean selective);
 
+	/**
+	 * 将包含超长in条件的筛选条件拆分为多组，每一组可以在一条语句中执行，各组的结果合并之后与原筛选条件的结果一致
+	 * 
+	 * @param conditions 筛选条件
+	 * @return 拆分之后的筛选条件，不需要拆分时只有一组
+	 */
+	List<List<Condition>> partition(List<Condition> conditions);
+
 	/**
 	 * 根据数据生成一个适用于分页的语句片段
 	 * 
@@ -49,6 +57,22 @@ public interface ConditionBuilder {
 	 */
 	StringBuilder createLimit(int pageSize, int pageNum);
 
+	/**
+	 * 生成一个适用于分页的参数化语句片段，该片段依次需要绑定偏移量和分页大小
+	 *
+	 * @return 适用于分页的参数化语句片段
+	 */
+	StringBuilder createLimit();
+
+	/**
+	 * 根据数据生成参数化分页语句片段对应的参数
+	 *
+	 * @param pageSize 分页大小
+	 * @param pageNum  当前页页码
+	 * @return 偏移量和分页大小
+	 */
+	List<Object> createLimitArgs(int pageSize, int pageNum);
+
 	/**
 	 * 生成适用于排序条件部分的SQL语句片段
 	 * @param <T>            数据的类型
@@ -1,7 +1,9 @@
 package com.yishuifengxiao.common.jdbc.sql;
 
+import java.util.Collection;
 import java.util.List;
 
+import com.yishuifengxiao.common.jdbc.entity.Aggregation;
 import com.yishuifengxiao.common.jdbc.entity.Condition;
 import com.yishuifengxiao.common.jdbc.entity.Order;
 import com.yishuifengxiao.common.jdbc.entity.SqlData;
@@ -27,6 +29,17 @@ public interface QueryBuilder {
 	 */
 	<T> SqlData findByPrimaryKey(FieldExtractor fieldExtractor, Class<T> clazz, Object primaryKey);
 
+	/**
+	 * 生成一个根据一组主键查询的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param primaryKeys    主键值
+	 * @return SQL执行对象
+	 */
+	<T> SqlData findByPrimaryKeys(FieldExtractor fieldExtractor, Class<T> clazz, Collection<?> primaryKeys);
+
 	/**
 	 * 生成一个根据条件查询全部数据的SQL执行对象
 	 * 
@@ -78,6 +91,24 @@ public interface QueryBuilder {
 	<T> SqlData findPage(FieldExtractor fieldExtractor, Class<T> clazz, Order order, List<Condition> conditions,
 			int pageSize, int pageNum);
 
+	/**
+	 * <p>
+	 * 生成一个根据条件游标分页查询数据的SQL执行对象
+	 * </p>
+	 * 生成的语句形如 <code>where (排序列, 主键) &gt; (?, ?) order by 排序列, 主键 limit ?</code>
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param order          排序属性
+	 * @param conditions     筛选条件
+	 * @param afterKey       上一页返回的游标，查询第一页时为null
+	 * @param size           查询的记录的数量
+	 * @return SQL执行对象
+	 */
+	<T> SqlData findSlice(FieldExtractor fieldExtractor, Class<T> clazz, Order order, List<Condition> conditions,
+			Object afterKey, int size);
+
 	/**
 	 * 生成一个根据条件查询记录数量的SQL执行对象
 	 * 
@@ -99,4 +130,68 @@ public interface QueryBuilder {
 	 */
 	<T> SqlData countAll(FieldExtractor fieldExtractor, Class<T> clazz, List<Condition> conditions);
 
+	/**
+	 * 生成一个根据条件计算聚合值的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param aggregation    聚合函数
+	 * @param property       参与聚合的属性的名字
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	<T> SqlData aggregate(FieldExtractor fieldExtractor, Class<T> clazz, Aggregation aggregation, String property,
+			List<Condition> conditions);
+
+	/**
+	 * 生成一个根据条件分组统计记录数量的SQL执行对象，结果的第一列为分组属性的值，第二列为记录数量
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param groupBy        分组属性的名字
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	<T> SqlData groupCount(FieldExtractor fieldExtractor, Class<T> clazz, String groupBy, List<Condition> conditions);
+
+	/**
+	 * 生成一个判断是否存在符合条件的记录的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param t              查询条件
+	 * @return SQL执行对象
+	 */
+	<T> SqlData exists(FieldExtractor fieldExtractor, T t);
+
+	/**
+	 * 生成一个判断是否存在符合条件的记录的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	<T> SqlData exists(FieldExtractor fieldExtractor, Class<T> clazz, List<Condition> conditions);
+
+	/**
+	 * 生成一个根据条件查询部分属性的SQL执行对象
+	 * <p>
+	 * 只查询指定属性对应的列，每一列的别名为属性的名字，列的顺序与属性在操作对象中的声明顺序一致
+	 * </p>
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param properties     需要查询的属性的名字
+	 * @param order          排序属性
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	<T> SqlData findProjection(FieldExtractor fieldExtractor, Class<T> clazz, Collection<String> properties, Order order,
+			List<Condition> conditions);
+
 }
@@ -0,0 +1,196 @@
+package com.yishuifengxiao.common.jdbc.sql;
+
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * <p>
+ * SQL模板缓存
+ * </p>
+ * <p>
+ * 对于同一个POJO类、同一种操作、同一组参与操作的列、同一种筛选条件结构、同一种排序方式以及是否分页，生成的SQL语句是完全相同的，
+ * 因此每一种组合只需要生成一次SQL语句，之后的每次调用只需要绑定参数即可
+ * </p>
+ * 规范化之后的SQL语句也能够提高驱动端预编译语句缓存(例如MySQL的cachePrepStmts)的命中率。<br/>
+ * 该缓存最大能容纳4096条SQL模板，超过之后最近最少使用的模板会被释放掉
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public final class SqlTemplateCache {
+
+	/**
+	 * 最多缓存的SQL模板的数量
+	 */
+	private static final int MAXIMUM_SIZE = 4096;
+
+	private static final Cache<Key, String> TEMPLATES = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE)
+			.recordStats().build();
+
+	private SqlTemplateCache() {
+	}
+
+	/**
+	 * 获取一个SQL模板，不存在时通过loader生成并缓存
+	 *
+	 * @param clazz     操作的POJO类
+	 * @param operation 操作类型
+	 * @param columns   参与操作的列的序号，没有时为null
+	 * @param condition 筛选条件结构，没有时为null
+	 * @param order     排序方式，没有时为null
+	 * @param limit     是否包含分页
+	 * @param loader    SQL模板生成函数
+	 * @return SQL模板
+	 */
+	public static String get(Class<?> clazz, Operation operation, BitSet columns, String condition, String order,
+			boolean limit, Supplier<String> loader) {
+		Key key = new Key(clazz, operation, columns, condition, order, limit);
+		try {
+			return TEMPLATES.get(key, loader::get);
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * 获取缓存的统计信息
+	 *
+	 * @return 缓存的统计信息
+	 */
+	public static CacheStats stats() {
+		return TEMPLATES.stats();
+	}
+
+	/**
+	 * 清空所有的SQL模板
+	 */
+	public static void clear() {
+		TEMPLATES.invalidateAll();
+	}
+
+	/**
+	 * SQL模板对应的操作类型
+	 *
+	 * @author yishui
+	 * @version 1.0.0
+	 * @since 1.0.0
+	 */
+	public enum Operation {
+		/**
+		 * 筛选条件片段
+		 */
+		CONDITION,
+		/**
+		 * 根据主键查询
+		 */
+		SELECT_BY_PRIMARY_KEY,
+		/**
+		 * 根据条件查询
+		 */
+		SELECT,
+		/**
+		 * 根据条件查询部分列
+		 */
+		PROJECTION,
+		/**
+		 * 根据条件游标分页查询
+		 */
+		SLICE,
+		/**
+		 * 根据条件统计数量
+		 */
+		COUNT,
+		/**
+		 * 根据条件判断是否存在记录
+		 */
+		EXISTS,
+		/**
+		 * 根据条件计算聚合值
+		 */
+		AGGREGATE,
+		/**
+		 * 根据条件分组统计数量
+		 */
+		GROUP_COUNT,
+		/**
+		 * 插入
+		 */
+		INSERT,
+		/**
+		 * 根据主键更新
+		 */
+		UPDATE_BY_PRIMARY_KEY,
+		/**
+		 * 根据条件更新
+		 */
+		UPDATE,
+		/**
+		 * 根据主键删除
+		 */
+		DELETE_BY_PRIMARY_KEY,
+		/**
+		 * 根据条件删除
+		 */
+		DELETE;
+	}
+
+	/**
+	 * SQL模板的索引
+	 */
+	private static final class Key {
+
+		private final Class<?> clazz;
+
+		private final Operation operation;
+
+		private final BitSet columns;
+
+		private final String condition;
+
+		private final String order;
+
+		private final boolean limit;
+
+		private final int hash;
+
+		Key(Class<?> clazz, Operation operation, BitSet columns, String condition, String order, boolean limit) {
+			this.clazz = clazz;
+			this.operation = operation;
+			this.columns = columns;
+			this.condition = condition;
+			this.order = order;
+			this.limit = limit;
+			this.hash = Objects.hash(clazz, operation, columns, condition, order, limit);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return this.hash == other.hash && this.clazz == other.clazz && this.operation == other.operation
+					&& this.limit == other.limit && Objects.equals(this.columns, other.columns)
+					&& Objects.equals(this.condition, other.condition) && Objects.equals(this.order, other.order);
+		}
+	}
+
+}
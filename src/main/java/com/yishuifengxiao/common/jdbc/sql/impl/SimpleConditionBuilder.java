@@ -3,19 +3,25 @@ package com.yishuifengxiao.common.jdbc.sql.impl;
 import com.yishuifengxiao.common.jdbc.entity.Condition;
 import com.yishuifengxiao.common.jdbc.entity.Condition.Link;
 import com.yishuifengxiao.common.jdbc.entity.Condition.Type;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.jdbc.entity.Order;
 import com.yishuifengxiao.common.jdbc.entity.Order.Direction;
 import com.yishuifengxiao.common.jdbc.entity.SqlData;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
 import com.yishuifengxiao.common.jdbc.sql.ConditionBuilder;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache.Operation;
 
 import com.yishuifengxiao.common.tool.collections.SizeUtil;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * 系统筛选条件生成器
@@ -26,6 +32,19 @@ import java.util.List;
  */
 public class SimpleConditionBuilder implements ConditionBuilder {
 
+	/**
+	 * <p>
+	 * 一组in条件中最多包含的参数的数量
+	 * </p>
+	 * 超过之后可以先通过 {@link #partition(List)} 将筛选条件拆分为多组分别执行；无法拆分执行的语句中拆分为多个使用 or 连接的 in 条件
+	 */
+	public static final int MAX_IN_SIZE = 1024;
+
+	/**
+	 * 筛选条件中最多包含的参数的数量，MySQL中一条语句最多包含65535个占位符，剩余的部分留给分页等其他参数
+	 */
+	public static final int MAX_PARAMETERS = 65000;
+
 	/**
 	 * 根据筛选条件生成SQL执行对象
 	 * 
@@ -42,31 +61,42 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 		if (null == conditions) {
 			return new SqlData(new StringBuilder(""), new ArrayList<>());
 		}
-		StringBuilder sql = new StringBuilder();
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
 		List<Object> data = new ArrayList<>();
+		List<Segment> segments = new ArrayList<>(conditions.size());
+		// 筛选条件的结构，只与条件的列、类型、连接方式以及参数的数量有关
+		StringBuilder shape = new StringBuilder();
 		for (Condition condition : conditions) {
 			if (null == condition || null == condition.getLink() || null == condition.getType()) {
 				continue;
 			}
-			extract(clazz, fieldExtractor, selective, sql, data, condition);
+			Segment segment = extract(metadata, selective, data, condition);
+			if (null == segment) {
+				continue;
+			}
+			segments.add(segment);
+			shape.append(segment.index).append(',').append(segment.type.ordinal()).append(',')
+					.append(segment.link.ordinal()).append(',').append(segment.size).append(';');
 		}
-
-		return new SqlData(sql, data);
+		if (data.size() > MAX_PARAMETERS) {
+			throw new IllegalArgumentException("【yishuifengxiao-common-spring-boot-starter】筛选条件中的参数数量 " + data.size()
+					+ " 超过了单条语句的上限 " + MAX_PARAMETERS);
+		}
+		String sql = SqlTemplateCache.get(clazz, Operation.CONDITION, null, shape.toString(), null, false,
+				() -> this.render(metadata, segments));
+		return new SqlData(new StringBuilder(sql), data);
 	}
 
 	/**
 	 * 解析比较条件
 	 * 
-	 * @param <T>
-	 * @param clazz          操作的对象
-	 * @param fieldExtractor 属性提取器
-	 * @param selective      是否为可选方式
-	 * @param sql            sql语句
-	 * @param data           待比较数据
-	 * @param condition      比较条件
+	 * @param metadata  操作的对象的元数据
+	 * @param selective 是否为可选方式
+	 * @param data      待比较数据
+	 * @param condition 比较条件
+	 * @return 比较条件对应的语句片段信息，该条件被忽略时返回null
 	 */
-	private <T> void extract(Class<T> clazz, FieldExtractor fieldExtractor, boolean selective, StringBuilder sql,
-			List<Object> data, Condition condition) {
+	private Segment extract(EntityMetadata metadata, boolean selective, List<Object> data, Condition condition) {
 
 		// 如果为模糊查询，无论怎么样都会检查数据的值
 		if (Type.LIKE == condition.getType()) {
@@ -74,74 +104,182 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 		}
 
 		if (this.isSkip(selective, condition.getValue())) {
-			return;
+			return null;
 		}
 
-		String colName = fieldExtractor.extractColNameByName(clazz, condition.getName());
-		if (StringUtils.isBlank(colName)) {
-			return;
+		int index = metadata.indexOf(condition.getName());
+		if (index < 0) {
+			return null;
 		}
-		String link = Link.AND == condition.getLink() ? " and " : " or  ";
 		switch (condition.getType()) {
-		case EQUAL:
-			sql.append(link).append(colName).append(" = ? ");
-			data.add(condition.getValue());
-			break;
-		case NOT_EQUAL:
-			sql.append(link).append(colName).append(" <> ? ");
-			data.add(condition.getValue());
-			break;
-		case GREATER:
-			sql.append(link).append(colName).append(" > ? ");
-			data.add(condition.getValue());
-			break;
-		case GREATER_EQUAL:
-			sql.append(link).append(colName).append(" >= ? ");
-			data.add(condition.getValue());
-			break;
-		case LESS:
-			sql.append(link).append(colName).append(" < ? ");
-			data.add(condition.getValue());
-			break;
-		case LESS_EQUAL:
-			sql.append(link).append(colName).append(" <= ? ");
-			data.add(condition.getValue());
-			break;
-		case LIKE:
-			sql.append(link).append(colName).append(" like '%").append(condition.getValue()).append("%' ");
-			break;
 		case IS_NULL:
-			sql.append(link).append(" isnull(").append(colName).append(") ");
-			break;
 		case NOT_NULL:
-			sql.append(link).append(" !isnull(").append(colName).append(") ");
-			break;
+			return new Segment(index, condition.getType(), condition.getLink(), 0);
+		case LIKE:
+			data.add("%" + condition.getValue() + "%");
+			return new Segment(index, condition.getType(), condition.getLink(), 1);
 		case IN:
-			SqlData fragment = this.inContion(colName, condition.getValue());
-			if (null == fragment) {
-				break;
+			List<Object> params = this.inParams(condition.getValue());
+			if (params.isEmpty()) {
+				return null;
 			}
-			sql.append(link).append(fragment.getSqlString());
-			data.addAll(fragment.getArgs());
-			break;
+			// 将参数数量补齐到固定的档位，使不同数量的参数尽可能生成相同的SQL语句
+			int size = this.inBucket(params.size());
+			Object last = params.get(params.size() - 1);
+			while (params.size() < size) {
+				params.add(last);
+			}
+			data.addAll(params);
+			return new Segment(index, condition.getType(), condition.getLink(), params.size());
 		default:
-			break;
+			data.add(condition.getValue());
+			return new Segment(index, condition.getType(), condition.getLink(), 1);
+		}
+	}
+
+	/**
+	 * 根据比较条件的结构生成筛选条件语句片段
+	 * 
+	 * @param metadata 操作的对象的元数据
+	 * @param segments 比较条件对应的语句片段信息
+	 * @return 筛选条件语句片段
+	 */
+	private String render(EntityMetadata metadata, List<Segment> segments) {
+		StringBuilder sql = new StringBuilder();
+		for (Segment segment : segments) {
+			String colName = metadata.getFields().get(segment.index).getSimpleName();
+			sql.append(Link.AND == segment.link ? " and " : " or  ");
+			switch (segment.type) {
+			case EQUAL:
+				sql.append(colName).append(" = ? ");
+				break;
+			case NOT_EQUAL:
+				sql.append(colName).append(" <> ? ");
+				break;
+			case GREATER:
+				sql.append(colName).append(" > ? ");
+				break;
+			case GREATER_EQUAL:
+				sql.append(colName).append(" >= ? ");
+				break;
+			case LESS:
+				sql.append(colName).append(" < ? ");
+				break;
+			case LESS_EQUAL:
+				sql.append(colName).append(" <= ? ");
+				break;
+			case LIKE:
+				sql.append(colName).append(" like ? ");
+				break;
+			case IS_NULL:
+				sql.append(" isnull(").append(colName).append(") ");
+				break;
+			case NOT_NULL:
+				sql.append(" !isnull(").append(colName).append(") ");
+				break;
+			case IN:
+				// 每 MAX_IN_SIZE 个参数为一组，多组之间使用 or 连接
+				sql.append(" ( ");
+				for (int from = 0; from < segment.size; from += MAX_IN_SIZE) {
+					if (from > 0) {
+						sql.append(" or ");
+					}
+					sql.append(colName).append(" in ( ");
+					for (int i = from; i < Math.min(from + MAX_IN_SIZE, segment.size); i++) {
+						sql.append(i > from ? ", ?" : "?");
+					}
+					sql.append(" )");
+				}
+				sql.append(" ) ");
+				break;
+			default:
+				break;
+			}
+		}
+		return sql.toString();
+	}
+
+	/**
+	 * <p>
+	 * 计算in条件补齐之后的占位符数量
+	 * </p>
+	 * 每 {@value #MAX_IN_SIZE} 个参数为一组，最后一组的数量向上补齐到2的整数次幂
+	 * 
+	 * @param size 参数的数量
+	 * @return 补齐之后的占位符数量
+	 */
+	private int inBucket(int size) {
+		int full = size / MAX_IN_SIZE * MAX_IN_SIZE;
+		int rest = size - full;
+		if (rest == 0) {
+			return full;
+		}
+		int bucket = 1;
+		while (bucket < rest) {
+			bucket <<= 1;
 		}
+		return full + bucket;
 	}
 
 	/**
-	 * 解析in连接条件
+	 * <p>
+	 * 将包含超长in条件的筛选条件拆分为多组
+	 * </p>
+	 * 参数数量超过 {@value #MAX_IN_SIZE} 的in条件的参数去重之后按照该上限拆分，每一组中该条件只包含其中一部分参数，其他条件保持不变。
+	 * 由于一条记录的列值只会与其中一组参数匹配，各组的结果互不重复，合并之后与原筛选条件的结果一致。<br/>
+	 * 只有所有条件都使用 and 连接且只有一个超长in条件时才能拆分，否则不拆分，由 {@link #build(Class, FieldExtractor, boolean, List)} 将超长in条件展开为多个使用 or 连接的
+	 * in条件
 	 * 
-	 * @param colName 数据库列名
-	 * @param value   比较值
-	 * @return
+	 * @param conditions 筛选条件
+	 * @return 拆分之后的筛选条件，不需要拆分时只有一组
+	 */
+	@Override
+	public List<List<Condition>> partition(List<Condition> conditions) {
+		int index = -1;
+		List<Object> params = null;
+		for (int i = 0; null != conditions && i < conditions.size(); i++) {
+			Condition condition = conditions.get(i);
+			if (null == condition || Type.IN != condition.getType()) {
+				continue;
+			}
+			List<Object> values = this.inParams(condition.getValue());
+			if (values.size() <= MAX_IN_SIZE) {
+				continue;
+			}
+			if (index >= 0) {
+				return Collections.singletonList(conditions);
+			}
+			index = i;
+			params = values;
+		}
+		if (index < 0) {
+			return Collections.singletonList(conditions);
+		}
+		if (conditions.stream().anyMatch(v -> null != v && Link.OR == v.getLink())) {
+			return Collections.singletonList(conditions);
+		}
+		List<List<Condition>> partitions = new ArrayList<>();
+		for (int from = 0; from < params.size(); from += MAX_IN_SIZE) {
+			List<Condition> partition = new ArrayList<>(conditions);
+			partition.set(index, Condition.andIn(conditions.get(index).getName(),
+					new ArrayList<>(params.subList(from, Math.min(from + MAX_IN_SIZE, params.size())))));
+			partitions.add(partition);
+		}
+		return partitions;
+	}
+
+	/**
+	 * 解析in连接条件的参数
+	 * 
+	 * @param value 比较值
+	 * @return 去重之后的有效的比较值
 	 */
 	@SuppressWarnings({ "rawtypes" })
-	private SqlData inContion(String colName, Object value) {
+	private List<Object> inParams(Object value) {
+		List<Object> data = new ArrayList<>();
 		if (null == value) {
-			return null;
+			return data;
 		}
-		StringBuilder sql = new StringBuilder(" ( ");
 		List params = new ArrayList();
 		if (value instanceof List) {
 			params = (List) value;
@@ -149,20 +287,13 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 			Object[] array = (Object[]) value;
 			params = Arrays.asList(array);
 		}
-		if (null == params || params.isEmpty()) {
-			return null;
-		}
-		List<Object> data = new ArrayList<>();
 		for (Object param : params) {
 			if (null == param || StringUtils.isBlank(param.toString())) {
 				continue;
 			}
-			sql.append(colName).append(" = ? or ");
 			data.add(param);
 		}
-		// 删除最后一个 or
-		sql = sql.delete(sql.lastIndexOf("or"), sql.length());
-		return new SqlData(sql.append(" ) "), data);
+		return data.stream().distinct().collect(Collectors.toList());
 	}
 
 	/**
@@ -177,27 +308,33 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 	@Override
 	public <T> SqlData build(FieldExtractor fieldExtractor, T t, boolean selective) {
 
-		StringBuilder sql = new StringBuilder(" ");
 		if (null == t) {
-			return new SqlData(sql, new ArrayList<>());
+			return new SqlData(new StringBuilder(" "), new ArrayList<>());
 		}
+		List<FieldValue> fields = fieldExtractor.extractMetadata(t.getClass()).getFields();
+		BitSet columns = new BitSet(fields.size());
 		List<Object> args = new ArrayList<>();
-		if (null != t) {
-			for (FieldValue field : fieldExtractor.extractFiled(t.getClass())) {
-				// 获取到的属性的对应的值
-				Object value = fieldExtractor.extractValue(t, field.getName());
+		Object[] values = fieldExtractor.extractValues(t);
+		for (int i = 0; i < fields.size(); i++) {
+			// 获取到的属性的对应的值
+			Object value = values[i];
 
-				if (this.isSkip(selective, value)) {
-					// 排除null值和空字符串
-					continue;
-
-				}
-				sql.append(" and ").append(field.getSimpleName()).append(" = ? ");
-				args.add(value);
+			if (this.isSkip(selective, value)) {
+				// 排除null值和空字符串
+				continue;
 			}
+			columns.set(i);
+			args.add(value);
 		}
+		String sql = SqlTemplateCache.get(t.getClass(), Operation.CONDITION, columns, null, null, false, () -> {
+			StringBuilder builder = new StringBuilder(" ");
+			for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+				builder.append(" and ").append(fields.get(i).getSimpleName()).append(" = ? ");
+			}
+			return builder.toString();
+		});
 
-		return new SqlData(sql, args);
+		return new SqlData(new StringBuilder(sql), args);
 
 	}
 
@@ -238,6 +375,32 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 				.append("  ");
 	}
 
+	/**
+	 * 生成一个适用于分页的参数化语句片段，该片段依次需要绑定偏移量和分页大小
+	 * 
+	 * @return 适用于分页的参数化语句片段
+	 */
+	@Override
+	public StringBuilder createLimit() {
+		return new StringBuilder(" limit  ? , ?  ");
+	}
+
+	/**
+	 * 根据数据生成参数化分页语句片段对应的参数
+	 * 
+	 * @param pageSize 分页大小
+	 * @param pageNum  当前页页码
+	 * @return 偏移量和分页大小
+	 */
+	@Override
+	public List<Object> createLimitArgs(int pageSize, int pageNum) {
+
+		pageSize = pageSize <= 0 ? 20 : pageSize;
+		pageNum = pageNum <= 0 ? 1 : pageNum;
+
+		return Arrays.asList((pageNum - 1) * pageSize, pageSize);
+	}
+
 	/**
 	 * 生成适用于排序条件部分的SQL语句片段
 	 * 
@@ -256,7 +419,7 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 			return sql;
 		}
 
-		sql.append("order by ").append(fieldExtractor.extractColNameByName(clazz, order.getOrderName()));
+		sql.append("order by ").append(fieldExtractor.extractMetadata(clazz).getColName(order.getOrderName()));
 		if (null != order.getDirection()) {
 			if (null == order.getDirection() || order.getDirection() == Direction.ASC) {
 				sql.append(" asc ");
@@ -294,4 +457,31 @@ public class SimpleConditionBuilder implements ConditionBuilder {
 
 	}
 
+	/**
+	 * 一个比较条件对应的语句片段信息
+	 */
+	private static final class Segment {
+
+		/**
+		 * 列的序号
+		 */
+		private final int index;
+
+		private final Type type;
+
+		private final Link link;
+
+		/**
+		 * 参数的数量
+		 */
+		private final int size;
+
+		Segment(int index, Type type, Link link, int size) {
+			this.index = index;
+			this.type = type;
+			this.link = link;
+			this.size = size;
+		}
+	}
+
 }
@@ -2,15 +2,25 @@ package com.yishuifengxiao.common.jdbc.sql.impl;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.List;
 
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.Assert;
+
+import com.yishuifengxiao.common.jdbc.entity.Aggregation;
 import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.Order.Direction;
 import com.yishuifengxiao.common.jdbc.entity.SqlData;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
 import com.yishuifengxiao.common.jdbc.sql.ConditionBuilder;
 import com.yishuifengxiao.common.jdbc.sql.QueryBuilder;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache.Operation;
 import com.yishuifengxiao.common.tool.collections.SizeUtil;
 
 
@@ -37,18 +47,34 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	@Override
 	public <T> SqlData findByPrimaryKey(FieldExtractor fieldExtractor, Class<T> clazz, Object primaryKey) {
 
-		List<FieldValue> list = fieldExtractor.extractFiled(clazz);
+		String sql = SqlTemplateCache.get(clazz, Operation.SELECT_BY_PRIMARY_KEY, null, null, null, false, () -> {
+			EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+			// 查询主体
+			return this.createSelect(metadata).append(" and ").append(metadata.getPrimaryKey().getSimpleName())
+					.append(" = ? ").toString();
+		});
 
-		// 查询主体
-		StringBuilder sql = conditionBuilder.creatResult(list).append(" from ")
-				.append(fieldExtractor.extractTableName(clazz)).append(" where 1=1 ");
+		return new SqlData(new StringBuilder(sql), Arrays.asList(primaryKey));
+	}
 
-		// 查询参数
-		FieldValue fieldValue = fieldExtractor.extractPrimaryKey(clazz);
+	/**
+	 * 生成一个根据一组主键查询的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param primaryKeys    主键值
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData findByPrimaryKeys(FieldExtractor fieldExtractor, Class<T> clazz, Collection<?> primaryKeys) {
 
-		sql.append(" and ").append(fieldValue.getSimpleName()).append(" = ? ");
+		String primaryKey = fieldExtractor.extractMetadata(clazz).getPrimaryKey().getName();
+		// 筛选条件，主键的数量会被补齐到固定的档位
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true,
+				Arrays.asList(Condition.andIn(primaryKey, new ArrayList<>(primaryKeys))));
 
-		return new SqlData(sql, Arrays.asList(primaryKey));
+		return this.select(fieldExtractor, clazz, condtion, null, null);
 	}
 
 	/**
@@ -63,25 +89,10 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	@Override
 	public <T> SqlData findAll(FieldExtractor fieldExtractor, T t, Order order) {
 
-		List<FieldValue> list = fieldExtractor.extractFiled(t.getClass());
-
-		// 查询主体
-		StringBuilder sql = conditionBuilder.creatResult(list).append(" from ")
-				.append(fieldExtractor.extractTableName(t.getClass())).append(" where 1=1 ");
-
-		List<Object> data = new ArrayList<>();
-
 		// 查询条件
 		SqlData condtion = conditionBuilder.build(fieldExtractor, t, true);
-		sql.append(condtion.getSql());
 
-		if (SizeUtil.isNotEmpty(condtion.getArgs())) {
-			data.addAll(condtion.getArgs());
-		}
-
-		sql.append(conditionBuilder.createOrder(t.getClass(), fieldExtractor, order));
-
-		return new SqlData(sql, data);
+		return this.select(fieldExtractor, t.getClass(), condtion, order, null);
 	}
 
 	/**
@@ -97,26 +108,52 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	@Override
 	public <T> SqlData findAll(FieldExtractor fieldExtractor, Class<T> clazz, Order order, List<Condition> conditions) {
 
-		List<FieldValue> list = fieldExtractor.extractFiled(clazz);
-
-		// 查询主体
-		StringBuilder sql = conditionBuilder.creatResult(list).append(" from ")
-				.append(fieldExtractor.extractTableName(clazz)).append(" where 1=1 ");
-
-		List<Object> data = new ArrayList<>();
-
 		// 筛选条件
 		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
-		sql.append(condtion.getSql());
 
-		if (SizeUtil.isNotEmpty(condtion.getArgs())) {
-			data.addAll(condtion.getArgs());
-		}
+		return this.select(fieldExtractor, clazz, condtion, order, null);
+
+	}
 
-		sql.append(conditionBuilder.createOrder(clazz, fieldExtractor, order));
+	/**
+	 * 生成一个根据条件查询部分属性的SQL执行对象
+	 * <p>
+	 * 只查询指定属性对应的列，每一列的别名为属性的名字，列的顺序与属性在操作对象中的声明顺序一致
+	 * </p>
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param properties     需要查询的属性的名字
+	 * @param order          排序属性
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData findProjection(FieldExtractor fieldExtractor, Class<T> clazz, Collection<String> properties,
+			Order order, List<Condition> conditions) {
+		Assert.notEmpty(properties, "【yishuifengxiao-common-spring-boot-starter】需要查询的属性不能为空");
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+		BitSet columns = new BitSet(metadata.size());
+		for (String property : properties) {
+			columns.or(this.column(metadata, property));
+		}
 
-		return new SqlData(sql, data);
+		// 筛选条件
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
 
+		String sql = SqlTemplateCache.get(clazz, Operation.PROJECTION, columns, condtion.getSqlString(),
+				this.orderKey(order), false, () -> {
+					List<FieldValue> fields = new ArrayList<>(columns.cardinality());
+					for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+						fields.add(metadata.getFields().get(i));
+					}
+					return conditionBuilder.creatResult(fields).append(" from ").append(metadata.getTableName())
+							.append(" where 1=1 ").append(condtion.getSql())
+							.append(conditionBuilder.createOrder(clazz, fieldExtractor, order)).toString();
+				});
+
+		return new SqlData(new StringBuilder(sql), condtion.getArgs());
 	}
 
 	/**
@@ -133,10 +170,11 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	@Override
 	public <T> SqlData findPage(FieldExtractor fieldExtractor, T t, Order order, int pageSize, int pageNum) {
 
-		SqlData sqlData = this.findAll(fieldExtractor, t, order);
+		// 查询条件
+		SqlData condtion = conditionBuilder.build(fieldExtractor, t, true);
 
-		StringBuilder sql = sqlData.getSql().append(" ").append(conditionBuilder.createLimit(pageSize, pageNum));
-		return new SqlData(sql, sqlData.getArgs());
+		return this.select(fieldExtractor, t.getClass(), condtion, order,
+				conditionBuilder.createLimitArgs(pageSize, pageNum));
 	}
 
 	/**
@@ -155,11 +193,107 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	public <T> SqlData findPage(FieldExtractor fieldExtractor, Class<T> clazz, Order order, List<Condition> conditions,
 			int pageSize, int pageNum) {
 
-		SqlData sqlData = this.findAll(fieldExtractor, clazz, order, conditions);
+		// 筛选条件
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
+
+		return this.select(fieldExtractor, clazz, condtion, order,
+				conditionBuilder.createLimitArgs(pageSize, pageNum));
+
+	}
+
+	/**
+	 * <p>
+	 * 生成一个根据条件游标分页查询数据的SQL执行对象
+	 * </p>
+	 * 生成的语句形如 <code>where (排序列, 主键) &gt; (?, ?) order by 排序列, 主键 limit ?</code>。<br/>
+	 * 排序列中的null值在升序时排在最前面，在降序时排在最后面，因此游标中的排序属性值为null时生成
+	 * <code>(排序列 is null and 主键 &gt; ?) or 排序列 is not null</code> ，降序时生成
+	 * <code>排序列 is null and 主键 &lt; ?</code> 并在非null游标的比较条件后追加 <code>or 排序列 is null</code>，
+	 * 保证排序列可以为null时不会遗漏记录
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param order          排序属性
+	 * @param conditions     筛选条件
+	 * @param afterKey       上一页返回的游标，查询第一页时为null
+	 * @param size           查询的记录的数量
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData findSlice(FieldExtractor fieldExtractor, Class<T> clazz, Order order, List<Condition> conditions,
+			Object afterKey, int size) {
+
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+		FieldValue primaryKey = metadata.getPrimaryKey();
+		// 按照非主键属性排序时，使用排序属性和主键共同组成游标
+		FieldValue orderField = null == order || StringUtils.isBlank(order.getOrderName()) ? null
+				: metadata.getField(order.getOrderName());
+		if (null != order && StringUtils.isNotBlank(order.getOrderName())) {
+			Assert.notNull(orderField, "【yishuifengxiao-common-spring-boot-starter】" + clazz.getName() + " 中不存在排序属性 "
+					+ order.getOrderName());
+		}
+		boolean composite = null != orderField && !StringUtils.equals(orderField.getName(), primaryKey.getName());
+		boolean desc = null != order && Direction.DESC == order.getDirection();
 
-		StringBuilder sql = sqlData.getSql().append(" ").append(conditionBuilder.createLimit(pageSize, pageNum));
-		return new SqlData(sql, sqlData.getArgs());
+		// 筛选条件
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
 
+		List<Object> data = new ArrayList<>(condtion.getArgs());
+		// 游标中的排序属性值是否为null
+		boolean nullCursor = false;
+		if (null != afterKey) {
+			if (composite) {
+				Assert.isTrue(afterKey instanceof Object[] && ((Object[]) afterKey).length == 2,
+						"【yishuifengxiao-common-spring-boot-starter】游标必须为由排序属性值和主键值组成的数组");
+				Object[] keys = (Object[]) afterKey;
+				nullCursor = null == keys[0];
+				if (!nullCursor) {
+					data.add(keys[0]);
+				}
+				data.add(keys[1]);
+			} else {
+				data.add(afterKey);
+			}
+		}
+		data.add(size);
+
+		boolean afterNull = nullCursor;
+		String orderKey = (composite ? orderField.getName() : "") + ":" + desc + ":" + (null != afterKey) + ":"
+				+ nullCursor;
+		String sql = SqlTemplateCache.get(clazz, Operation.SLICE, null, condtion.getSqlString(), orderKey, true, () -> {
+			String pk = primaryKey.getSimpleName();
+			String compare = desc ? " < " : " > ";
+			String direction = desc ? " desc " : " asc ";
+			StringBuilder builder = this.createSelect(metadata).append(condtion.getSql());
+			if (null != afterKey) {
+				String col = composite ? orderField.getSimpleName() : null;
+				if (composite && afterNull) {
+					if (desc) {
+						builder.append(" and ( ").append(col).append(" is null and ").append(pk).append(" < ? ) ");
+					} else {
+						builder.append(" and ( ( ").append(col).append(" is null and ").append(pk).append(" > ? ) or ")
+								.append(col).append(" is not null ) ");
+					}
+				} else if (composite) {
+					builder.append(" and ( ( ").append(col).append(" , ").append(pk).append(" )").append(compare)
+							.append("( ? , ? ) ");
+					if (desc) {
+						builder.append(" or ").append(col).append(" is null ");
+					}
+					builder.append(") ");
+				} else {
+					builder.append(" and ").append(pk).append(compare).append("? ");
+				}
+			}
+			builder.append(" order by ");
+			if (composite) {
+				builder.append(orderField.getSimpleName()).append(direction).append(", ");
+			}
+			return builder.append(pk).append(direction).append(" limit ? ").toString();
+		});
+
+		return new SqlData(new StringBuilder(sql), data);
 	}
 
 	/**
@@ -172,15 +306,10 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	 */
 	@Override
 	public <T> SqlData countAll(FieldExtractor fieldExtractor, T t) {
-		StringBuilder sql = new StringBuilder("select count(*) from ");
-
-		sql.append(fieldExtractor.extractTableName(t.getClass())).append(" where 1=1 ");
 
 		SqlData condtion = conditionBuilder.build(fieldExtractor, t, true);
 
-		sql.append(condtion.getSql());
-
-		return new SqlData(sql, condtion.getArgs());
+		return this.count(fieldExtractor, t.getClass(), condtion);
 	}
 
 	/**
@@ -194,15 +323,212 @@ public class SimpleQueryBuilder implements QueryBuilder {
 	 */
 	@Override
 	public <T> SqlData countAll(FieldExtractor fieldExtractor, Class<T> clazz, List<Condition> conditions) {
-		StringBuilder sql = new StringBuilder("select count(*) from ");
 
-		sql.append(fieldExtractor.extractTableName(clazz)).append(" where 1=1 ");
+		// 筛选条件
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
+
+		return this.count(fieldExtractor, clazz, condtion);
+	}
+
+	/**
+	 * 生成一个判断是否存在符合条件的记录的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param t              查询条件
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData exists(FieldExtractor fieldExtractor, T t) {
+
+		SqlData condtion = conditionBuilder.build(fieldExtractor, t, true);
+
+		return this.exists(fieldExtractor, t.getClass(), condtion);
+	}
+
+	/**
+	 * 生成一个判断是否存在符合条件的记录的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData exists(FieldExtractor fieldExtractor, Class<T> clazz, List<Condition> conditions) {
+
+		// 筛选条件
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
+
+		return this.exists(fieldExtractor, clazz, condtion);
+	}
+
+	/**
+	 * 生成一个根据条件计算聚合值的SQL执行对象
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param aggregation    聚合函数
+	 * @param property       参与聚合的属性的名字
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData aggregate(FieldExtractor fieldExtractor, Class<T> clazz, Aggregation aggregation,
+			String property, List<Condition> conditions) {
+		Assert.notNull(aggregation, "【yishuifengxiao-common-spring-boot-starter】聚合函数不能为空");
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+		BitSet columns = this.column(metadata, property);
+
+		// 筛选条件
+		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
+
+		String sql = SqlTemplateCache.get(clazz, Operation.AGGREGATE, columns, condtion.getSqlString(),
+				aggregation.name(), false,
+				() -> new StringBuilder("select ").append(aggregation.getFunction()).append("(")
+						.append(metadata.getFields().get(columns.nextSetBit(0)).getSimpleName()).append(") from ")
+						.append(metadata.getTableName()).append(" where 1=1 ").append(condtion.getSql()).toString());
+
+		return new SqlData(new StringBuilder(sql), condtion.getArgs());
+	}
+
+	/**
+	 * 生成一个根据条件分组统计记录数量的SQL执行对象，结果的第一列为分组属性的值，第二列为记录数量
+	 * 
+	 * @param <T>            操作对象的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param groupBy        分组属性的名字
+	 * @param conditions     筛选条件
+	 * @return SQL执行对象
+	 */
+	@Override
+	public <T> SqlData groupCount(FieldExtractor fieldExtractor, Class<T> clazz, String groupBy,
+			List<Condition> conditions) {
+		EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+		BitSet columns = this.column(metadata, groupBy);
 
 		// 筛选条件
 		SqlData condtion = conditionBuilder.build(clazz, fieldExtractor, true, conditions);
 
-		sql.append(condtion.getSql());
+		String sql = SqlTemplateCache.get(clazz, Operation.GROUP_COUNT, columns, condtion.getSqlString(), null, false,
+				() -> {
+					String colName = metadata.getFields().get(columns.nextSetBit(0)).getSimpleName();
+					return new StringBuilder("select ").append(colName).append(" , count(*) from ")
+							.append(metadata.getTableName()).append(" where 1=1 ").append(condtion.getSql())
+							.append(" group by ").append(colName).toString();
+				});
 
-		return new SqlData(sql, condtion.getArgs());
+		return new SqlData(new StringBuilder(sql), condtion.getArgs());
+	}
+
+	/**
+	 * 根据属性的名字获取其在所有列中的位置
+	 * 
+	 * @param metadata 操作对象的元数据
+	 * @param property 属性的名字
+	 * @return 只包含该属性的列集合
+	 */
+	private BitSet column(EntityMetadata metadata, String property) {
+		int index = metadata.indexOf(property);
+		Assert.isTrue(index >= 0, "【yishuifengxiao-common-spring-boot-starter】" + metadata.getClazz().getName()
+				+ " 中不存在属性 " + property);
+		BitSet columns = new BitSet(metadata.size());
+		columns.set(index);
+		return columns;
+	}
+
+	/**
+	 * 根据筛选条件生成查询数据的SQL执行对象
+	 * 
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param condtion       筛选条件
+	 * @param order          排序属性
+	 * @param limitArgs      分页参数，不分页时为null
+	 * @return SQL执行对象
+	 */
+	private SqlData select(FieldExtractor fieldExtractor, Class<?> clazz, SqlData condtion, Order order,
+			List<Object> limitArgs) {
+
+		String sql = SqlTemplateCache.get(clazz, Operation.SELECT, null, condtion.getSqlString(), this.orderKey(order),
+				null != limitArgs, () -> {
+					StringBuilder builder = this.createSelect(fieldExtractor.extractMetadata(clazz))
+							.append(condtion.getSql()).append(conditionBuilder.createOrder(clazz, fieldExtractor, order));
+					if (null != limitArgs) {
+						builder.append(" ").append(conditionBuilder.createLimit());
+					}
+					return builder.toString();
+				});
+
+		List<Object> data = new ArrayList<>();
+		if (SizeUtil.isNotEmpty(condtion.getArgs())) {
+			data.addAll(condtion.getArgs());
+		}
+		if (null != limitArgs) {
+			data.addAll(limitArgs);
+		}
+		return new SqlData(new StringBuilder(sql), data);
+	}
+
+	/**
+	 * 根据筛选条件生成查询记录数量的SQL执行对象
+	 * 
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param condtion       筛选条件
+	 * @return SQL执行对象
+	 */
+	private SqlData count(FieldExtractor fieldExtractor, Class<?> clazz, SqlData condtion) {
+
+		String sql = SqlTemplateCache.get(clazz, Operation.COUNT, null, condtion.getSqlString(), null, false,
+				() -> new StringBuilder("select count(*) from ")
+						.append(fieldExtractor.extractMetadata(clazz).getTableName()).append(" where 1=1 ")
+						.append(condtion.getSql()).toString());
+
+		return new SqlData(new StringBuilder(sql), condtion.getArgs());
+	}
+
+	/**
+	 * 根据筛选条件生成判断是否存在符合条件的记录的SQL执行对象，找到第一条记录之后数据库即可停止扫描
+	 * 
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          操作对象
+	 * @param condtion       筛选条件
+	 * @return SQL执行对象
+	 */
+	private SqlData exists(FieldExtractor fieldExtractor, Class<?> clazz, SqlData condtion) {
+
+		String sql = SqlTemplateCache.get(clazz, Operation.EXISTS, null, condtion.getSqlString(), null, true,
+				() -> new StringBuilder("select 1 from ").append(fieldExtractor.extractMetadata(clazz).getTableName())
+						.append(" where 1=1 ").append(condtion.getSql()).append(" limit 1 ").toString());
+
+		return new SqlData(new StringBuilder(sql), condtion.getArgs());
+	}
+
+	/**
+	 * 生成查询语句的主体部分
+	 * 
+	 * @param metadata 操作对象的元数据
+	 * @return 查询语句的主体部分
+	 */
+	private StringBuilder createSelect(EntityMetadata metadata) {
+		return conditionBuilder.creatResult(metadata.getFields()).append(" from ").append(metadata.getTableName())
+				.append(" where 1=1 ");
+	}
+
+	/**
+	 * 生成排序条件在SQL模板缓存中的索引
+	 * 
+	 * @param order 排序条件
+	 * @return 排序条件的索引，没有排序条件时为null
+	 */
+	private String orderKey(Order order) {
+		if (null == order || null == order.getOrderName()) {
+			return null;
+		}
+		return order.getOrderName() + ":" + order.getDirection();
 	}
 }
@@ -1,5 +1,6 @@
 package com.yishuifengxiao.common.jdbc.translator;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,6 +36,21 @@ public interface DeleteTranslator extends ExecuteTranslator {
 	<T> int deleteByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, Class<T> clazz, Object primaryKey);
 
+	/**
+	 * 根据主键批量删除数据
+	 * 
+	 * @param <T>             需要操作的table对应的POJO的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           需要操作的table对应的POJO类
+	 * @param primaryKeys     主键
+	 * @param batchSize       每一批提交的最大记录数量
+	 * @return 每一个主键受影响的记录的数量，顺序与主键的顺序一致
+	 */
+	<T> int[] deleteByPrimaryKeys(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Collection<?> primaryKeys, int batchSize);
+
 	/**
 	 * 根据条件删除删除
 	 * 
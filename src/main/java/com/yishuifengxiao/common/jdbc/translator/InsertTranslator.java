@@ -1,5 +1,7 @@
 package com.yishuifengxiao.common.jdbc.translator;
 
+import java.util.List;
+
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
@@ -31,4 +33,19 @@ public interface InsertTranslator extends ExecuteTranslator {
 	<T> int insert(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, boolean selective,
 			ExecuteExecutor executeExecutor, T t);
 
+	/**
+	 * 批量插入数据
+	 * 
+	 * @param <T>             需要操作的table对应的POJO的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param selective       是否为可选属性方式
+	 * @param executeExecutor 语句执行器
+	 * @param list            需要操作的table对应的POJO类实例
+	 * @param batchSize       每一批提交的最大记录数量
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	<T> int[] insertBatch(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, boolean selective,
+			ExecuteExecutor executeExecutor, List<T> list, int batchSize);
+
 }
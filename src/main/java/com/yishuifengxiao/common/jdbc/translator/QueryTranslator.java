@@ -1,11 +1,19 @@
 package com.yishuifengxiao.common.jdbc.translator;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
 
+import com.yishuifengxiao.common.jdbc.entity.Aggregation;
 import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.CountMode;
 import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.Slice;
+import com.yishuifengxiao.common.jdbc.executor.CountExecutor;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
 import com.yishuifengxiao.common.tool.entity.Page;
@@ -36,6 +44,21 @@ public interface QueryTranslator extends ExecuteTranslator {
 	<T> T findByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			Class<T> clazz, Object primaryKey);
 
+	/**
+	 * 根据一组主键查询记录，重复的主键只会查询一次
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param primaryKeys     主键
+	 * @param batchSize       每一条语句中最多包含的主键的数量，小于等于0时只按照in条件的参数数量上限拆分
+	 * @return 查询出来的记录，不保证与主键的顺序一致
+	 */
+	<T> List<T> findByPrimaryKeys(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Collection<?> primaryKeys, int batchSize);
+
 	/**
 	 * 根据条件查询全部符合条件的记录
 	 * 
@@ -65,6 +88,37 @@ public interface QueryTranslator extends ExecuteTranslator {
 	<T> List<T> findAll(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			Class<T> clazz, List<Condition> conditions, Order order);
 
+	/**
+	 * 以流的方式查询全部符合条件的记录，使用完成后必须关闭该流
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param t               查询条件
+	 * @param order           排序条件
+	 * @param fetchSize       每次从数据库中获取的记录数量
+	 * @return 查询出来的记录组成的流
+	 */
+	<T> Stream<T> stream(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			T t, Order order, int fetchSize);
+
+	/**
+	 * 以流的方式查询全部符合条件的记录，使用完成后必须关闭该流
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @param order           排序条件
+	 * @param fetchSize       每次从数据库中获取的记录数量
+	 * @return 查询出来的记录组成的流
+	 */
+	<T> Stream<T> stream(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			Class<T> clazz, List<Condition> conditions, Order order, int fetchSize);
+
 	/**
 	 * 根据条件查询前几条符合条件的记录
 	 * 
@@ -129,6 +183,61 @@ public interface QueryTranslator extends ExecuteTranslator {
 	<T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			Class<T> clazz, List<Condition> conditions, Order order, int pageSize, int pageNum);
 
+	/**
+	 * 根据条件分页查询符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param t               查询条件
+	 * @param order           排序条件
+	 * @param pageSize        分页大小
+	 * @param pageNum         当前页页码
+	 * @param countMode       总记录数量的统计方式
+	 * @param countExecutor   记录数量统计执行器
+	 * @return 查询出来的记录
+	 */
+	<T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor, T t,
+			Order order, int pageSize, int pageNum, CountMode countMode, CountExecutor countExecutor);
+
+	/**
+	 * 根据条件分页查询符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @param order           排序条件
+	 * @param pageSize        分页大小
+	 * @param pageNum         当前页页码
+	 * @param countMode       总记录数量的统计方式
+	 * @param countExecutor   记录数量统计执行器
+	 * @return 查询出来的记录
+	 */
+	<T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			Class<T> clazz, List<Condition> conditions, Order order, int pageSize, int pageNum, CountMode countMode,
+			CountExecutor countExecutor);
+
+	/**
+	 * 根据条件游标分页查询符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @param order           排序条件
+	 * @param afterKey        上一页返回的游标，查询第一页时为null
+	 * @param size            每一页的记录数量
+	 * @return 查询出来的记录
+	 */
+	<T> Slice<T> findSlice(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			Class<T> clazz, List<Condition> conditions, Order order, Object afterKey, int size);
+
 	/**
 	 * 查询符合条件的记录的数量
 	 * 
@@ -155,4 +264,83 @@ public interface QueryTranslator extends ExecuteTranslator {
 	<T> Long countAll(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			Class<T> clazz, List<Condition> conditions);
 
+	/**
+	 * 根据条件计算聚合值
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param <R>             聚合结果的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param aggregation     聚合函数
+	 * @param property        参与聚合的属性的名字
+	 * @param conditions      筛选条件
+	 * @param type            聚合结果的类型
+	 * @return 聚合结果，没有符合条件的记录时为null
+	 */
+	<T, R> R aggregate(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			Class<T> clazz, Aggregation aggregation, String property, List<Condition> conditions, Class<R> type);
+
+	/**
+	 * 根据条件分组统计记录数量
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param groupBy         分组属性的名字
+	 * @param conditions      筛选条件
+	 * @return 每一个分组属性值对应的记录数量
+	 */
+	<T> Map<Object, Long> groupCount(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, String groupBy, List<Condition> conditions);
+
+	/**
+	 * 判断是否存在符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param t               查询条件
+	 * @return 存在符合条件的记录时返回为true
+	 */
+	<T> boolean exists(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			T t);
+
+	/**
+	 * 判断是否存在符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @return 存在符合条件的记录时返回为true
+	 */
+	<T> boolean exists(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			Class<T> clazz, List<Condition> conditions);
+
+	/**
+	 * 根据条件查询部分属性，每一条记录使用指定的映射器转换
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param <R>             查询的结果数据的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param properties      需要查询的属性的名字
+	 * @param rowMapper       记录映射器，每一列的列名为属性的名字
+	 * @param order           排序条件
+	 * @param conditions      筛选条件
+	 * @return 所有符合条件的记录
+	 */
+	<T, R> List<R> findProjection(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Collection<String> properties, RowMapper<R> rowMapper,
+			Order order, List<Condition> conditions);
+
 }
@@ -35,6 +35,21 @@ public interface UpdateTranslator extends ExecuteTranslator {
 	<T> int updateByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, boolean selective, T t);
 
+	/**
+	 * 根据主键批量更新数据
+	 * 
+	 * @param <T>             待更新的数据数据类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 非查询语句执行器
+	 * @param selective       是否为可选属性方式
+	 * @param list            待更新的数据
+	 * @param batchSize       每一批提交的最大记录数量
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	<T> int[] updateBatchByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, boolean selective, List<T> list, int batchSize);
+
 	/**
 	 * 根据条件方式批量更新数据
 	 * 
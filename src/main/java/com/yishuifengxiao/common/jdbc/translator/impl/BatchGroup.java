@@ -0,0 +1,67 @@
+package com.yishuifengxiao.common.jdbc.translator.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+
+/**
+ * <p>
+ * 一组使用相同SQL语句的批量操作数据
+ * </p>
+ * 记录每一条数据在原始列表中的序号，以便将批量执行的结果还原为与原始数据一致的顺序
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+class BatchGroup {
+
+	private final EntityMetadata metadata;
+
+	/**
+	 * 数据在原始列表中的序号
+	 */
+	private final List<Integer> indexes = new ArrayList<>();
+
+	/**
+	 * 每一条数据对应的参数
+	 */
+	private final List<Object[]> args = new ArrayList<>();
+
+	BatchGroup(EntityMetadata metadata) {
+		this.metadata = metadata;
+	}
+
+	/**
+	 * 添加一条数据
+	 * 
+	 * @param index 数据在原始列表中的序号
+	 * @param data  数据对应的参数
+	 */
+	void add(int index, Object[] data) {
+		this.indexes.add(index);
+		this.args.add(data);
+	}
+
+	/**
+	 * 将批量执行的结果按照数据在原始列表中的序号写入到结果中
+	 * 
+	 * @param result 批量执行的结果
+	 * @param counts 与原始列表顺序一致的结果
+	 */
+	void scatter(int[] result, int[] counts) {
+		for (int i = 0; i < result.length && i < this.indexes.size(); i++) {
+			counts[this.indexes.get(i)] = result[i];
+		}
+	}
+
+	EntityMetadata getMetadata() {
+		return metadata;
+	}
+
+	List<Object[]> getArgs() {
+		return args;
+	}
+
+}
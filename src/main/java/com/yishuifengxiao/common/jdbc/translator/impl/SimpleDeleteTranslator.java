@@ -1,6 +1,7 @@
 package com.yishuifengxiao.common.jdbc.translator.impl;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -13,6 +14,8 @@ import com.yishuifengxiao.common.jdbc.entity.SqlData;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
 import com.yishuifengxiao.common.jdbc.sql.ConditionBuilder;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache.Operation;
 import com.yishuifengxiao.common.jdbc.sql.impl.SimpleConditionBuilder;
 import com.yishuifengxiao.common.jdbc.translator.DeleteTranslator;
 import com.yishuifengxiao.common.tool.collections.DataUtil;
@@ -46,9 +49,31 @@ public class SimpleDeleteTranslator implements DeleteTranslator {
 	@Override
 	public <T> int deleteByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, Class<T> clazz, Object primaryKey) {
-		StringBuilder sql = createSql(fieldExtractor, clazz);
-		sql.append(" and ").append(fieldExtractor.extractPrimaryKey(clazz).getSimpleName()).append(" = ?");
-		return executeExecutor.execute(jdbcTemplate, sql, Arrays.asList(primaryKey));
+		String sql = this.createPrimaryKeySql(fieldExtractor, clazz);
+		return executeExecutor.execute(jdbcTemplate, new StringBuilder(sql), Arrays.asList(primaryKey));
+	}
+
+	/**
+	 * 根据主键批量删除数据
+	 * 
+	 * @param <T>             需要操作的table对应的POJO的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           需要操作的table对应的POJO类
+	 * @param primaryKeys     主键
+	 * @param batchSize       每一批提交的最大记录数量
+	 * @return 每一个主键受影响的记录的数量，顺序与主键的顺序一致
+	 */
+	@Override
+	public <T> int[] deleteByPrimaryKeys(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Collection<?> primaryKeys, int batchSize) {
+		if (null == primaryKeys || primaryKeys.isEmpty()) {
+			return new int[0];
+		}
+		String sql = this.createPrimaryKeySql(fieldExtractor, clazz);
+		List<Object[]> batchArgs = primaryKeys.stream().map(v -> new Object[] { v }).collect(Collectors.toList());
+		return executeExecutor.batchExecute(jdbcTemplate, sql, batchArgs, batchSize);
 	}
 
 	/**
@@ -65,9 +90,8 @@ public class SimpleDeleteTranslator implements DeleteTranslator {
 	@Override
 	public <T> int delete(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			boolean selective, T t) {
-		StringBuilder sql = createSql(fieldExtractor, t.getClass());
 		SqlData condtion = conditionBuilder.build(fieldExtractor, t, selective);
-		return executeExecutor.execute(jdbcTemplate, sql.append(condtion.getSqlString()), condtion.getArgs());
+		return this.delete(jdbcTemplate, fieldExtractor, executeExecutor, t.getClass(), condtion);
 	}
 
 	/**
@@ -89,12 +113,44 @@ public class SimpleDeleteTranslator implements DeleteTranslator {
 				.filter(t -> null != t.getType() && null != t.getLink() && StringUtils.isNotBlank(t.getName()))
 				.collect(Collectors.toList());
 
-		StringBuilder sql = createSql(fieldExtractor, clazz);
+		int count = 0;
+		// 筛选条件中包含超长in条件时拆分为多条语句分别删除
+		for (List<Condition> partition : conditionBuilder.partition(conditions)) {
+			SqlData sqlData = conditionBuilder.build(clazz, fieldExtractor, selective, partition);
+			count += this.delete(jdbcTemplate, fieldExtractor, executeExecutor, clazz, sqlData);
+		}
+		return count;
+	}
 
-		// 筛选条件
-		SqlData sqlData = conditionBuilder.build(clazz, fieldExtractor, selective, conditions);
+	/**
+	 * 根据筛选条件删除数据
+	 * 
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           需要操作的table对应的POJO类
+	 * @param condtion        筛选条件
+	 * @return 受影响的记录的数量
+	 */
+	private int delete(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			Class<?> clazz, SqlData condtion) {
+		String sql = SqlTemplateCache.get(clazz, Operation.DELETE, null, condtion.getSqlString(), null, false,
+				() -> createSql(fieldExtractor, clazz).append(condtion.getSql()).toString());
+		return executeExecutor.execute(jdbcTemplate, new StringBuilder(sql), condtion.getArgs());
+	}
 
-		return executeExecutor.execute(jdbcTemplate, sql.append(sqlData.getSql()), sqlData.getArgs());
+	/**
+	 * 生成根据主键删除数据的SQL语句
+	 * 
+	 * @param fieldExtractor 属性提取器
+	 * @param clazz          待操作的对象
+	 * @return 根据主键删除数据的SQL语句
+	 */
+	private String createPrimaryKeySql(FieldExtractor fieldExtractor, Class<?> clazz) {
+		return SqlTemplateCache.get(clazz, Operation.DELETE_BY_PRIMARY_KEY, null, null, null, false,
+				() -> createSql(fieldExtractor, clazz).append(" and ")
+						.append(fieldExtractor.extractMetadata(clazz).getPrimaryKey().getSimpleName()).append(" = ?")
+						.toString());
 	}
 
 	/**
@@ -106,7 +162,7 @@ public class SimpleDeleteTranslator implements DeleteTranslator {
 	 * @return
 	 */
 	private <T> StringBuilder createSql(FieldExtractor fieldExtractor, Class<T> clazz) {
-		StringBuilder sql = new StringBuilder("delete from  ").append(fieldExtractor.extractTableName(clazz))
+		StringBuilder sql = new StringBuilder("delete from  ").append(fieldExtractor.extractMetadata(clazz).getTableName())
 				.append(" where 1=1  ");
 		return sql;
 	}
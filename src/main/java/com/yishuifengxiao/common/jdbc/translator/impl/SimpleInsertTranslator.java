@@ -1,13 +1,19 @@
 package com.yishuifengxiao.common.jdbc.translator.impl;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.jdbc.core.JdbcTemplate;
 
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache.Operation;
 import com.yishuifengxiao.common.jdbc.translator.InsertTranslator;
 
 /**
@@ -36,28 +42,103 @@ public class SimpleInsertTranslator implements InsertTranslator {
 	@Override
 	public <T> int insert(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, boolean selective,
 			ExecuteExecutor executeExecutor, T t) {
-		List<Object> data = new ArrayList<>();
-		List<FieldValue> list = fieldExtractor.extractFiled(t.getClass());
-		StringBuilder sql = new StringBuilder("insert into ").append(fieldExtractor.extractTableName(t.getClass()))
-				.append(" ( ");
-		StringBuilder params = new StringBuilder(" ( ");
-		for (FieldValue field : list) {
+		EntityMetadata metadata = fieldExtractor.extractMetadata(t.getClass());
+		List<Object> data = new ArrayList<>(metadata.size());
+		// 参与插入的列
+		BitSet columns = this.extract(fieldExtractor, metadata, t, selective, data);
+		String sql = SqlTemplateCache.get(t.getClass(), Operation.INSERT, columns, null, null, false,
+				() -> this.createSql(metadata, columns));
+		return executeExecutor.execute(jdbcTemplate, new StringBuilder(sql), data);
+	}
+
+	/**
+	 * 批量插入数据
+	 * 
+	 * @param <T>             需要操作的table对应的POJO的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param selective       是否为可选属性方式
+	 * @param executeExecutor 语句执行器
+	 * @param list            需要操作的table对应的POJO类实例
+	 * @param batchSize       每一批提交的最大记录数量
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	@Override
+	public <T> int[] insertBatch(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, boolean selective,
+			ExecuteExecutor executeExecutor, List<T> list, int batchSize) {
+		int[] counts = new int[null == list ? 0 : list.size()];
+		if (counts.length == 0) {
+			return counts;
+		}
+		// 按照参与插入的列分组，同一组的数据使用相同的SQL语句
+		Map<Class<?>, Map<BitSet, BatchGroup>> batches = new LinkedHashMap<>();
+		for (int i = 0; i < list.size(); i++) {
+			T t = list.get(i);
+			if (null == t) {
+				continue;
+			}
+			EntityMetadata metadata = fieldExtractor.extractMetadata(t.getClass());
+			List<Object> data = new ArrayList<>(metadata.size());
+			BitSet columns = this.extract(fieldExtractor, metadata, t, selective, data);
+			batches.computeIfAbsent(t.getClass(), k -> new LinkedHashMap<>())
+					.computeIfAbsent(columns, k -> new BatchGroup(metadata)).add(i, data.toArray());
+		}
+		batches.forEach((clazz, group) -> group.forEach((columns, batch) -> {
+			String sql = SqlTemplateCache.get(clazz, Operation.INSERT, columns, null, null, false,
+					() -> this.createSql(batch.getMetadata(), columns));
+			batch.scatter(executeExecutor.batchExecute(jdbcTemplate, sql, batch.getArgs(), batchSize), counts);
+		}));
+		return counts;
+	}
+
+	/**
+	 * 提取参与插入的列及其对应的值
+	 * 
+	 * @param <T>            需要操作的table对应的POJO的类型
+	 * @param fieldExtractor 属性提取器
+	 * @param metadata       需要操作的table对应的POJO的元数据
+	 * @param t              需要操作的table对应的POJO类实例
+	 * @param selective      是否为可选属性方式
+	 * @param data           参与插入的列对应的值
+	 * @return 参与插入的列
+	 */
+	private <T> BitSet extract(FieldExtractor fieldExtractor, EntityMetadata metadata, T t, boolean selective,
+			List<Object> data) {
+		List<FieldValue> fields = metadata.getFields();
+		BitSet columns = new BitSet(fields.size());
+		Object[] values = fieldExtractor.extractValues(t);
+		for (int i = 0; i < fields.size(); i++) {
 			// 获取到的属性的对应的值
-			Object value = fieldExtractor.extractValue(t, field.getName());
+			Object value = values[i];
 			if (null == value && selective) {
 				continue;
 			}
-			sql.append(field.getSimpleName()).append(" , ");
-			params.append("? ,");
+			columns.set(i);
 			data.add(value);
 		}
+		return columns;
+	}
+
+	/**
+	 * 生成插入语句
+	 * 
+	 * @param metadata 需要操作的table对应的POJO的元数据
+	 * @param columns  参与插入的列
+	 * @return 插入语句
+	 */
+	private String createSql(EntityMetadata metadata, BitSet columns) {
+		StringBuilder sql = new StringBuilder("insert into ").append(metadata.getTableName()).append(" ( ");
+		StringBuilder params = new StringBuilder(" ( ");
+		for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+			sql.append(metadata.getFields().get(i).getSimpleName()).append(" , ");
+			params.append("? ,");
+		}
 		// 删除最后一个,
 		sql.deleteCharAt(sql.lastIndexOf(","));
 		params.deleteCharAt(params.lastIndexOf(","));
 		// 拼接好sql
 
-		sql.append(") values ").append(params).append(" ) ");
-		return executeExecutor.execute(jdbcTemplate, sql, data);
+		return sql.append(") values ").append(params).append(" ) ").toString();
 	}
 
 }
@@ -1,18 +1,38 @@
 package com.yishuifengxiao.common.jdbc.translator.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.util.ClassUtils;
 
+import com.google.common.base.Throwables;
+import com.google.common.collect.Lists;
+import com.yishuifengxiao.common.jdbc.entity.Aggregation;
 import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.CountMode;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.Slice;
 import com.yishuifengxiao.common.jdbc.entity.SqlData;
+import com.yishuifengxiao.common.jdbc.executor.CountExecutor;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+import com.yishuifengxiao.common.jdbc.sql.ConditionBuilder;
 import com.yishuifengxiao.common.jdbc.sql.QueryBuilder;
+import com.yishuifengxiao.common.jdbc.sql.impl.SimpleConditionBuilder;
 import com.yishuifengxiao.common.jdbc.sql.impl.SimpleQueryBuilder;
 import com.yishuifengxiao.common.jdbc.translator.QueryTranslator;
 import com.yishuifengxiao.common.tool.collections.DataUtil;
@@ -29,6 +49,8 @@ public class SimpleQueryTranslator implements QueryTranslator {
 
 	private final QueryBuilder queryBuilder = new SimpleQueryBuilder();
 
+	private final ConditionBuilder conditionBuilder = new SimpleConditionBuilder();
+
 	/**
 	 * 根据主键查询一条记录
 	 * 
@@ -47,6 +69,37 @@ public class SimpleQueryTranslator implements QueryTranslator {
 		return DataUtil.first(executeExecutor.findAll(jdbcTemplate, clazz, sqlData.getSqlString(), sqlData.getArgs()));
 	}
 
+	/**
+	 * 根据一组主键查询记录，重复的主键只会查询一次
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param primaryKeys     主键
+	 * @param batchSize       每一条语句中最多包含的主键的数量，小于等于0或者超过
+	 *                        {@link SimpleConditionBuilder#MAX_IN_SIZE} 时按照该上限拆分
+	 * @return 查询出来的记录，不保证与主键的顺序一致
+	 */
+	@Override
+	public <T> List<T> findByPrimaryKeys(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Collection<?> primaryKeys, int batchSize) {
+		List<Object> keys = null == primaryKeys ? new ArrayList<>()
+				: primaryKeys.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+		List<T> list = new ArrayList<>(keys.size());
+		if (keys.isEmpty()) {
+			return list;
+		}
+		batchSize = batchSize <= 0 ? SimpleConditionBuilder.MAX_IN_SIZE
+				: Math.min(batchSize, SimpleConditionBuilder.MAX_IN_SIZE);
+		for (List<Object> partition : Lists.partition(keys, batchSize)) {
+			SqlData sqlData = queryBuilder.findByPrimaryKeys(fieldExtractor, clazz, partition);
+			list.addAll(executeExecutor.findAll(jdbcTemplate, clazz, sqlData.getSqlString(), sqlData.getArgs()));
+		}
+		return list;
+	}
+
 	/**
 	 * 根据条件查询全部符合条件的记录
 	 * 
@@ -69,7 +122,11 @@ public class SimpleQueryTranslator implements QueryTranslator {
 	}
 
 	/**
+	 * <p>
 	 * 根据条件查询全部符合条件的记录
+	 * </p>
+	 * 筛选条件中包含超长in条件且没有排序条件时拆分为多条语句分别查询后合并；有排序条件时在一条语句中将超长in条件展开为多个使用 or 连接的in条件，
+	 * 由数据库完成排序，保证排序规则与null值的位置与数据库一致
 	 * 
 	 * @param <T>             操作对象的类型
 	 * @param jdbcTemplate    JdbcTemplate
@@ -84,12 +141,62 @@ public class SimpleQueryTranslator implements QueryTranslator {
 	public <T> List<T> findAll(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, Class<T> clazz, List<Condition> conditions, Order order) {
 
-		SqlData sqlData = queryBuilder.findAll(fieldExtractor, clazz, order, this.collect(conditions));
+		List<Condition> collected = this.collect(conditions);
+		List<List<Condition>> partitions = null == order || StringUtils.isBlank(order.getOrderName())
+				? conditionBuilder.partition(collected)
+				: Collections.singletonList(collected);
+		List<T> list = new ArrayList<>();
+		for (List<Condition> partition : partitions) {
+			SqlData sqlData = queryBuilder.findAll(fieldExtractor, clazz, order, partition);
+			list.addAll(executeExecutor.findAll(jdbcTemplate, clazz, sqlData.getSqlString(), sqlData.getArgs()));
+		}
+		return list;
 
-		String sql = sqlData.getSqlString();
+	}
 
-		return (List<T>) executeExecutor.findAll(jdbcTemplate, clazz, sql, sqlData.getArgs());
+	/**
+	 * 以流的方式查询全部符合条件的记录，使用完成后必须关闭该流
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param t               查询条件
+	 * @param order           排序条件
+	 * @param fetchSize       每次从数据库中获取的记录数量
+	 * @return 查询出来的记录组成的流
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Stream<T> stream(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, T t, Order order, int fetchSize) {
+
+		SqlData sqlData = queryBuilder.findAll(fieldExtractor, t, order);
+
+		return (Stream<T>) executeExecutor.stream(jdbcTemplate, t.getClass(), sqlData.getSqlString(),
+				sqlData.getArgs(), fetchSize);
+	}
+
+	/**
+	 * 以流的方式查询全部符合条件的记录，使用完成后必须关闭该流
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @param order           排序条件
+	 * @param fetchSize       每次从数据库中获取的记录数量
+	 * @return 查询出来的记录组成的流
+	 */
+	@Override
+	public <T> Stream<T> stream(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, List<Condition> conditions, Order order, int fetchSize) {
+
+		SqlData sqlData = queryBuilder.findAll(fieldExtractor, clazz, order, this.collect(conditions));
 
+		return executeExecutor.stream(jdbcTemplate, clazz, sqlData.getSqlString(), sqlData.getArgs(), fetchSize);
 	}
 
 	/**
@@ -154,16 +261,60 @@ public class SimpleQueryTranslator implements QueryTranslator {
 	public <T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, T t, Order order, int pageSize, int pageNum) {
 
+		return this.findPage(jdbcTemplate, fieldExtractor, executeExecutor, t, order, pageSize, pageNum,
+				CountMode.EXACT, null);
+	}
+
+	/**
+	 * 根据条件分页查询符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param t               查询条件
+	 * @param order           排序条件
+	 * @param pageSize        分页大小
+	 * @param pageNum         当前页页码
+	 * @param countMode       总记录数量的统计方式
+	 * @param countExecutor   记录数量统计执行器
+	 * @return 查询出来的记录
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, T t, Order order, int pageSize, int pageNum, CountMode countMode,
+			CountExecutor countExecutor) {
+
 		// 查询出该分页的数据
 		SqlData sql = queryBuilder.findPage(fieldExtractor, t, order, pageSize, pageNum);
 
-		List<T> data = (List<T>) executeExecutor.findAll(jdbcTemplate, t.getClass(), sql.getSqlString(), sql.getArgs());
+		return this.page(jdbcTemplate, executeExecutor, (Class<T>) t.getClass(), sql,
+				() -> queryBuilder.countAll(fieldExtractor, t), pageSize, pageNum, countMode, countExecutor);
+	}
+
+	/**
+	 * 根据条件分页查询符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @param order           排序条件
+	 * @param pageSize        分页大小
+	 * @param pageNum         当前页页码
+	 * @return 查询出来的记录
+	 */
+	@Override
+	public <T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, List<Condition> conditions, Order order, int pageSize,
+			int pageNum) {
 
-		// 查询出总的记录数量
-		SqlData countSql = queryBuilder.countAll(fieldExtractor, t);
-		Long total = executeExecutor.countAll(jdbcTemplate, countSql.getSqlString(), countSql.getArgs());
+		return this.findPage(jdbcTemplate, fieldExtractor, executeExecutor, clazz, conditions, order, pageSize, pageNum,
+				CountMode.EXACT, null);
 
-		return Page.of(data, total, pageSize, pageNum);
 	}
 
 	/**
@@ -178,23 +329,129 @@ public class SimpleQueryTranslator implements QueryTranslator {
 	 * @param order           排序条件
 	 * @param pageSize        分页大小
 	 * @param pageNum         当前页页码
+	 * @param countMode       总记录数量的统计方式
+	 * @param countExecutor   记录数量统计执行器
 	 * @return 查询出来的记录
 	 */
 	@Override
 	public <T> Page<T> findPage(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, Class<T> clazz, List<Condition> conditions, Order order, int pageSize,
-			int pageNum) {
+			int pageNum, CountMode countMode, CountExecutor countExecutor) {
+
+		List<Condition> list = this.collect(conditions);
 
 		// 查询出该分页的数据
-		SqlData sql = queryBuilder.findPage(fieldExtractor, clazz, order, this.collect(conditions), pageSize, pageNum);
-		List<T> data = (List<T>) executeExecutor.findAll(jdbcTemplate, clazz, sql.getSqlString(), sql.getArgs());
+		SqlData sql = queryBuilder.findPage(fieldExtractor, clazz, order, list, pageSize, pageNum);
 
-		// 查询出总的记录数量
-		SqlData countSql = queryBuilder.countAll(fieldExtractor, clazz, this.collect(conditions));
-		Long total = executeExecutor.countAll(jdbcTemplate, countSql.getSqlString(), countSql.getArgs());
+		return this.page(jdbcTemplate, executeExecutor, clazz, sql,
+				() -> queryBuilder.countAll(fieldExtractor, clazz, list), pageSize, pageNum, countMode, countExecutor);
+	}
 
-		return Page.of(data, total, pageSize, pageNum);
+	/**
+	 * 按照指定的总记录数量统计方式执行分页查询
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param sql             分页查询的SQL执行对象，最后两个参数依次为偏移量和分页大小
+	 * @param countSql        统计总记录数量的SQL执行对象
+	 * @param pageSize        分页大小
+	 * @param pageNum         当前页页码
+	 * @param countMode       总记录数量的统计方式
+	 * @param countExecutor   记录数量统计执行器
+	 * @return 查询出来的记录
+	 */
+	private <T> Page<T> page(JdbcTemplate jdbcTemplate, ExecuteExecutor executeExecutor, Class<T> clazz, SqlData sql,
+			Supplier<SqlData> countSql, int pageSize, int pageNum, CountMode countMode, CountExecutor countExecutor) {
+		countMode = null == countMode ? CountMode.EXACT : countMode;
+		if (null == countExecutor && (CountMode.CONCURRENT == countMode || CountMode.CACHED == countMode)) {
+			countMode = CountMode.EXACT;
+		}
+		switch (countMode) {
+		case NONE: {
+			// 多查询一条记录，用于判断是否还有下一页
+			List<Object> args = sql.getArgs();
+			int offset = ((Number) args.get(args.size() - 2)).intValue();
+			int size = ((Number) args.get(args.size() - 1)).intValue();
+			args.set(args.size() - 1, size + 1);
+			List<T> data = executeExecutor.findAll(jdbcTemplate, clazz, sql.getSqlString(), args);
+			boolean hasNext = data.size() > size;
+			if (hasNext) {
+				data = new ArrayList<>(data.subList(0, size));
+			}
+			return Page.of(data, offset + data.size() + (hasNext ? 1 : 0), pageSize, pageNum);
+		}
+		case CONCURRENT: {
+			SqlData count = countSql.get();
+			CompletableFuture<Long> total = countExecutor.countAsync(jdbcTemplate, executeExecutor,
+					count.getSqlString(), count.getArgs());
+			List<T> data = executeExecutor.findAll(jdbcTemplate, clazz, sql.getSqlString(), sql.getArgs());
+			try {
+				return Page.of(data, total.join(), pageSize, pageNum);
+			} catch (CompletionException e) {
+				Throwables.throwIfUnchecked(e.getCause());
+				throw e;
+			}
+		}
+		case CACHED: {
+			List<T> data = executeExecutor.findAll(jdbcTemplate, clazz, sql.getSqlString(), sql.getArgs());
+			SqlData count = countSql.get();
+			long total = countExecutor.countCached(jdbcTemplate, executeExecutor, count.getSqlString(),
+					count.getArgs());
+			return Page.of(data, total, pageSize, pageNum);
+		}
+		default: {
+			List<T> data = executeExecutor.findAll(jdbcTemplate, clazz, sql.getSqlString(), sql.getArgs());
+			// 查询出总的记录数量
+			SqlData count = countSql.get();
+			Long total = executeExecutor.countAll(jdbcTemplate, count.getSqlString(), count.getArgs());
+			return Page.of(data, total, pageSize, pageNum);
+		}
+		}
+	}
 
+	/**
+	 * 根据条件游标分页查询符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @param order           排序条件
+	 * @param afterKey        上一页返回的游标，查询第一页时为null
+	 * @param size            每一页的记录数量
+	 * @return 查询出来的记录
+	 */
+	@Override
+	public <T> Slice<T> findSlice(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, List<Condition> conditions, Order order, Object afterKey,
+			int size) {
+		size = size <= 0 ? 20 : size;
+
+		// 多查询一条记录，用于判断是否还有下一页
+		SqlData sql = queryBuilder.findSlice(fieldExtractor, clazz, order, this.collect(conditions), afterKey,
+				size + 1);
+		List<T> data = executeExecutor.findAll(jdbcTemplate, clazz, sql.getSqlString(), sql.getArgs());
+
+		boolean hasNext = data.size() > size;
+		if (hasNext) {
+			data = new ArrayList<>(data.subList(0, size));
+		}
+		Object nextKey = null;
+		if (hasNext) {
+			T last = data.get(data.size() - 1);
+			EntityMetadata metadata = fieldExtractor.extractMetadata(clazz);
+			FieldValue primaryKey = metadata.getPrimaryKey();
+			FieldValue orderField = null == order ? null : metadata.getField(order.getOrderName());
+			Object primaryKeyValue = fieldExtractor.extractValue(last, primaryKey.getName());
+			nextKey = null == orderField || StringUtils.equals(orderField.getName(), primaryKey.getName())
+					? primaryKeyValue
+					: new Object[] { fieldExtractor.extractValue(last, orderField.getName()), primaryKeyValue };
+		}
+		return new Slice<>(data, size, hasNext, nextKey);
 	}
 
 	/**
@@ -228,8 +485,127 @@ public class SimpleQueryTranslator implements QueryTranslator {
 	@Override
 	public <T> Long countAll(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			Class<T> clazz, List<Condition> conditions) {
-		SqlData sqlData = queryBuilder.countAll(fieldExtractor, clazz, this.collect(conditions));
-		return executeExecutor.countAll(jdbcTemplate, sqlData.getSqlString(), sqlData.getArgs());
+		long total = 0L;
+		// 拆分之后各组的记录互不重复，可以直接累加
+		for (List<Condition> partition : conditionBuilder.partition(this.collect(conditions))) {
+			SqlData sqlData = queryBuilder.countAll(fieldExtractor, clazz, partition);
+			Long count = executeExecutor.countAll(jdbcTemplate, sqlData.getSqlString(), sqlData.getArgs());
+			total += null == count ? 0L : count;
+		}
+		return total;
+	}
+
+	/**
+	 * 判断是否存在符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param t               查询条件
+	 * @return 存在符合条件的记录时返回为true
+	 */
+	@Override
+	public <T> boolean exists(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, T t) {
+		SqlData sqlData = queryBuilder.exists(fieldExtractor, t);
+		return null != executeExecutor.queryForValue(jdbcTemplate, Integer.class, sqlData.getSqlString(),
+				sqlData.getArgs());
+	}
+
+	/**
+	 * 判断是否存在符合条件的记录
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param conditions      筛选条件
+	 * @return 存在符合条件的记录时返回为true
+	 */
+	@Override
+	public <T> boolean exists(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, List<Condition> conditions) {
+		for (List<Condition> partition : conditionBuilder.partition(this.collect(conditions))) {
+			SqlData sqlData = queryBuilder.exists(fieldExtractor, clazz, partition);
+			if (null != executeExecutor.queryForValue(jdbcTemplate, Integer.class, sqlData.getSqlString(),
+					sqlData.getArgs())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * 根据条件查询部分属性，每一条记录使用指定的映射器转换
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param <R>             查询的结果数据的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param properties      需要查询的属性的名字
+	 * @param rowMapper       记录映射器，每一列的列名为属性的名字
+	 * @param order           排序条件
+	 * @param conditions      筛选条件
+	 * @return 所有符合条件的记录
+	 */
+	@Override
+	public <T, R> List<R> findProjection(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Collection<String> properties, RowMapper<R> rowMapper,
+			Order order, List<Condition> conditions) {
+		SqlData sqlData = queryBuilder.findProjection(fieldExtractor, clazz, properties, order,
+				this.collect(conditions));
+		return executeExecutor.query(jdbcTemplate, rowMapper, sqlData.getSqlString(), sqlData.getArgs());
+	}
+
+	/**
+	 * 根据条件计算聚合值
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param <R>             聚合结果的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param aggregation     聚合函数
+	 * @param property        参与聚合的属性的名字
+	 * @param conditions      筛选条件
+	 * @param type            聚合结果的类型
+	 * @return 聚合结果，没有符合条件的记录时为null
+	 */
+	@Override
+	public <T, R> R aggregate(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, Aggregation aggregation, String property,
+			List<Condition> conditions, Class<R> type) {
+		SqlData sqlData = queryBuilder.aggregate(fieldExtractor, clazz, aggregation, property,
+				this.collect(conditions));
+		return executeExecutor.queryForValue(jdbcTemplate, type, sqlData.getSqlString(), sqlData.getArgs());
+	}
+
+	/**
+	 * 根据条件分组统计记录数量
+	 * 
+	 * @param <T>             操作对象的类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 语句执行器
+	 * @param clazz           操作对象
+	 * @param groupBy         分组属性的名字
+	 * @param conditions      筛选条件
+	 * @return 每一个分组属性值对应的记录数量
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> Map<Object, Long> groupCount(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, Class<T> clazz, String groupBy, List<Condition> conditions) {
+		SqlData sqlData = queryBuilder.groupCount(fieldExtractor, clazz, groupBy, this.collect(conditions));
+		FieldValue field = fieldExtractor.extractMetadata(clazz).getField(groupBy);
+		Class<Object> keyType = (Class<Object>) (null == field || null == field.getType() ? Object.class
+				: ClassUtils.resolvePrimitiveIfNecessary(field.getType()));
+		return executeExecutor.groupCount(jdbcTemplate, keyType, sqlData.getSqlString(), sqlData.getArgs());
 	}
 
 	/**
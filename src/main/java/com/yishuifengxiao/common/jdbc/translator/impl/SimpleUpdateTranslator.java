@@ -1,7 +1,10 @@
 package com.yishuifengxiao.common.jdbc.translator.impl;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -9,11 +12,14 @@ import org.apache.commons.lang3.StringUtils;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
 import com.yishuifengxiao.common.jdbc.entity.FieldValue;
 import com.yishuifengxiao.common.jdbc.entity.SqlData;
 import com.yishuifengxiao.common.jdbc.executor.ExecuteExecutor;
 import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
 import com.yishuifengxiao.common.jdbc.sql.ConditionBuilder;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache;
+import com.yishuifengxiao.common.jdbc.sql.SqlTemplateCache.Operation;
 import com.yishuifengxiao.common.jdbc.sql.impl.SimpleConditionBuilder;
 import com.yishuifengxiao.common.jdbc.translator.UpdateTranslator;
 import com.yishuifengxiao.common.tool.collections.DataUtil;
@@ -46,18 +52,62 @@ public class SimpleUpdateTranslator implements UpdateTranslator {
 	@Override
 	public <T> int updateByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
 			ExecuteExecutor executeExecutor, boolean selective, T t) {
+		EntityMetadata metadata = fieldExtractor.extractMetadata(t.getClass());
+		FieldValue primaryKey = metadata.getPrimaryKey();
+
 		// 更新语句的前半部分
-		SqlData sqlData = this.createSql(fieldExtractor, t, selective);
+		List<Object> data = new ArrayList<>();
+		BitSet columns = this.extract(fieldExtractor, metadata, t, selective, data);
+		data.add(fieldExtractor.extractValue(t, primaryKey.getName()));
 
 		// 后半部分
-		StringBuilder sql = sqlData.getSql().append(" and ")
-				.append(fieldExtractor.extractPrimaryKey(t.getClass()).getSimpleName()).append(" = ? ");
-
-		List<Object> data = sqlData.getArgs();
+		String sql = SqlTemplateCache.get(t.getClass(), Operation.UPDATE_BY_PRIMARY_KEY, columns, null, null, false,
+				() -> this.createSql(metadata, columns).append(" and ").append(primaryKey.getSimpleName())
+						.append(" = ? ").toString());
 
-		data.add(fieldExtractor.extractValue(t, fieldExtractor.extractPrimaryKey(t.getClass()).getName()));
+		return executeExecutor.execute(jdbcTemplate, new StringBuilder(sql), data);
+	}
 
-		return executeExecutor.execute(jdbcTemplate, sql, data);
+	/**
+	 * 根据主键批量更新数据
+	 * 
+	 * @param <T>             待更新的数据数据类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 非查询语句执行器
+	 * @param selective       是否为可选属性方式
+	 * @param list            待更新的数据
+	 * @param batchSize       每一批提交的最大记录数量
+	 * @return 每一条数据受影响的记录的数量，顺序与数据的顺序一致
+	 */
+	@Override
+	public <T> int[] updateBatchByPrimaryKey(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor,
+			ExecuteExecutor executeExecutor, boolean selective, List<T> list, int batchSize) {
+		int[] counts = new int[null == list ? 0 : list.size()];
+		if (counts.length == 0) {
+			return counts;
+		}
+		// 按照待更新的列分组，同一组的数据使用相同的SQL语句
+		Map<Class<?>, Map<BitSet, BatchGroup>> batches = new LinkedHashMap<>();
+		for (int i = 0; i < list.size(); i++) {
+			T t = list.get(i);
+			if (null == t) {
+				continue;
+			}
+			EntityMetadata metadata = fieldExtractor.extractMetadata(t.getClass());
+			List<Object> data = new ArrayList<>(metadata.size() + 1);
+			BitSet columns = this.extract(fieldExtractor, metadata, t, selective, data);
+			data.add(fieldExtractor.extractValue(t, metadata.getPrimaryKey().getName()));
+			batches.computeIfAbsent(t.getClass(), k -> new LinkedHashMap<>())
+					.computeIfAbsent(columns, k -> new BatchGroup(metadata)).add(i, data.toArray());
+		}
+		batches.forEach((clazz, group) -> group.forEach((columns, batch) -> {
+			String sql = SqlTemplateCache.get(clazz, Operation.UPDATE_BY_PRIMARY_KEY, columns, null, null, false,
+					() -> this.createSql(batch.getMetadata(), columns).append(" and ")
+							.append(batch.getMetadata().getPrimaryKey().getSimpleName()).append(" = ? ").toString());
+			batch.scatter(executeExecutor.batchExecute(jdbcTemplate, sql, batch.getArgs(), batchSize), counts);
+		}));
+		return counts;
 	}
 
 	/**
@@ -75,19 +125,10 @@ public class SimpleUpdateTranslator implements UpdateTranslator {
 	@Override
 	public <T> int update(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
 			boolean selective, T t, T condition) {
-		// 更新语句的前半部分
-		SqlData sqlData = this.createSql(fieldExtractor, t, selective);
-
 		// 筛选条件
 		SqlData contionsql = conditionBuilder.build(fieldExtractor, condition, true);
-		
-		
-		StringBuilder sql = sqlData.getSql().append(contionsql.getSql());
-
-		List<Object> data = sqlData.getArgs();
-		data.addAll(contionsql.getArgs());
 
-		return executeExecutor.execute(jdbcTemplate, sql, data);
+		return this.update(jdbcTemplate, fieldExtractor, executeExecutor, selective, t, contionsql);
 	}
 
 	/**
@@ -110,48 +151,88 @@ public class SimpleUpdateTranslator implements UpdateTranslator {
 				.filter(v -> null != v.getType() && null != v.getLink() && StringUtils.isNotBlank(v.getName()))
 				.collect(Collectors.toList());
 
-		// 更新语句的前半部分
-		SqlData sql = this.createSql(fieldExtractor, t, selective);
+		int count = 0;
+		// 筛选条件中包含超长in条件时拆分为多条语句分别更新
+		for (List<Condition> partition : conditionBuilder.partition(conditions)) {
+			SqlData sqlData = conditionBuilder.build(t.getClass(), fieldExtractor, true, partition);
+			count += this.update(jdbcTemplate, fieldExtractor, executeExecutor, selective, t, sqlData);
+		}
+		return count;
+	}
 
-		// 筛选条件
-		SqlData sqlData = conditionBuilder.build(t.getClass(), fieldExtractor, true, conditions);
+	/**
+	 * 根据筛选条件更新数据
+	 * 
+	 * @param <T>             待更新的数据数据类型
+	 * @param jdbcTemplate    JdbcTemplate
+	 * @param fieldExtractor  属性提取器
+	 * @param executeExecutor 非查询语句执行器
+	 * @param selective       是否为可选属性方式
+	 * @param t               待更新的数据
+	 * @param condtion        筛选条件
+	 * @return 受影响的记录的数量
+	 */
+	private <T> int update(JdbcTemplate jdbcTemplate, FieldExtractor fieldExtractor, ExecuteExecutor executeExecutor,
+			boolean selective, T t, SqlData condtion) {
+		EntityMetadata metadata = fieldExtractor.extractMetadata(t.getClass());
 
+		// 更新语句的前半部分
 		List<Object> data = new ArrayList<>();
-		data.addAll(sql.getArgs());
-		data.addAll(sqlData.getArgs());
+		BitSet columns = this.extract(fieldExtractor, metadata, t, selective, data);
+		data.addAll(condtion.getArgs());
+
+		String sql = SqlTemplateCache.get(t.getClass(), Operation.UPDATE, columns, condtion.getSqlString(), null, false,
+				() -> this.createSql(metadata, columns).append(condtion.getSql()).toString());
 
-		return executeExecutor.execute(jdbcTemplate, sql.getSql().append(sqlData.getSql()), data);
+		return executeExecutor.execute(jdbcTemplate, new StringBuilder(sql), data);
 	}
 
 	/**
-	 * 根据数据生成一个不包含筛选条件的SQL执行对象
+	 * 提取待更新的列及其对应的值
 	 * 
 	 * @param <T>
 	 * @param fieldExtractor 属性提起器
+	 * @param metadata       待更新的数据的元数据
 	 * @param t              待更新的数据
 	 * @param selective      是否为可选属性更新
-	 * @return 不包含筛选条件的SQL执行对象
+	 * @param data           待更新的列对应的值
+	 * @return 待更新的列
 	 */
-	private <T> SqlData createSql(FieldExtractor fieldExtractor, T t, boolean selective) {
-		StringBuilder sql = new StringBuilder("update ").append(fieldExtractor.extractTableName(t.getClass()))
-				.append(" set  ");
-
-		List<Object> data = new ArrayList<>();
-		List<FieldValue> fields = fieldExtractor.extractFiled(t.getClass());
-		for (FieldValue field : fields) {
-			Object value = fieldExtractor.extractValue(t, field.getName());
+	private <T> BitSet extract(FieldExtractor fieldExtractor, EntityMetadata metadata, T t, boolean selective,
+			List<Object> data) {
+		List<FieldValue> fields = metadata.getFields();
+		BitSet columns = new BitSet(fields.size());
+		Object[] values = fieldExtractor.extractValues(t);
+		for (int i = 0; i < fields.size(); i++) {
+			Object value = values[i];
 			if (null == value && selective) {
 				continue;
 			}
-			sql.append(" ").append(field.getSimpleName()).append(" = ? , ");
+			columns.set(i);
 			data.add(value);
 		}
+		return columns;
+	}
+
+	/**
+	 * 根据待更新的列生成一个不包含筛选条件的SQL语句
+	 * 
+	 * @param metadata 待更新的数据的元数据
+	 * @param columns  待更新的列
+	 * @return 不包含筛选条件的SQL语句
+	 */
+	private StringBuilder createSql(EntityMetadata metadata, BitSet columns) {
+		StringBuilder sql = new StringBuilder("update ").append(metadata.getTableName()).append(" set  ");
+
+		for (int i = columns.nextSetBit(0); i >= 0; i = columns.nextSetBit(i + 1)) {
+			sql.append(" ").append(metadata.getFields().get(i).getSimpleName()).append(" = ? , ");
+		}
 		// 删除最后一个,
 		sql.deleteCharAt(sql.lastIndexOf(","));
 
 		sql.append(" where 1=1 ");
 
-		return new SqlData(sql, data);
+		return sql;
 	}
 
 }
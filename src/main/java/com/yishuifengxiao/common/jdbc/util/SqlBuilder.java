@@ -1,12 +1,21 @@
 package com.yishuifengxiao.common.jdbc.util;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.yishuifengxiao.common.jdbc.entity.SqlData;
 import com.yishuifengxiao.common.jdbc.sql.ConditionBuilder;
 import com.yishuifengxiao.common.jdbc.sql.impl.SimpleConditionBuilder;
@@ -43,10 +52,51 @@ public class SqlBuilder {
 	 */
 	private static final String WHERE_FLAG = "where";
 
+	/**
+	 * 最外层的 from 关键字
+	 */
+	private static final Pattern FROM_PATTERN = Pattern.compile("\\bfrom\\b", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 去重查询的标志
+	 */
+	private static final Pattern DISTINCT_PATTERN = Pattern.compile("^select\\s+distinct\\b", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 会影响记录数量的子句
+	 */
+	private static final Pattern AGGREGATE_CLAUSE_PATTERN = Pattern.compile("\\b(group\\s+by|having|union)\\b",
+			Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 排序子句
+	 */
+	private static final Pattern ORDER_PATTERN = Pattern.compile("\\border\\s+by\\b", Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * 分页子句
+	 */
+	private static final Pattern LIMIT_PATTERN = Pattern.compile("\\blimit\\b", Pattern.CASE_INSENSITIVE);
+
 	/**
 	 * 模糊模糊查询的标志
 	 */
 	private static final String LIKE_FLAG = "like";
+
+	/**
+	 * 模糊查询中被引号包裹的占位符，例如 '%?%'
+	 */
+	private static final Pattern LIKE_PATTERN = Pattern.compile("'([^'?]*)\\?([^'?]*)'");
+	/**
+	 * 统计查询语句在编译结果中的索引
+	 */
+	private static final String COUNT_KEY = "count";
+
+	/**
+	 * 每一个查询语句主体对应的模板，最多缓存1024个
+	 */
+	private static final Cache<String, Template> TEMPLATES = CacheBuilder.newBuilder().maximumSize(1024).build();
+
 	/**
 	 * 查询条件生成器
 	 */
@@ -82,6 +132,16 @@ public class SqlBuilder {
 	 */
 	private String order;
 
+	/**
+	 * 解析后的比较条件，比较条件发生变化时清除
+	 */
+	private SqlData built;
+
+	/**
+	 * 已经编译的SQL语句，比较条件发生变化时清除
+	 */
+	private final Map<String, Statement> statements = new HashMap<>();
+
 	/**
 	 * <p>
 	 * 创建一个SQL语句生成工具
@@ -122,6 +182,7 @@ public class SqlBuilder {
 	 */
 	public SqlBuilder selective(boolean selective) {
 		this.selective = selective;
+		this.reset();
 		return this;
 	}
 
@@ -139,6 +200,7 @@ public class SqlBuilder {
 	 */
 	public SqlBuilder condition(String condition, Object value) {
 		this.conditions.add(new Condition(condition, value));
+		this.reset();
 		return this;
 
 	}
@@ -195,19 +257,25 @@ public class SqlBuilder {
 	}
 
 	/**
-	 * 解析比较条件
+	 * 解析比较条件，解析结果会被缓存直到比较条件发生变化
 	 * 
 	 * @return 解析后的比较条件
 	 */
 	private SqlData build() {
+		if (null != this.built) {
+			return this.built;
+		}
 		StringBuilder sql = new StringBuilder();
 		List<Object> list = new ArrayList<>();
 		for (Condition condition : this.conditions()) {
 
-			if (StringUtils.containsIgnoreCase(condition.getCondition(), LIKE_FLAG)) {
-				// 模糊查询
-				sql.append(" ").append(StringUtils.replace(condition.getCondition(), "?",
-						null == condition.getValue() ? null : condition.getValue().toString().trim())).append(" ");
+			Matcher matcher = LIKE_PATTERN.matcher(condition.getCondition());
+			if (StringUtils.containsIgnoreCase(condition.getCondition(), LIKE_FLAG) && matcher.find()) {
+				// 模糊查询，将 '%?%' 形式的占位符替换为 ? ，匹配模式作为参数绑定
+				String value = null == condition.getValue() ? "" : condition.getValue().toString().trim();
+				sql.append(" ").append(condition.getCondition(), 0, matcher.start()).append("?")
+						.append(condition.getCondition(), matcher.end(), condition.getCondition().length()).append(" ");
+				list.add(matcher.group(1) + value + matcher.group(2));
 			} else {
 
 				sql.append(" ").append(condition.getCondition()).append(" ");
@@ -216,7 +284,16 @@ public class SqlBuilder {
 			}
 
 		}
-		return new SqlData(sql, list);
+		this.built = new SqlData(sql, list);
+		return this.built;
+	}
+
+	/**
+	 * 比较条件发生变化之后清除已经编译的结果
+	 */
+	private void reset() {
+		this.built = null;
+		this.statements.clear();
 	}
 
 	/**
@@ -227,30 +304,92 @@ public class SqlBuilder {
 	 * @return 生成的sql语句
 	 */
 	private String sql(String apendSql, boolean limit) {
+		return this.compile(apendSql, limit).getSql();
+	}
 
-		StringBuilder sql = new StringBuilder(this.sql).append(" ");
+	/**
+	 * <p>
+	 * 编译出一个不可变的SQL语句
+	 * </p>
+	 * 同一个生成工具在比较条件、排序条件和分页参数不变的情况下多次编译时直接返回之前的编译结果
+	 * 
+	 * @param apendSql 需要追加的sql语句
+	 * @param limit    是否生成分页语句
+	 * @return 编译后的SQL语句
+	 */
+	public Statement compile(String apendSql, boolean limit) {
+		String key = limit + ":" + this.pageSize + ":" + this.pageNum + ":" + this.order + ":" + apendSql;
+		return this.statements.computeIfAbsent(key, k -> {
+			SqlData data = this.build();
+			StringBuilder sql = new StringBuilder(this.sql).append(" ");
+
+			if (!this.template().isWhere()) {
+				sql.append("where 1=1 ");
+			}
 
-		if (!StringUtils.containsIgnoreCase(this.sql, WHERE_FLAG)) {
-			sql.append("where 1=1 ");
-		}
+			sql.append(data.getSql());
 
-		sql.append(this.build().getSql());
+			if (StringUtils.isNotBlank(apendSql)) {
+				sql.append(" ").append(apendSql).append(" ");
+			}
 
-		if (StringUtils.isNotBlank(apendSql)) {
-			sql.append(" ").append(apendSql).append(" ");
-		}
+			if (StringUtils.isNotBlank(this.order)) {
+				sql.append(" ").append(this.order).append(" ");
+			}
 
-		if (StringUtils.isNotBlank(this.order)) {
-			sql.append(" ").append(this.order).append(" ");
-		}
+			if (limit) {
+				sql = sql.append(conditionBuilder.createLimit(this.pageSize, this.pageNum));
+			}
 
-		if (limit) {
-			sql = sql.append(conditionBuilder.createLimit(this.pageSize, this.pageNum));
-		}
+			log.trace("【yishuifengxiao-common-spring-boot-starter】生成的sql语句为 {} ", sql);
+			return new Statement(sql.toString(), data.getArgs());
+		});
+	}
 
-		log.trace("【yishuifengxiao-common-spring-boot-starter】生成的sql语句为 {} ", sql);
-		return sql.toString();
+	/**
+	 * <p>
+	 * 编译出一个统计记录数量的SQL语句
+	 * </p>
+	 * 不包含排序条件和分页，查询列会被替换为 count(*) ；原始语句中包含 distinct 、 group by 等会影响记录数量的子句时，
+	 * 改为统计子查询的记录数量
+	 * 
+	 * @return 编译后的SQL语句
+	 */
+	public Statement compileCount() {
+		return this.statements.computeIfAbsent(COUNT_KEY, k -> {
+			SqlData data = this.build();
+			Template template = this.template();
+			StringBuilder sql = new StringBuilder();
+			if (template.isWrap()) {
+				sql.append("select count(*) from ( ").append(template.getBody());
+			} else {
+				sql.append("select count(*) ").append(template.getBody());
+			}
+			sql.append(" ");
+			if (!template.isWhere()) {
+				sql.append("where 1=1 ");
+			}
+			sql.append(data.getSql());
+			if (template.isWrap()) {
+				sql.append(" ) t");
+			}
+			log.trace("【yishuifengxiao-common-spring-boot-starter】生成的sql语句为 {} ", sql);
+			return new Statement(sql.toString(), data.getArgs());
+		});
+	}
 
+	/**
+	 * 获取查询语句主体对应的模板
+	 * 
+	 * @return 查询语句主体对应的模板
+	 */
+	private Template template() {
+		try {
+			return TEMPLATES.get(this.sql, () -> Template.of(this.sql));
+		} catch (ExecutionException | UncheckedExecutionException e) {
+			Throwables.throwIfUnchecked(e.getCause());
+			throw new IllegalStateException(e.getCause());
+		}
 	}
 
 	/**
@@ -259,18 +398,7 @@ public class SqlBuilder {
 	 * @return 查询参数
 	 */
 	public Object[] getArgs() {
-		List<Object> args = this.build().getArgs();
-
-		if (null == args) {
-			return new Object[] {};
-		}
-
-		Object[] array = new Object[args.size()];
-
-		for (int i = 0; i < args.size(); i++) {
-			array[i] = args.get(i);
-		}
-		return array;
+		return this.compile(null, false).getArgs();
 	}
 
 	/**
@@ -318,10 +446,7 @@ public class SqlBuilder {
 	 * @return 统计查询语句
 	 */
 	public String countSql() {
-		String fragment = StringUtils.substringAfter(this.sql, "from");
-		StringBuilder sql = new StringBuilder("select count(*) from ").append(fragment).append(this.build().getSql());
-		log.trace("【yishuifengxiao-common-spring-boot-starter】生成的sql语句为 {} ", sql);
-		return sql.toString();
+		return this.compileCount().getSql();
 	}
 
 	/**
@@ -357,4 +482,146 @@ public class SqlBuilder {
 
 	}
 
+	/**
+	 * 编译后的SQL语句，创建之后不再改变
+	 * 
+	 * @author yishui
+	 * @version 1.0.0
+	 * @since 1.0.0
+	 */
+	public static final class Statement {
+
+		/**
+		 * SQL语句
+		 */
+		private final String sql;
+
+		/**
+		 * SQL语句对应的参数
+		 */
+		private final Object[] args;
+
+		private Statement(String sql, List<Object> args) {
+			this.sql = sql;
+			this.args = null == args ? new Object[] {} : args.toArray();
+		}
+
+		public String getSql() {
+			return sql;
+		}
+
+		/**
+		 * 获取SQL语句对应的参数，每次返回一个新的数组
+		 * 
+		 * @return SQL语句对应的参数
+		 */
+		public Object[] getArgs() {
+			return args.clone();
+		}
+
+		@Override
+		public String toString() {
+			return sql;
+		}
+	}
+
+	/**
+	 * 查询语句主体的模板，记录主体的结构以及统计查询语句的写法
+	 */
+	private static final class Template {
+
+		/**
+		 * 是否已经包含查询条件
+		 */
+		private final boolean where;
+
+		/**
+		 * 是否需要将原始语句作为子查询统计
+		 */
+		private final boolean wrap;
+
+		/**
+		 * 统计查询语句的主体，需要作为子查询时为去除排序条件的原始语句，否则为去除排序条件的 from 子句及之后的部分
+		 */
+		private final String body;
+
+		private Template(boolean where, boolean wrap, String body) {
+			this.where = where;
+			this.wrap = wrap;
+			this.body = body;
+		}
+
+		/**
+		 * 解析查询语句主体
+		 * 
+		 * @param sql 查询语句主体
+		 * @return 查询语句主体的模板
+		 */
+		static Template of(String sql) {
+			boolean where = StringUtils.containsIgnoreCase(sql, WHERE_FLAG);
+			String body = removeOrder(sql);
+			int from = indexOfTopLevel(body, FROM_PATTERN);
+			String select = from < 0 ? "" : body.substring(0, from).trim();
+			boolean wrap = from < 0 || DISTINCT_PATTERN.matcher(select).find()
+					|| indexOfTopLevel(body, AGGREGATE_CLAUSE_PATTERN) >= 0;
+			return new Template(where, wrap, wrap ? body : body.substring(from).trim());
+		}
+
+		/**
+		 * 去除最外层的排序条件，保留排序条件之后的 limit 子句
+		 */
+		private static String removeOrder(String sql) {
+			int order = indexOfTopLevel(sql, ORDER_PATTERN);
+			if (order < 0) {
+				return sql;
+			}
+			int limit = indexOfTopLevel(sql, LIMIT_PATTERN);
+			return sql.substring(0, order) + (limit > order ? " " + sql.substring(limit) : "");
+		}
+
+		/**
+		 * 查找关键字在最外层(不在括号和引号内)第一次出现的位置
+		 */
+		private static int indexOfTopLevel(String sql, Pattern pattern) {
+			Matcher matcher = pattern.matcher(sql);
+			while (matcher.find()) {
+				if (isTopLevel(sql, matcher.start())) {
+					return matcher.start();
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * 判断指定位置是否在最外层
+		 */
+		private static boolean isTopLevel(String sql, int end) {
+			int depth = 0;
+			boolean quoted = false;
+			for (int i = 0; i < end; i++) {
+				char c = sql.charAt(i);
+				if (c == '\'') {
+					quoted = !quoted;
+				} else if (!quoted && c == '(') {
+					depth++;
+				} else if (!quoted && c == ')') {
+					depth--;
+				}
+			}
+			return depth == 0 && !quoted;
+		}
+
+		boolean isWhere() {
+			return where;
+		}
+
+		boolean isWrap() {
+			return wrap;
+		}
+
+		String getBody() {
+			return body;
+		}
+	}
+
 }
@@ -0,0 +1,353 @@
+package com.yishuifengxiao.common.jdbc.writebehind;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import com.yishuifengxiao.common.jdbc.JdbcHelper;
+import com.yishuifengxiao.common.jdbc.entity.EntityMetadata;
+import com.yishuifengxiao.common.jdbc.entity.FieldValue;
+import com.yishuifengxiao.common.jdbc.extractor.FieldExtractor;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <p>
+ * 事务内的延迟写入缓冲区
+ * </p>
+ * 在一个事务内缓存通过主键进行的插入和更新操作，并在事务提交之前统一写入数据库：
+ * <ul>
+ * <li>所有的操作记录在一个有序的日志中，写入时严格按照操作发生的顺序执行，不同POJO类之间的依赖(例如外键)不会被打乱</li>
+ * <li>日志中连续的同一个POJO类的同一种操作会合并为一次批量操作</li>
+ * <li>对同一个主键的更新只有在不会改变执行顺序时才会合并到之前的插入或更新中，即目标操作之后只有同一个POJO类的更新操作，
+ * 只要其中一次为全量操作，合并后的插入或更新就是全量操作</li>
+ * </ul>
+ * 在事务内查询已缓存的主键时返回合并之后的数据，执行其他语句之前会先写入所有缓存的操作，保证其他语句能够看到之前的写入
+ * 
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+@Slf4j
+public class WriteBehindBuffer implements TransactionSynchronization {
+
+	/**
+	 * 按照发生顺序排列的所有缓存的操作
+	 */
+	private final List<Operation> operations = new ArrayList<>();
+
+	/**
+	 * 每一个POJO类中每一个主键最后一次对应的操作
+	 */
+	private final Map<Class<?>, Map<Object, Operation>> latest = new HashMap<>();
+
+	/**
+	 * 每一个POJO类中每一个主键合并所有操作之后的数据，用于事务内的查询
+	 */
+	private final Map<Class<?>, Map<Object, View>> views = new HashMap<>();
+
+	private final JdbcHelper jdbcHelper;
+
+	private final FieldExtractor fieldExtractor;
+
+	/**
+	 * 可以合并更新的操作的最小序号，该序号之后的操作都是同一个POJO类的更新操作
+	 */
+	private int mergeFrom;
+
+	/**
+	 * 是否正在写入数据库，写入期间所有的操作都直接执行
+	 */
+	private boolean flushing;
+
+	/**
+	 * 创建一个延迟写入缓冲区
+	 * 
+	 * @param jdbcHelper     写入数据库时使用的JdbcTemplate操作器，同时也是缓冲区绑定到事务上的键
+	 * @param fieldExtractor 属性提取器
+	 */
+	public WriteBehindBuffer(JdbcHelper jdbcHelper, FieldExtractor fieldExtractor) {
+		this.jdbcHelper = jdbcHelper;
+		this.fieldExtractor = fieldExtractor;
+	}
+
+	/**
+	 * 缓存一条插入操作
+	 * 
+	 * @param t         待插入的数据
+	 * @param selective 是否只插入非空属性
+	 */
+	public void insert(Object t, boolean selective) {
+		Object copy = this.copy(t, false, BeanUtils.instantiateClass(t.getClass()));
+		Operation operation = this.append(new Operation(t.getClass(), true, selective, copy));
+		Object primaryKey = this.primaryKey(t);
+		if (null != primaryKey) {
+			this.latest.computeIfAbsent(t.getClass(), k -> new HashMap<>()).put(primaryKey, operation);
+			this.views.computeIfAbsent(t.getClass(), k -> new HashMap<>()).put(primaryKey,
+					new View(this.copy(t, false, BeanUtils.instantiateClass(t.getClass())), !selective, true));
+		}
+	}
+
+	/**
+	 * 缓存一条根据主键更新的操作
+	 * 
+	 * @param t         待更新的数据
+	 * @param selective 是否只更新非空属性
+	 */
+	public void update(Object t, boolean selective) {
+		Object primaryKey = this.primaryKey(t);
+		Assert.notNull(primaryKey, "【yishuifengxiao-common-spring-boot-starter】主键值不能为空");
+		Map<Object, Operation> latest = this.latest.computeIfAbsent(t.getClass(), k -> new HashMap<>());
+		Operation operation = latest.get(primaryKey);
+		if (null != operation && operation.index >= this.mergeFrom) {
+			// 目标操作之后只有同一个POJO类的更新操作，合并不会改变执行顺序
+			this.copy(t, selective, operation.data);
+			// 全量更新中显式设置为null的属性在写入时也必须为null，因此合并后只要有一次为全量操作就按照全量方式写入
+			operation.selective = operation.selective && selective;
+		} else {
+			latest.put(primaryKey, this.append(new Operation(t.getClass(), false, selective,
+					this.copy(t, false, BeanUtils.instantiateClass(t.getClass())))));
+		}
+		View view = this.views.computeIfAbsent(t.getClass(), k -> new HashMap<>()).get(primaryKey);
+		if (null == view) {
+			this.views.get(t.getClass()).put(primaryKey,
+					new View(this.copy(t, false, BeanUtils.instantiateClass(t.getClass())), !selective, false));
+			return;
+		}
+		this.copy(t, selective, view.data);
+		view.complete = view.complete || !selective;
+	}
+
+	/**
+	 * 判断是否缓存了指定主键的数据
+	 * 
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键值
+	 * @return 缓存了该主键的数据时返回为true
+	 */
+	public boolean contains(Class<?> clazz, Object primaryKey) {
+		Map<Object, View> views = this.views.get(clazz);
+		return null != views && null != primaryKey && views.containsKey(primaryKey);
+	}
+
+	/**
+	 * <p>
+	 * 读取指定主键的数据合并缓存的操作之后的结果
+	 * </p>
+	 * 只插入了非空属性的数据中为null的属性由数据库填充默认值，因此读取时先写入所有缓存的操作，再从数据库中读取
+	 * 
+	 * @param <T>        POJO类
+	 * @param clazz      POJO类
+	 * @param primaryKey 主键值
+	 * @param loader     从数据库中读取数据的函数，只更新了部分属性时用于读取其他属性的值
+	 * @return 合并之后的数据，数据不存在时为null
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T read(Class<T> clazz, Object primaryKey, Function<Object, T> loader) {
+		View view = this.views.get(clazz).get(primaryKey);
+		if (view.complete) {
+			return (T) this.copy(view.data, false, BeanUtils.instantiateClass(clazz));
+		}
+		if (view.inserted) {
+			this.flush();
+			return loader.apply(primaryKey);
+		}
+		T data = loader.apply(primaryKey);
+		return null == data ? null : (T) this.copy(view.data, true, data);
+	}
+
+	/**
+	 * 是否正在写入数据库
+	 * 
+	 * @return 正在写入数据库时返回为true
+	 */
+	public boolean isFlushing() {
+		return this.flushing;
+	}
+
+	/**
+	 * 按照操作发生的顺序将所有缓存的操作写入数据库，连续的同一个POJO类的同一种操作批量执行
+	 */
+	@Override
+	public void flush() {
+		if (this.flushing || this.operations.isEmpty()) {
+			return;
+		}
+		this.flushing = true;
+		try {
+			int from = 0;
+			while (from < this.operations.size()) {
+				Operation first = this.operations.get(from);
+				List<Object> batch = new ArrayList<>();
+				int to = from;
+				while (to < this.operations.size() && first.isSameBatch(this.operations.get(to))) {
+					batch.add(this.operations.get(to).data);
+					to++;
+				}
+				log.debug("【yishuifengxiao-common-spring-boot-starter】写入 {} 缓存的 {} 条{}", first.clazz.getName(),
+						batch.size(), first.insert ? "插入" : "更新");
+				if (first.insert) {
+					if (first.selective) {
+						jdbcHelper.insertBatchSelective(batch);
+					} else {
+						jdbcHelper.insertBatch(batch);
+					}
+				} else if (first.selective) {
+					jdbcHelper.updateBatchByPrimaryKeySelective(batch);
+				} else {
+					jdbcHelper.updateBatchByPrimaryKey(batch);
+				}
+				from = to;
+			}
+			this.clear();
+		} finally {
+			this.flushing = false;
+		}
+	}
+
+	@Override
+	public void beforeCommit(boolean readOnly) {
+		this.flush();
+	}
+
+	@Override
+	public void afterCompletion(int status) {
+		// 回滚时丢弃所有尚未写入的操作
+		this.clear();
+		TransactionSynchronizationManager.unbindResourceIfPossible(this.jdbcHelper);
+	}
+
+	/**
+	 * 清除所有缓存的操作
+	 */
+	private void clear() {
+		this.operations.clear();
+		this.latest.clear();
+		this.views.clear();
+		this.mergeFrom = 0;
+	}
+
+	/**
+	 * 将一个操作追加到日志的末尾
+	 * 
+	 * @param operation 操作
+	 * @return 追加的操作
+	 */
+	private Operation append(Operation operation) {
+		Operation last = this.operations.isEmpty() ? null : this.operations.get(this.operations.size() - 1);
+		operation.index = this.operations.size();
+		if (operation.insert || null == last || last.clazz != operation.clazz) {
+			this.mergeFrom = operation.index;
+		}
+		this.operations.add(operation);
+		return operation;
+	}
+
+	/**
+	 * 获取数据的主键值
+	 */
+	private Object primaryKey(Object t) {
+		FieldValue primaryKey = fieldExtractor.extractMetadata(t.getClass()).getPrimaryKey();
+		Assert.notNull(primaryKey, "【yishuifengxiao-common-spring-boot-starter】" + t.getClass().getName() + " 中没有主键");
+		return fieldExtractor.extractValue(t, primaryKey.getName());
+	}
+
+	/**
+	 * 将源数据中映射到数据库的属性复制到目标数据中
+	 * 
+	 * @param source    源数据
+	 * @param selective 是否只复制非空属性
+	 * @param target    目标数据
+	 * @return 目标数据
+	 */
+	private Object copy(Object source, boolean selective, Object target) {
+		EntityMetadata metadata = fieldExtractor.extractMetadata(source.getClass());
+		BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(target);
+		for (FieldValue field : metadata.getFields()) {
+			Object value = fieldExtractor.extractValue(source, field.getName());
+			if ((null != value || !selective) && wrapper.isWritableProperty(field.getName())) {
+				wrapper.setPropertyValue(field.getName(), value);
+			}
+		}
+		return target;
+	}
+
+	/**
+	 * 一条缓存的操作
+	 */
+	private static final class Operation {
+
+		private final Class<?> clazz;
+
+		/**
+		 * 是否为插入操作，否则为根据主键更新
+		 */
+		private final boolean insert;
+
+		/**
+		 * 是否只插入或更新非空属性
+		 */
+		private boolean selective;
+
+		/**
+		 * 待写入的数据
+		 */
+		private final Object data;
+
+		/**
+		 * 在日志中的序号
+		 */
+		private int index;
+
+		Operation(Class<?> clazz, boolean insert, boolean selective, Object data) {
+			this.clazz = clazz;
+			this.insert = insert;
+			this.selective = selective;
+			this.data = data;
+		}
+
+		/**
+		 * 判断另一个操作是否可以与当前操作在同一批中执行
+		 */
+		boolean isSameBatch(Operation other) {
+			return this.clazz == other.clazz && this.insert == other.insert && this.selective == other.selective;
+		}
+	}
+
+	/**
+	 * 一个主键合并所有操作之后的数据
+	 */
+	private static final class View {
+
+		/**
+		 * 合并之后的数据
+		 */
+		private final Object data;
+
+		/**
+		 * 是否包含所有的属性，只有部分属性时需要从数据库中读取其他属性的值
+		 */
+		private boolean complete;
+
+		/**
+		 * 是否为尚未写入的插入操作
+		 */
+		private final boolean inserted;
+
+		View(Object data, boolean complete, boolean inserted) {
+			this.data = data;
+			this.complete = complete;
+			this.inserted = inserted;
+		}
+	}
+
+}
@@ -213,6 +213,22 @@ public class SecurityProperties {
          */
         private Boolean useUserAgent = true;
 
+        /**
+         * 在本地缓存通过token值加载的令牌的时间，单位为秒，默认为0，即每次都从存储中加载。<br/>
+         * 缓存时间不会超过令牌本身的过期时间，令牌被保存或删除时通过Redis发布订阅通知所有节点清除本地缓存
+         */
+        private Integer nearCacheSeconds = 0;
+
+        /**
+         * 本地最多缓存的令牌的数量，默认为10000
+         */
+        private Long nearCacheSize = 10000L;
+
+        /**
+         * 通知其他节点清除本地令牌缓存的Redis发布订阅通道，默认为 security_token_invalidate
+         */
+        private String nearCacheTopic = "security_token_invalidate";
+
     }
 
     /**
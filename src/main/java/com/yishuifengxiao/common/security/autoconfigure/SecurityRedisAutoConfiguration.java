@@ -1,16 +1,21 @@
 package com.yishuifengxiao.common.security.autoconfigure;
 
 import com.yishuifengxiao.common.redis.RedisCoreAutoConfiguration;
+import com.yishuifengxiao.common.security.SecurityProperties;
 import com.yishuifengxiao.common.security.httpsecurity.authorize.rememberme.RedisTokenRepository;
 import com.yishuifengxiao.common.security.token.holder.TokenHolder;
 import com.yishuifengxiao.common.security.token.holder.impl.RedisTokenHolder;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.web.authentication.rememberme.PersistentTokenRepository;
@@ -39,9 +44,37 @@ public class SecurityRedisAutoConfiguration {
 
     @Bean
     @ConditionalOnMissingBean({TokenHolder.class})
-    public TokenHolder tokenHolder(RedisTemplate<String, Object> redisTemplate) {
+    public TokenHolder tokenHolder(RedisTemplate<String, Object> redisTemplate, SecurityProperties securityProperties) {
         RedisTokenHolder redisTokenHolder = new RedisTokenHolder();
         redisTokenHolder.setRedisTemplate(redisTemplate);
+        SecurityProperties.TokenProperties token = securityProperties.getToken();
+        if (null != token.getNearCacheSeconds() && token.getNearCacheSeconds() > 0) {
+            redisTokenHolder.enableNearCache(token.getNearCacheSeconds(),
+                    null == token.getNearCacheSize() ? 10000L : token.getNearCacheSize(), token.getNearCacheTopic());
+        }
         return redisTokenHolder;
     }
+
+    /**
+     * 注入一个监听令牌缓存失效通知的容器
+     *
+     * @param redisConnectionFactory Redis连接工厂
+     * @param tokenHolder            token存取工具
+     * @param securityProperties     安全属性配置
+     * @return 监听令牌缓存失效通知的容器
+     */
+    @Bean
+    @ConditionalOnExpression("${yishuifengxiao.security.token.near-cache-seconds:0} > 0")
+    public RedisMessageListenerContainer tokenNearCacheListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                         TokenHolder tokenHolder,
+                                                                         SecurityProperties securityProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        // 自定义的token存取工具不支持本地缓存，无需监听
+        if (tokenHolder instanceof RedisTokenHolder) {
+            container.addMessageListener((RedisTokenHolder) tokenHolder,
+                    new ChannelTopic(securityProperties.getToken().getNearCacheTopic()));
+        }
+        return container;
+    }
 }
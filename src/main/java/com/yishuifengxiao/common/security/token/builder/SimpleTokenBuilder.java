@@ -164,7 +164,7 @@ public class SimpleTokenBuilder implements TokenBuilder {
     @Override
     public SecurityToken refreshExpireTime(SecurityToken token) throws CustomException {
         SecurityToken securityToken = token.refreshExpireTime();
-        tokenHolder.remove(token);
+        // 保存时会覆盖同一设备之前的令牌，无需先删除，避免刷新过期时间时被当作令牌吊销
         tokenHolder.save(securityToken);
         return securityToken;
     }
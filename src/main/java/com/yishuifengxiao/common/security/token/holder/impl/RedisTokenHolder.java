@@ -1,31 +1,45 @@
 package com.yishuifengxiao.common.security.token.holder.impl;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
+import org.apache.commons.lang3.SerializationException;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundValueOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.util.Assert;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.yishuifengxiao.common.security.token.SecurityToken;
 import com.yishuifengxiao.common.security.token.holder.TokenHolder;
 import com.yishuifengxiao.common.tool.exception.CustomException;
 
 /**
+ * <p>
  * 基于redis的token存取工具类
+ * </p>
+ * 开启本地缓存后，通过token值加载的令牌会在本地缓存一段时间(不超过令牌本身的过期时间)，
+ * 令牌被保存或删除时通过Redis发布订阅通知所有节点清除本地缓存。消息的格式为 节点标识 + 制表符 + token值，节点会忽略自己发出的消息
  *
  * @author yishui
  * @version 1.0.0
  * @since 1.0.0
  */
-public class RedisTokenHolder implements TokenHolder {
+public class RedisTokenHolder implements TokenHolder, MessageListener {
 
     /**
      * redis中存储时的key的前缀
@@ -36,8 +50,30 @@ public class RedisTokenHolder implements TokenHolder {
      */
     private final static String TOKEN_VAL_PREFIX = "security_token_store_redis_val::";
 
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * 当前节点的标识
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
     private RedisTemplate<String, Object> redisTemplate;
 
+    /**
+     * 本地令牌缓存，为null时不使用本地缓存
+     */
+    private Cache<String, SecurityToken> nearCache;
+
+    /**
+     * 发送本地缓存失效通知时使用的StringRedisTemplate
+     */
+    private StringRedisTemplate messageTemplate;
+
+    /**
+     * 本地缓存失效通知的通道
+     */
+    private String topic;
+
     /**
      * <p>
      * 根据用户账号获取所有的令牌
@@ -59,7 +95,11 @@ public class RedisTokenHolder implements TokenHolder {
     }
 
     /**
+     * <p>
      * 保存一个令牌
+     * </p>
+     * 开启本地缓存时同时写入本地缓存；只有同一设备之前的令牌的值与当前令牌不同时才会通知其他节点清除之前的令牌，
+     * 刷新过期时间之后重新保存同一个令牌不会发出通知
      *
      * @param token 令牌
      * @throws CustomException 保存时出现问题
@@ -67,35 +107,132 @@ public class RedisTokenHolder implements TokenHolder {
     @Override
     public synchronized void save(SecurityToken token) throws CustomException {
         this.check(token);
-        this.remove(token);
-        //获取当前账号下过期时间最久的token
+        List<SecurityToken> tokens = this.getAll(token.getName());
+        // 同一设备之前的令牌会被当前令牌替换
+        tokens.stream().filter(v -> StringUtils.equals(v.getDeviceId(), token.getDeviceId()))
+                .filter(v -> !StringUtils.equals(v.getValue(), token.getValue())).forEach(v -> this.evict(v.getValue()));
+        this.delete(token);
+        //获取当前账号下其他设备过期时间最久的token
         SecurityToken securityToken =
-                this.getAll(token.getName()).stream().sorted((v1, v2) -> v2.getExpireAt().compareTo(v1.getExpireAt())).findFirst().orElse(null);
+                tokens.stream().filter(v -> !StringUtils.equals(v.getDeviceId(), token.getDeviceId())).sorted((v1, v2) -> v2.getExpireAt().compareTo(v1.getExpireAt())).findFirst().orElse(null);
         //有效时间
         LocalDateTime expiredAtTime =
                 (null == securityToken ? LocalDateTime.now() : securityToken.getExpireAt()).plusSeconds(token.getValidSeconds());
         this.token(token.getName()).put(token.getDeviceId(), token);
         this.token(token.getName()).expireAt(expiredAtTime.toInstant(ZoneOffset.of("+8")));
         this.tokenVal(token.getValue()).set(token, token.getValidSeconds(), TimeUnit.SECONDS);
+        this.cache(token);
     }
 
 
     /**
-     * 删除指定的令牌
+     * 删除指定的令牌，开启本地缓存时通知所有节点清除该令牌
      *
      * @param token 令牌
      * @throws CustomException 删除时出现问题
      */
     @Override
     public synchronized void remove(SecurityToken token) {
+        this.delete(token);
+        this.evict(token.getValue());
+    }
+
+    /**
+     * 从redis中删除指定的令牌
+     *
+     * @param token 令牌
+     */
+    private void delete(SecurityToken token) {
         this.tokenVal(token.getValue()).getAndDelete();
         this.token(token.getName()).delete(token.getDeviceId());
     }
 
+    /**
+     * <p>
+     * 根据token值加载令牌
+     * </p>
+     * 开启本地缓存时优先从本地缓存中获取，本地缓存中的令牌已过期时重新从redis中加载。<br/>
+     * 每次返回的都是本地缓存中令牌的副本，调用者修改返回的令牌(例如刷新过期时间)不会影响本地缓存
+     *
+     * @param tokenValue token值
+     * @return 令牌，不存在时为null
+     */
     @Override
     public SecurityToken loadByTokenValue(String tokenValue) {
+        if (null != nearCache && null != tokenValue) {
+            SecurityToken token = nearCache.getIfPresent(tokenValue);
+            if (null != token && !token.getExpireAt().isBefore(LocalDateTime.now())) {
+                return SerializationUtils.clone(token);
+            }
+        }
         Object val = this.tokenVal(tokenValue).get();
-        return val instanceof SecurityToken ? (SecurityToken) val : null;
+        SecurityToken token = val instanceof SecurityToken ? (SecurityToken) val : null;
+        this.cache(token);
+        return token;
+    }
+
+    /**
+     * <p>
+     * 开启本地令牌缓存
+     * </p>
+     * 开启之后需要将当前对象注册为指定通道的消息监听器，以接收其他节点发出的缓存失效通知
+     *
+     * @param seconds     本地缓存令牌的时间，单位为秒
+     * @param maximumSize 本地最多缓存的令牌的数量
+     * @param topic       缓存失效通知的通道
+     */
+    public void enableNearCache(int seconds, long maximumSize, String topic) {
+        Assert.notNull(redisTemplate, "【yishuifengxiao-common-spring-boot-starter】RedisTemplate不能为空");
+        Assert.hasText(topic, "【yishuifengxiao-common-spring-boot-starter】令牌缓存失效通道不能为空");
+        this.nearCache = CacheBuilder.newBuilder().maximumSize(maximumSize)
+                .expireAfterWrite(seconds, TimeUnit.SECONDS).build();
+        this.messageTemplate = new StringRedisTemplate(redisTemplate.getRequiredConnectionFactory());
+        this.topic = topic;
+    }
+
+    /**
+     * 处理其他节点发出的缓存失效通知
+     *
+     * @param message 消息
+     * @param pattern 匹配的通道
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 2);
+        if (null == nearCache || parts.length < 2 || StringUtils.equals(this.nodeId, parts[0])) {
+            return;
+        }
+        nearCache.invalidate(parts[1]);
+    }
+
+    /**
+     * 将令牌的副本写入本地缓存，已过期或者无法复制的令牌不会被缓存
+     *
+     * @param token 令牌
+     */
+    private void cache(SecurityToken token) {
+        if (null == nearCache || null == token || null == token.getValue() || null == token.getExpireAt()
+                || !token.getExpireAt().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        try {
+            nearCache.put(token.getValue(), SerializationUtils.clone(token));
+        } catch (SerializationException e) {
+            nearCache.invalidate(token.getValue());
+        }
+    }
+
+    /**
+     * 清除本地缓存的令牌并通知其他节点
+     *
+     * @param tokenValue token值
+     */
+    private void evict(String tokenValue) {
+        if (null == nearCache || null == tokenValue) {
+            return;
+        }
+        nearCache.invalidate(tokenValue);
+        messageTemplate.convertAndSend(topic, this.nodeId + SEPARATOR + tokenValue);
     }
 
     /**
@@ -1,15 +1,37 @@
 package com.yishuifengxiao.common.support;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
 import com.yishuifengxiao.common.tool.entity.Page;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.data.jpa.repository.support.JpaRepositoryImplementation;
 import org.springframework.data.repository.query.QueryByExampleExecutor;
 
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * JPA操作扩展支持工具
@@ -20,6 +42,12 @@ import java.util.List;
  */
 public class JpaUtil {
 
+    /**
+     * 缓存分页查询的总记录数量，每一种规范化之后的查询条件对应一个总记录数量，30秒之后过期
+     */
+    private static final Cache<List<Object>, Long> COUNT_CACHE = CacheBuilder.newBuilder().maximumSize(1000)
+            .expireAfterWrite(30L, TimeUnit.SECONDS).build();
+
     /**
      * 生成根据条件查询的忽略大小和空字段的模糊查询jpa查询条件
      *
@@ -321,4 +349,182 @@ public class JpaUtil {
         return Page.of(page.getContent(), page.getTotalElements(), pageSize, pageNum);
     }
 
+    /**
+     * 根据条件<strong>模糊查询</strong>出一页数据，不统计总记录数量
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param query         查询条件(POJO类实例)
+     * @param pageSize      分页大小
+     * @param pageNum       当前页页码,从1开始
+     * @return 查询出来的数据
+     */
+    public static <T> Slice<T> sliceFuzzy(EntityManager entityManager, T query, int pageSize, int pageNum) {
+        return slice(entityManager, JpaUtil.fuzzy(query), pageSize, pageNum, Sort.unsorted());
+    }
+
+    /**
+     * 根据条件<strong>模糊查询</strong>出一页数据，不统计总记录数量
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param query         查询条件(POJO类实例)
+     * @param pageSize      分页大小
+     * @param pageNum       当前页页码,从1开始
+     * @param sort          排序条件
+     * @return 查询出来的数据
+     */
+    public static <T> Slice<T> sliceFuzzy(EntityManager entityManager, T query, int pageSize, int pageNum, Sort sort) {
+        return slice(entityManager, JpaUtil.fuzzy(query), pageSize, pageNum, sort);
+    }
+
+    /**
+     * 根据条件<strong>精确查询</strong>出一页数据，不统计总记录数量
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param query         查询条件(POJO类实例)
+     * @param pageSize      分页大小
+     * @param pageNum       当前页页码,从1开始
+     * @return 查询出来的数据
+     */
+    public static <T> Slice<T> sliceExact(EntityManager entityManager, T query, int pageSize, int pageNum) {
+        return slice(entityManager, exact(query), pageSize, pageNum, Sort.unsorted());
+    }
+
+    /**
+     * 根据条件<strong>精确查询</strong>出一页数据，不统计总记录数量
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param query         查询条件(POJO类实例)
+     * @param pageSize      分页大小
+     * @param pageNum       当前页页码,从1开始
+     * @param sort          排序条件
+     * @return 查询出来的数据
+     */
+    public static <T> Slice<T> sliceExact(EntityManager entityManager, T query, int pageSize, int pageNum, Sort sort) {
+        return slice(entityManager, exact(query), pageSize, pageNum, sort);
+    }
+
+    /**
+     * <p>
+     * 根据条件查询出一页数据，不统计总记录数量
+     * </p>
+     * 每次多查询一条记录用于判断是否还有下一页，适用于只需要向后翻页的场景(例如无限滚动)，避免分页查询时额外执行的 select count(*)
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param example       查询条件
+     * @param pageSize      分页大小
+     * @param pageNum       当前页页码,从1开始
+     * @param sort          排序条件
+     * @return 查询出来的数据
+     */
+    public static <T> Slice<T> slice(EntityManager entityManager, Example<T> example, int pageSize, int pageNum, Sort sort) {
+        PageRequest pageable = PageRequest.of(pageNum > 1 ? pageNum - 1 : 0, pageSize, null == sort ? Sort.unsorted() : sort);
+        List<T> list = find(entityManager, example, pageable, pageSize + 1);
+        boolean hasNext = list.size() > pageSize;
+        return new SliceImpl<>(hasNext ? list.subList(0, pageSize) : list, pageable, hasNext);
+    }
+
+    /**
+     * <p>
+     * 根据条件<strong>分页查询</strong>出数据，总记录数量会被缓存
+     * </p>
+     * 相同的查询条件(查询数据的类型、匹配方式以及所有非空的属性值均相同)在30秒内只统计一次总记录数量，之后的分页查询只查询当前页的数据。<br/>
+     * 【注意】缓存期间新增或删除的数据不会反映在总记录数量中
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param example       查询条件
+     * @param pageSize      分页大小
+     * @param pageNum       当前页页码,从1开始
+     * @param sort          排序条件
+     * @return 查询出来的数据
+     */
+    public static <T> Page<T> pageCached(EntityManager entityManager, Example<T> example, int pageSize, int pageNum, Sort sort) {
+        PageRequest pageable = PageRequest.of(pageNum > 1 ? pageNum - 1 : 0, pageSize, null == sort ? Sort.unsorted() : sort);
+        List<T> list = find(entityManager, example, pageable, pageSize);
+        long total;
+        try {
+            total = COUNT_CACHE.get(key(example), () -> count(entityManager, example));
+        } catch (ExecutionException | UncheckedExecutionException e) {
+            Throwables.throwIfUnchecked(e.getCause());
+            throw new IllegalStateException(e.getCause());
+        }
+        return Page.of(list, Math.max(total, pageable.getOffset() + list.size()), pageSize, pageNum);
+    }
+
+    /**
+     * 根据查询条件查询出指定范围内的数据
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param example       查询条件
+     * @param pageable      分页和排序条件
+     * @param maxResults    最多查询的记录数量
+     * @return 查询出的数据
+     */
+    private static <T> List<T> find(EntityManager entityManager, Example<T> example, PageRequest pageable, int maxResults) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = builder.createQuery(example.getProbeType());
+        Root<T> root = query.from(example.getProbeType());
+        Predicate predicate = QueryByExamplePredicateBuilder.getPredicate(root, builder, example);
+        if (null != predicate) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        }
+        return entityManager.createQuery(query.select(root)).setFirstResult((int) pageable.getOffset())
+                .setMaxResults(maxResults).getResultList();
+    }
+
+    /**
+     * 统计符合查询条件的记录的数量
+     *
+     * @param <T>           查询数据对应的数据类型
+     * @param entityManager EntityManager
+     * @param example       查询条件
+     * @return 符合查询条件的记录的数量
+     */
+    private static <T> long count(EntityManager entityManager, Example<T> example) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = builder.createQuery(Long.class);
+        Root<T> root = query.from(example.getProbeType());
+        Predicate predicate = QueryByExamplePredicateBuilder.getPredicate(root, builder, example);
+        if (null != predicate) {
+            query.where(predicate);
+        }
+        Long count = entityManager.createQuery(query.select(builder.count(root))).getSingleResult();
+        return null == count ? 0L : count;
+    }
+
+    /**
+     * 生成规范化之后的查询条件，由查询数据的类型、匹配方式以及所有非空的属性值组成
+     *
+     * @param <T>     查询数据对应的数据类型
+     * @param example 查询条件
+     * @return 规范化之后的查询条件
+     */
+    private static <T> List<Object> key(Example<T> example) {
+        ExampleMatcher matcher = example.getMatcher();
+        BeanWrapper wrapper = new BeanWrapperImpl(example.getProbe());
+        Map<String, Object> values = new TreeMap<>();
+        for (PropertyDescriptor descriptor : wrapper.getPropertyDescriptors()) {
+            if (null == descriptor.getReadMethod() || "class".equals(descriptor.getName())
+                    || matcher.isIgnoredPath(descriptor.getName())) {
+                continue;
+            }
+            Object value = wrapper.getPropertyValue(descriptor.getName());
+            if (null == value) {
+                continue;
+            }
+            values.put(descriptor.getName(), value instanceof String && matcher.isIgnoreCaseEnabled()
+                    ? ((String) value).toLowerCase(Locale.ROOT) : value);
+        }
+        return Arrays.asList(example.getProbeType(), matcher, values);
+    }
+
 }
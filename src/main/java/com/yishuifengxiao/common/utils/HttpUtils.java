@@ -23,7 +23,9 @@ import java.io.OutputStream;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * http工具
@@ -154,6 +156,43 @@ public class HttpUtils {
         }
     }
 
+    /**
+     * <p>以流的方式下载文件，适用于导出大量数据</p>
+     * <p>内容一边生成一边写出，不设置内容长度，由容器使用分块传输</p>
+     *
+     * @param response    HttpServletResponse
+     * @param fileName    待下载的文件的名字
+     * @param contentType 内容类型，为空时使用 application/octet-stream
+     * @param gzip        是否使用gzip压缩响应内容
+     * @param writer      内容生成函数
+     */
+    public static void down(HttpServletResponse response, String fileName, String contentType, boolean gzip,
+                            Consumer<OutputStream> writer) {
+        fileName = null == fileName ? System.currentTimeMillis() + "" : fileName.trim();
+        OutputStream outputStream = null;
+        try {
+            response.addHeader("Content-Disposition", "attachment;filename=" + URLEncoder.encode(fileName, "utf-8"));
+            response.setContentType(StringUtils.isBlank(contentType) ? "application/octet-stream;charset=UTF-8" : contentType);
+            response.setCharacterEncoding("utf-8");
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            outputStream = new BufferedOutputStream(response.getOutputStream(), 64 * 1024);
+            if (gzip) {
+                outputStream = new GZIPOutputStream(outputStream, 8 * 1024, true);
+            }
+            writer.accept(outputStream);
+            // 关闭时会写出gzip的结尾数据
+            outputStream.close();
+            outputStream = null;
+        } catch (Exception e) {
+            log.info("下载文件{}时出现问题，出现问题的原因为 {}", fileName, e);
+            throw new UncheckedException("文件下载失败");
+        } finally {
+            CloseUtil.close(outputStream);
+        }
+    }
+
     /**
      * 是否为json请求
      *
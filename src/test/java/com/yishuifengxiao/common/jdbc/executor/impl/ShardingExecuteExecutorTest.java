@@ -0,0 +1,140 @@
+package com.yishuifengxiao.common.jdbc.executor.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.yishuifengxiao.common.jdbc.SimpleJdbcHelper;
+import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+import com.yishuifengxiao.common.jdbc.sharding.HashShardStrategy;
+import com.yishuifengxiao.common.jdbc.sharding.ShardRule;
+import com.yishuifengxiao.common.tool.entity.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 分片语句执行器测试，两个分片分别为独立的内存数据库，按照主键的哈希值分片
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ShardingExecuteExecutorTest {
+
+	private static final int ROWS = 20;
+
+	private final HashShardStrategy strategy = new HashShardStrategy();
+
+	private List<JdbcTemplate> shards;
+
+	private SimpleJdbcHelper jdbcHelper;
+
+	@BeforeEach
+	public void setUp() {
+		shards = Arrays.asList(jdbcTemplate(), jdbcTemplate());
+		for (JdbcTemplate shard : shards) {
+			shard.execute("create table t_shard_order (id bigint primary key, amount int)");
+		}
+		ShardingExecuteExecutor executor = new ShardingExecuteExecutor(shards,
+				Collections.singletonList(new ShardRule("t_shard_order", "id", strategy)), new SimpleFieldExtractor(),
+				null);
+
+		jdbcHelper = new SimpleJdbcHelper();
+		jdbcHelper.setJdbcTemplate(jdbcTemplate());
+		jdbcHelper.setExecuteExecutor(executor);
+		for (long id = 1; id <= ROWS; id++) {
+			jdbcHelper.insert(new ShardOrder(id, (int) id));
+		}
+	}
+
+	@Test
+	public void routesRowsByShardKey() {
+		for (long id = 1; id <= ROWS; id++) {
+			int expected = strategy.shard(id, shards.size());
+			for (int i = 0; i < shards.size(); i++) {
+				Long count = shards.get(i).queryForObject("select count(*) from t_shard_order where id = ?",
+						Long.class, id);
+				assertEquals(i == expected ? 1L : 0L, count.longValue(), "id " + id + " 所在的分片");
+			}
+		}
+		for (JdbcTemplate shard : shards) {
+			assertTrue(shard.queryForObject("select count(*) from t_shard_order", Long.class) > 0L);
+		}
+		ShardOrder order = jdbcHelper.findByPrimaryKey(ShardOrder.class, 7L);
+		assertNotNull(order);
+		assertEquals(7, order.getAmount().intValue());
+	}
+
+	@Test
+	public void mergesPagesAcrossShards() {
+		Page<ShardOrder> page = jdbcHelper.findPage(ShardOrder.class, 5, 2, Order.desc("amount"),
+				new ArrayList<>());
+		assertEquals(ROWS, page.getTotal().longValue());
+		assertEquals(Arrays.asList(15L, 14L, 13L, 12L, 11L), ids(page.getData()));
+
+		Page<ShardOrder> last = jdbcHelper.findPage(ShardOrder.class, 6, 4, Order.asc("amount"), new ArrayList<>());
+		assertEquals(Arrays.asList(19L, 20L), ids(last.getData()));
+	}
+
+	@Test
+	public void mergesTopAcrossShards() {
+		List<ShardOrder> top = jdbcHelper.findTop(ShardOrder.class, Order.asc("amount"), 3,
+				Condition.andGreater("amount", 4));
+		assertEquals(Arrays.asList(5L, 6L, 7L), ids(top));
+	}
+
+	@Test
+	public void mergesAggregatesAcrossShards() {
+		assertEquals(ROWS, jdbcHelper.countAll(ShardOrder.class, new Condition[0]).longValue());
+		assertEquals(10L, jdbcHelper.countAll(ShardOrder.class, Condition.andGreater("amount", 10)).longValue());
+		assertEquals(0, new BigDecimal("210").compareTo(jdbcHelper.sum(ShardOrder.class, "amount")));
+		// 平均值由各个分片的求和与数量计算，而不是各个分片平均值的平均值
+		assertEquals(0, new BigDecimal("10.5").compareTo(jdbcHelper.avg(ShardOrder.class, "amount")));
+		assertEquals(0, new BigDecimal("3").compareTo(
+				jdbcHelper.avg(ShardOrder.class, "amount", Condition.andIn("id", 1L, 2L, 6L))));
+		assertEquals(20, ((Number) jdbcHelper.max(ShardOrder.class, "amount")).intValue());
+		assertTrue(jdbcHelper.exists(ShardOrder.class, Condition.andEqual("id", 13L)));
+	}
+
+	private static List<Long> ids(List<ShardOrder> list) {
+		return list.stream().map(ShardOrder::getId).collect(Collectors.toList());
+	}
+
+	private static JdbcTemplate jdbcTemplate() {
+		return new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_shard_order")
+	public static class ShardOrder {
+
+		@Id
+		private Long id;
+
+		private Integer amount;
+	}
+
+}
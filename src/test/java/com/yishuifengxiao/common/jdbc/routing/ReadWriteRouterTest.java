@@ -0,0 +1,117 @@
+package com.yishuifengxiao.common.jdbc.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.UUID;
+
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yishuifengxiao.common.jdbc.SimpleJdbcHelper;
+import com.yishuifengxiao.common.jdbc.cache.impl.SimpleEntityCache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 读写分离路由测试，主库与从库中同一个主键对应的数据不同，通过读取到的数据判断语句路由到了哪个库
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class ReadWriteRouterTest {
+
+	private DataSource primaryDataSource;
+
+	private SimpleJdbcHelper jdbcHelper;
+
+	@BeforeEach
+	public void setUp() {
+		primaryDataSource = dataSource();
+		JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+		JdbcTemplate replica = new JdbcTemplate(dataSource());
+		for (JdbcTemplate jdbcTemplate : new JdbcTemplate[] { primary, replica }) {
+			jdbcTemplate.execute("create table t_route_item (id bigint primary key, name varchar(64))");
+		}
+		primary.update("insert into t_route_item (id, name) values (1, 'primary')");
+		replica.update("insert into t_route_item (id, name) values (1, 'replica')");
+
+		jdbcHelper = new SimpleJdbcHelper();
+		jdbcHelper.setJdbcTemplate(primary);
+		jdbcHelper.setReadWriteRouter(new ReadWriteRouter(replica, Duration.ofMillis(300L)));
+	}
+
+	@Test
+	public void readsFromReplica() {
+		assertEquals("replica", jdbcHelper.findByPrimaryKey(RouteItem.class, 1L).getName());
+		assertEquals("replica", jdbcHelper.findAll(RouteItem.class, new ArrayList<>()).get(0).getName());
+	}
+
+	@Test
+	public void pinsReadsToPrimaryAfterWrite() throws InterruptedException {
+		jdbcHelper.insert(new RouteItem(2L, "written"));
+
+		// 读己之写窗口内读取主库，能够读取到刚写入的数据
+		assertEquals("primary", jdbcHelper.findByPrimaryKey(RouteItem.class, 1L).getName());
+		assertNotNull(jdbcHelper.findByPrimaryKey(RouteItem.class, 2L));
+
+		Thread.sleep(400L);
+		assertEquals("replica", jdbcHelper.findByPrimaryKey(RouteItem.class, 1L).getName());
+	}
+
+	@Test
+	public void readsFromPrimaryInTransaction() {
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				new DataSourceTransactionManager(primaryDataSource));
+		String name = transactionTemplate
+				.execute(status -> jdbcHelper.findByPrimaryKey(RouteItem.class, 1L).getName());
+		assertEquals("primary", name);
+	}
+
+	@Test
+	public void loadsCacheMissesFromPrimary() {
+		jdbcHelper.setEntityCache(new SimpleEntityCache(Duration.ofMinutes(1L), 100L,
+				Collections.singletonList(RouteItem.class.getName())));
+
+		assertEquals("primary", jdbcHelper.findByPrimaryKey(RouteItem.class, 1L).getName());
+		assertEquals("primary",
+				jdbcHelper.findByPrimaryKeys(RouteItem.class, Collections.singletonList(1L)).get(0).getName());
+		// 缓存命中时不再查询
+		assertEquals("primary", jdbcHelper.findByPrimaryKey(RouteItem.class, 1L).getName());
+	}
+
+	private static DataSource dataSource() {
+		return new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_route_item")
+	public static class RouteItem implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		@Id
+		private Long id;
+
+		private String name;
+	}
+
+}
@@ -0,0 +1,155 @@
+package com.yishuifengxiao.common.jdbc.sql.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.yishuifengxiao.common.jdbc.SimpleJdbcHelper;
+import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.SqlData;
+import com.yishuifengxiao.common.jdbc.extractor.SimpleFieldExtractor;
+import com.yishuifengxiao.common.tool.entity.Page;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 超长in条件测试，参数数量超过 {@link SimpleConditionBuilder#MAX_IN_SIZE} 时拆分为多条语句或者展开为多个使用 or 连接的in条件
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SimpleConditionBuilderTest {
+
+	private static final int ROWS = 3000;
+
+	private final SimpleConditionBuilder conditionBuilder = new SimpleConditionBuilder();
+
+	private JdbcTemplate jdbcTemplate;
+
+	private SimpleJdbcHelper jdbcHelper;
+
+	@BeforeEach
+	public void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+		jdbcTemplate.execute("create table t_in_item (id bigint primary key, grp int)");
+		jdbcTemplate.batchUpdate("insert into t_in_item (id, grp) values (?, ?)", LongStream.rangeClosed(1, ROWS)
+				.mapToObj(id -> new Object[] { id, (int) (id % 3) }).collect(Collectors.toList()));
+		jdbcHelper = new SimpleJdbcHelper();
+		jdbcHelper.setJdbcTemplate(jdbcTemplate);
+	}
+
+	@Test
+	public void rendersOversizedInAsOrGroups() {
+		SqlData sqlData = conditionBuilder.build(InItem.class, new SimpleFieldExtractor(), false,
+				Collections.singletonList(Condition.andIn("id", ids(1, 2500))));
+
+		assertEquals(3, StringUtils.countMatches(sqlData.getSqlString(), " in ("));
+		assertEquals(2, StringUtils.countMatches(sqlData.getSqlString(), " or "));
+		// 最后一组补齐到2的整数次幂
+		assertEquals(2 * SimpleConditionBuilder.MAX_IN_SIZE + 512, sqlData.getArgs().size());
+	}
+
+	@Test
+	public void partitionsOnlyAndLinkedConditions() {
+		List<Condition> conditions = new ArrayList<>(
+				Arrays.asList(Condition.andIn("id", ids(1, 2500)), Condition.andEqual("grp", 1)));
+		assertEquals(3, conditionBuilder.partition(conditions).size());
+
+		conditions.add(Condition.orEqual("grp", 2));
+		assertEquals(1, conditionBuilder.partition(conditions).size());
+	}
+
+	@Test
+	public void rejectsConditionsBeyondPlaceholderLimit() {
+		List<Condition> conditions = Collections
+				.singletonList(Condition.andIn("id", ids(1, SimpleConditionBuilder.MAX_PARAMETERS + 1)));
+		assertThrows(IllegalArgumentException.class,
+				() -> conditionBuilder.build(InItem.class, new SimpleFieldExtractor(), false, conditions));
+	}
+
+	@Test
+	public void queriesWithOversizedIn() {
+		// 其中500个主键不存在
+		List<Condition> conditions = Collections.singletonList(Condition.andIn("id", ids(501, ROWS + 500)));
+
+		assertEquals(2500, jdbcHelper.findAll(InItem.class, conditions).size());
+		assertEquals(2500L, jdbcHelper.countAll(InItem.class, conditions.toArray(new Condition[0])).longValue());
+		assertTrue(jdbcHelper.exists(InItem.class, conditions));
+
+		List<InItem> ordered = jdbcHelper.findAll(InItem.class, Order.desc("id"), conditions);
+		assertEquals(ids(ROWS, 501), ordered.stream().map(InItem::getId).collect(Collectors.toList()));
+
+		Page<InItem> page = jdbcHelper.findPage(InItem.class, 10, 2, Order.asc("id"), conditions);
+		assertEquals(2500L, page.getTotal().longValue());
+		assertEquals(511L, page.getData().get(0).getId().longValue());
+
+		assertEquals(Arrays.asList(501L, 502L, 503L), jdbcHelper.findTop(InItem.class, Order.asc("id"), 3,
+				conditions.toArray(new Condition[0])).stream().map(InItem::getId).collect(Collectors.toList()));
+		assertEquals(7L, jdbcHelper
+				.findOne(InItem.class, Condition.andIn("id", ids(1, 2000)), Condition.andEqual("id", 7L)).getId()
+				.longValue());
+		assertEquals(3, jdbcHelper.groupCount(InItem.class, "grp", conditions).size());
+	}
+
+	@Test
+	public void combinesOversizedInWithOr() {
+		List<Condition> conditions = Arrays.asList(Condition.andIn("id", ids(1, 1500)),
+				Condition.orIn("id", ids(2001, 3500)));
+
+		assertEquals(2500, jdbcHelper.findAll(InItem.class, conditions).size());
+	}
+
+	@Test
+	public void deletesWithOversizedIn() {
+		assertEquals(2500, jdbcHelper.delete(InItem.class, Condition.andIn("id", ids(1, 2500))));
+		assertEquals(500L, jdbcTemplate.queryForObject("select count(*) from t_in_item", Long.class).longValue());
+	}
+
+	/**
+	 * 生成一段连续的主键
+	 *
+	 * @param from 起始主键
+	 * @param to   结束主键(包含)，小于起始主键时按照降序排列
+	 * @return 连续的主键
+	 */
+	private static List<Long> ids(long from, long to) {
+		LongStream stream = from <= to ? LongStream.rangeClosed(from, to)
+				: LongStream.rangeClosed(to, from).map(v -> from + to - v);
+		return stream.boxed().collect(Collectors.toList());
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_in_item")
+	public static class InItem {
+
+		@Id
+		private Long id;
+
+		private Integer grp;
+	}
+
+}
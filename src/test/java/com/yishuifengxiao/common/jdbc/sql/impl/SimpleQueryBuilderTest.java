@@ -0,0 +1,129 @@
+package com.yishuifengxiao.common.jdbc.sql.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.yishuifengxiao.common.jdbc.SimpleJdbcHelper;
+import com.yishuifengxiao.common.jdbc.entity.Condition;
+import com.yishuifengxiao.common.jdbc.entity.Order;
+import com.yishuifengxiao.common.jdbc.entity.Slice;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 游标分页测试，逐页读取的结果必须与数据库中一次排序的结果完全一致，排序属性中包含null值和重复值
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class SimpleQueryBuilderTest {
+
+	private static final int PAGE_SIZE = 4;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private SimpleJdbcHelper jdbcHelper;
+
+	@BeforeEach
+	public void setUp() {
+		jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"));
+		jdbcTemplate.execute("create table t_slice_item (id bigint primary key, score int)");
+		jdbcHelper = new SimpleJdbcHelper();
+		jdbcHelper.setJdbcTemplate(jdbcTemplate);
+		for (long id = 1; id <= 25; id++) {
+			// 每5条记录中有一条为null，其余的值重复出现
+			jdbcHelper.insert(new SliceItem(id, id % 5 == 0 ? null : (int) (id % 4)));
+		}
+	}
+
+	@Test
+	public void pagesByPrimaryKey() {
+		assertEquals(jdbcTemplate.queryForList("select id from t_slice_item order by id asc", Long.class),
+				this.readAll(null));
+	}
+
+	@Test
+	public void pagesAscendingWithNulls() {
+		assertEquals(
+				jdbcTemplate.queryForList("select id from t_slice_item order by score asc, id asc", Long.class),
+				this.readAll(Order.asc("score")));
+	}
+
+	@Test
+	public void pagesDescendingWithNulls() {
+		assertEquals(
+				jdbcTemplate.queryForList("select id from t_slice_item order by score desc, id desc", Long.class),
+				this.readAll(Order.desc("score")));
+	}
+
+	@Test
+	public void pagesWithConditions() {
+		List<Long> ids = new ArrayList<>();
+		Object afterKey = null;
+		Slice<SliceItem> slice;
+		do {
+			slice = jdbcHelper.findSlice(SliceItem.class, Order.asc("score"), afterKey, PAGE_SIZE,
+					Condition.andGreater("id", 10L));
+			slice.getData().forEach(v -> ids.add(v.getId()));
+			afterKey = slice.getNextKey();
+		} while (slice.isHasNext());
+		assertEquals(jdbcTemplate.queryForList(
+				"select id from t_slice_item where id > 10 order by score asc, id asc", Long.class), ids);
+	}
+
+	@Test
+	public void rejectsUnknownOrderProperty() {
+		assertThrows(IllegalArgumentException.class,
+				() -> jdbcHelper.findSlice(SliceItem.class, Order.asc("missing"), null, PAGE_SIZE));
+	}
+
+	/**
+	 * 通过游标逐页读取所有的记录
+	 *
+	 * @param order 排序条件
+	 * @return 按照读取顺序排列的所有记录的主键
+	 */
+	private List<Long> readAll(Order order) {
+		List<Long> ids = new ArrayList<>();
+		Object afterKey = null;
+		Slice<SliceItem> slice;
+		int pages = 0;
+		do {
+			slice = jdbcHelper.findSlice(SliceItem.class, order, afterKey, PAGE_SIZE);
+			slice.getData().forEach(v -> ids.add(v.getId()));
+			afterKey = slice.getNextKey();
+			assertFalse(++pages > 25, "游标没有向前移动");
+		} while (slice.isHasNext());
+		return ids;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_slice_item")
+	public static class SliceItem {
+
+		@Id
+		private Long id;
+
+		private Integer score;
+	}
+
+}
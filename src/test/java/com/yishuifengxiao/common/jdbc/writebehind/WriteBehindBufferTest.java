@@ -0,0 +1,194 @@
+package com.yishuifengxiao.common.jdbc.writebehind;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.yishuifengxiao.common.jdbc.SimpleJdbcHelper;
+import com.yishuifengxiao.common.jdbc.executor.impl.MonitoringExecuteExecutor;
+import com.yishuifengxiao.common.jdbc.executor.impl.SimpleExecuteExecutor;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 延迟写入缓冲区测试，通过语句执行情况记录器记录事务提交时实际执行的语句及其顺序
+ *
+ * @author yishui
+ * @version 1.0.0
+ * @since 1.0.0
+ */
+public class WriteBehindBufferTest {
+
+	/**
+	 * 按照执行顺序记录的语句，格式为 操作类型:表名:记录数量
+	 */
+	private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+	private JdbcTemplate jdbcTemplate;
+
+	private TransactionTemplate transactionTemplate;
+
+	private SimpleJdbcHelper jdbcHelper;
+
+	@BeforeEach
+	public void setUp() {
+		DataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table t_wb_item (id bigint primary key, name varchar(64) default 'unnamed', "
+				+ "score int default 10)");
+		jdbcTemplate.execute("create table t_wb_parent (id bigint primary key, name varchar(64))");
+		jdbcTemplate.execute("create table t_wb_child (id bigint primary key, parentId bigint, "
+				+ "foreign key (parentId) references t_wb_parent (id))");
+		transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+		jdbcHelper = new SimpleJdbcHelper();
+		jdbcHelper.setJdbcTemplate(jdbcTemplate);
+		jdbcHelper.setWriteBehind(true);
+		jdbcHelper.setExecuteExecutor(new MonitoringExecuteExecutor(new SimpleExecuteExecutor(),
+				(table, operation, elapsed, rows, success) -> statements.add(operation + ":" + table + ":" + rows),
+				null, 1D));
+	}
+
+	@Test
+	public void coalescesUpdatesIntoInsert() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcHelper.insertSelective(new WbItem(1L, "a", 5));
+			jdbcHelper.updateByPrimaryKeySelective(new WbItem(1L, null, 6));
+			jdbcHelper.updateByPrimaryKeySelective(new WbItem(1L, "b", null));
+			assertEquals(0, statements.size(), "提交之前不应执行任何语句");
+		});
+
+		assertEquals(Collections.singletonList("batchExecute:t_wb_item:1"), statements);
+		assertEquals(row(1L, "b", 6), item(1L));
+	}
+
+	@Test
+	public void keepsExplicitNullFromFullUpdate() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcHelper.insertSelective(new WbItem(1L, "a", 5));
+			jdbcHelper.updateByPrimaryKey(new WbItem(1L, null, 7));
+		});
+
+		// 合并后按照全量方式插入，显式设置为null的属性不能被数据库的默认值覆盖
+		assertEquals(Collections.singletonList("batchExecute:t_wb_item:1"), statements);
+		assertEquals(row(1L, null, 7), item(1L));
+	}
+
+	@Test
+	public void batchesConsecutiveOperations() {
+		transactionTemplate.executeWithoutResult(status -> {
+			for (long id = 1; id <= 3; id++) {
+				jdbcHelper.insert(new WbItem(id, "item" + id, (int) id));
+			}
+		});
+
+		assertEquals(Collections.singletonList("batchExecute:t_wb_item:3"), statements);
+	}
+
+	@Test
+	public void flushesInOperationOrder() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcHelper.insert(new WbParent(1L, "p"));
+			jdbcHelper.insert(new WbChild(1L, 1L));
+			// 之后存在其他POJO类的操作，不能合并到之前的插入中
+			jdbcHelper.updateByPrimaryKey(new WbParent(1L, "q"));
+		});
+
+		assertEquals(Arrays.asList("batchExecute:t_wb_parent:1", "batchExecute:t_wb_child:1",
+				"batchExecute:t_wb_parent:1"), statements);
+		assertEquals("q", jdbcTemplate.queryForObject("select name from t_wb_parent where id = 1", String.class));
+	}
+
+	@Test
+	public void readsDatabaseDefaultsAfterSelectiveInsert() {
+		WbItem item = transactionTemplate.execute(status -> {
+			jdbcHelper.insertSelective(new WbItem(1L, "a", null));
+			return jdbcHelper.findByPrimaryKey(WbItem.class, 1L);
+		});
+
+		assertEquals(new WbItem(1L, "a", 10), item);
+		assertEquals("batchExecute:t_wb_item:1", statements.get(0));
+	}
+
+	@Test
+	public void discardsOperationsOnRollback() {
+		transactionTemplate.executeWithoutResult(status -> {
+			jdbcHelper.insert(new WbItem(1L, "a", 5));
+			status.setRollbackOnly();
+		});
+
+		assertEquals(0, statements.size());
+		assertEquals(0L, jdbcTemplate.queryForObject("select count(*) from t_wb_item", Long.class).longValue());
+	}
+
+	private Map<String, Object> item(Long id) {
+		return jdbcTemplate.queryForMap("select id, name, score from t_wb_item where id = ?", id);
+	}
+
+	private static Map<String, Object> row(Long id, String name, Integer score) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		row.put("id", id);
+		row.put("name", name);
+		row.put("score", score);
+		return row;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_wb_item")
+	public static class WbItem {
+
+		@Id
+		private Long id;
+
+		private String name;
+
+		private Integer score;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_wb_parent")
+	public static class WbParent {
+
+		@Id
+		private Long id;
+
+		private String name;
+	}
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Table(name = "t_wb_child")
+	public static class WbChild {
+
+		@Id
+		private Long id;
+
+		private Long parentId;
+	}
+
+}